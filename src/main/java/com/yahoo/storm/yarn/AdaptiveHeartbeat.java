@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Map;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Picks the AM heartbeat interval from the outstanding container demand.
+ * While there is work in flight the AM polls at the minimum interval;
+ * once the cluster is steady the interval doubles on every heartbeat
+ * until it reaches the configured ceiling.
+ */
+class AdaptiveHeartbeat {
+    private final int _minIntervalMs;
+    private final int _maxIntervalMs;
+    private int _intervalMs;
+
+    AdaptiveHeartbeat(int minIntervalMs, int maxIntervalMs, int initialIntervalMs) {
+        if (minIntervalMs <= 0 || maxIntervalMs < minIntervalMs) {
+            throw new IllegalArgumentException("invalid heartbeat interval range ["
+                    + minIntervalMs + ", " + maxIntervalMs + "]");
+        }
+        _minIntervalMs = minIntervalMs;
+        _maxIntervalMs = maxIntervalMs;
+        _intervalMs = Math.max(minIntervalMs, Math.min(maxIntervalMs, initialIntervalMs));
+    }
+
+    /**
+     * @return the adaptive policy configured in storm_conf, or null if the
+     * AM should heartbeat at the fixed MASTER_HEARTBEAT_INTERVAL_MILLIS.
+     */
+    static AdaptiveHeartbeat fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+        Object adaptive = storm_conf.get(Config.MASTER_HEARTBEAT_ADAPTIVE);
+        if (adaptive == null || !Boolean.parseBoolean(adaptive.toString())) {
+            return null;
+        }
+        return new AdaptiveHeartbeat(
+                Utils.getInt(storm_conf.get(Config.MASTER_HEARTBEAT_MIN_INTERVAL_MILLIS)),
+                Utils.getInt(storm_conf.get(Config.MASTER_HEARTBEAT_MAX_INTERVAL_MILLIS)),
+                Utils.getInt(storm_conf.get(Config.MASTER_HEARTBEAT_INTERVAL_MILLIS)));
+    }
+
+    /**
+     * @param busy whether there are unsatisfied container requests or
+     * launches still waiting to be started.
+     * @return the interval to use before the next heartbeat.
+     */
+    synchronized int nextInterval(boolean busy) {
+        if (busy) {
+            _intervalMs = _minIntervalMs;
+        } else {
+            _intervalMs = (int) Math.min((long) _intervalMs * 2, _maxIntervalMs);
+        }
+        return _intervalMs;
+    }
+
+    synchronized int currentInterval() {
+        return _intervalMs;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Map;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+/**
+ * Hands out the clients StormMasterCommands talk to the Storm master
+ * through.  A one-shot client closes its connections after every command;
+ * the client daemon keeps them in its {@link MasterClientPool} across
+ * commands.
+ */
+class AppConnections {
+    private final boolean _keep;
+    private MasterClientPool _pool;
+
+    private AppConnections(boolean keep) {
+        _keep = keep;
+    }
+
+    /**
+     * @return connections that are closed after every command
+     */
+    static AppConnections perCommand() {
+        return new AppConnections(false);
+    }
+
+    /**
+     * @return connections that stay open until they fail or are closed
+     */
+    static AppConnections kept() {
+        return new AppConnections(true);
+    }
+
+    synchronized StormMaster.Iface attach(String appId, @SuppressWarnings("rawtypes") Map stormConf) {
+        if (_pool == null) {
+            _pool = new MasterClientPool(stormConf);
+        }
+        return _pool.get(appId, stormConf);
+    }
+
+    synchronized void release(String appId) {
+        if (!_keep && _pool != null) {
+            _pool.close(appId);
+        }
+    }
+
+    synchronized void closeAll() {
+        if (_pool != null) {
+            _pool.closeAll();
+        }
+    }
+}
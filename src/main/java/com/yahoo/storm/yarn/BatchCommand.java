@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.json.simple.JSONValue;
+
+import com.yahoo.storm.yarn.Client.ClientCommand;
+import com.yahoo.storm.yarn.generated.CommandResult;
+import com.yahoo.storm.yarn.generated.MasterCommand;
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+/**
+ * Sends a script of commands to the Storm master as one executeBatch call.
+ * Every line holds a command and its arguments, as on the command line:
+ * <pre>
+ * # comments and empty lines are ignored
+ * stopUI
+ * addSupervisors 20 [profile]
+ * setSupervisors 10 [profile]
+ * setStormConfig [storm-yarn-config]
+ * </pre>
+ */
+class BatchCommand implements ClientCommand {
+    // script commands taking no argument, and the StormMaster methods they run
+    private static final Map<String, String> SIMPLE_COMMANDS = new HashMap<String, String>();
+    static {
+        SIMPLE_COMMANDS.put("getStormConfig", "getStormConf");
+        SIMPLE_COMMANDS.put("startNimbus", "startNimbus");
+        SIMPLE_COMMANDS.put("stopNimbus", "stopNimbus");
+        SIMPLE_COMMANDS.put("startUI", "startUI");
+        SIMPLE_COMMANDS.put("stopUI", "stopUI");
+        SIMPLE_COMMANDS.put("startSupervisors", "startSupervisors");
+        SIMPLE_COMMANDS.put("stopSupervisors", "stopSupervisors");
+    }
+
+    private final AppConnections _connections;
+
+    BatchCommand(AppConnections connections) {
+        _connections = connections;
+    }
+
+    @Override
+    public Options getOpts() {
+        Options opts = new Options();
+        opts.addOption("appId", true, "(Required) The storm clusters app ID");
+        return opts;
+    }
+
+    @Override
+    public String getHeaderDescription() {
+        return "storm-yarn batch <script> -appId <Application-ID>";
+    }
+
+    @Override
+    public void process(CommandLine cl, PrintStream out) throws Exception {
+        String appId = cl.getOptionValue("appId");
+        if (appId == null) {
+            throw new IllegalArgumentException("-appId is required");
+        }
+        List<?> remaining_args = cl.getArgList();
+        if (remaining_args == null || remaining_args.isEmpty()) {
+            throw new IllegalArgumentException("a script of commands is required");
+        }
+        List<MasterCommand> commands = readScript((String) remaining_args.get(0));
+
+        StormMaster.Iface client = _connections.attach(appId, Config.readStormConfig(null));
+        List<CommandResult> results;
+        try {
+            results = client.executeBatch(commands);
+        } finally {
+            _connections.release(appId);
+        }
+
+        int failures = 0;
+        out.println(String.format("%-20s %-7s %8s %s", "COMMAND", "RESULT", "MILLIS", "MESSAGE"));
+        for (CommandResult result : results) {
+            String outcome = result.is_ok() ? "OK" : "skipped".equals(result.get_message()) ? "SKIPPED" : "FAILED";
+            out.println(String.format("%-20s %-7s %8d %s", result.get_command(), outcome,
+                    result.get_millis(), result.get_message()));
+            if (!result.is_ok()) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new RuntimeException(failures + " of " + results.size() + " commands did not run");
+        }
+    }
+
+    static List<MasterCommand> readScript(String path) throws IOException {
+        List<MasterCommand> commands = new ArrayList<MasterCommand>();
+        BufferedReader in = new BufferedReader(new FileReader(path));
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.length() == 0 || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    commands.add(parse(line.split("\\s+")));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(path + ":" + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            in.close();
+        }
+        return commands;
+    }
+
+    static MasterCommand parse(String[] words) {
+        MasterCommand command = new MasterCommand();
+        command.set_profile("");
+        command.set_storm_conf("");
+        String name = words[0];
+        if (SIMPLE_COMMANDS.containsKey(name)) {
+            checkArgs(words, 0, 0);
+            command.set_command(SIMPLE_COMMANDS.get(name));
+        } else if ("addSupervisors".equals(name) || "setSupervisors".equals(name)) {
+            checkArgs(words, 1, 2);
+            command.set_command("addSupervisors".equals(name) ? "addSupervisors" : "setSupervisorCount");
+            command.set_number(Integer.parseInt(words[1]));
+            if (words.length > 2) {
+                command.set_profile(words[2]);
+            }
+        } else if ("setStormConfig".equals(name)) {
+            checkArgs(words, 0, 1);
+            command.set_command("setStormConf");
+            command.set_storm_conf(JSONValue.toJSONString(
+                    Config.readStormConfig(words.length > 1 ? words[1] : null)));
+        } else {
+            throw new IllegalArgumentException(name + " cannot run in a batch");
+        }
+        return command;
+    }
+
+    private static void checkArgs(String[] words, int min, int max) {
+        int args = words.length - 1;
+        if (args < min || args > max) {
+            throw new IllegalArgumentException(words[0] + " takes " + (min == max ? "" + min : min + " to " + max)
+                    + " arguments");
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.yahoo.storm.yarn;
 
+import java.io.PrintStream;
+import java.io.PrintWriter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -47,10 +49,10 @@ public class Client {
         /**
          * Do the processing
          * @param cl the arguments to process
-         * @param stormConf the storm configuration to use
+         * @param out where the command prints its output
          * @throws Exception on any error
          */
-        public void process(CommandLine cl) throws Exception;
+        public void process(CommandLine cl, PrintStream out) throws Exception;
     }
 
     public static class HelpCommand implements ClientCommand {
@@ -71,49 +73,79 @@ public class Client {
         
         @SuppressWarnings("unchecked")
         @Override
-        public void process(CommandLine cl) throws Exception {
-            printHelpFor(cl.getArgList());
+        public void process(CommandLine cl, PrintStream out) throws Exception {
+            printHelpFor(cl.getArgList(), out);
         }
 
-        public void printHelpFor(Collection<String> args) {
+        public void printHelpFor(Collection<String> args, PrintStream out) {
             if(args == null || args.size() < 1) {
                 args = _commands.keySet();
             }
             HelpFormatter f = new HelpFormatter();
+            PrintWriter writer = new PrintWriter(out);
             for(String command: args) {
                 ClientCommand c = _commands.get(command);
                 if (c != null) {
                     //TODO Show any arguments to the commands.
-                    f.printHelp(command,  c.getHeaderDescription(), c.getOpts(), null);
+                    f.printHelp(writer, f.getWidth(), command, c.getHeaderDescription(), c.getOpts(),
+                            f.getLeftPadding(), f.getDescPadding(), null);
                 } else {
-                    System.err.println("ERROR: " + c + " is not a supported command.");
+                    writer.println("ERROR: " + c + " is not a supported command.");
                     //TODO make this exit with an error at some point
                 }
             }
+            writer.flush();
         }
     }
     
+    private final AppConnections _connections;
+
+    public Client() {
+        this(AppConnections.perCommand());
+    }
+
+    Client(AppConnections connections) {
+        _connections = connections;
+    }
+
+    /**
+     * @param args the command line arguments
+     * @return the exit code of the command
+     * @throws Exception  
+     */    
+    public int execute(String[] args) throws Exception {
+        return execute(args, System.out);
+    }
+
     /**
      * @param args the command line arguments
+     * @param out where the command prints its output
+     * @return the exit code of the command
      * @throws Exception  
      */    
     @SuppressWarnings("rawtypes")
-    public void execute(String[] args) throws Exception {
+    public int execute(String[] args, PrintStream out) throws Exception {
         HashMap<String, ClientCommand> commands = new HashMap<String, ClientCommand>();
         HelpCommand help = new HelpCommand(commands);
         commands.put("help", help);
         commands.put("launch", new LaunchCommand());
-        commands.put("setStormConfig", new StormMasterCommand(StormMasterCommand.COMMAND.SET_STORM_CONFIG));
-        commands.put("getStormConfig", new StormMasterCommand(StormMasterCommand.COMMAND.GET_STORM_CONFIG));
-        commands.put("addSupervisors", new StormMasterCommand(StormMasterCommand.COMMAND.ADD_SUPERVISORS));
-        commands.put("startNimbus", new StormMasterCommand(StormMasterCommand.COMMAND.START_NIMBUS));
-        commands.put("stopNimbus", new StormMasterCommand(StormMasterCommand.COMMAND.STOP_NIMBUS));
-        commands.put("startUI", new StormMasterCommand(StormMasterCommand.COMMAND.START_UI));
-        commands.put("stopUI", new StormMasterCommand(StormMasterCommand.COMMAND.STOP_UI));
-        commands.put("startSupervisors", new StormMasterCommand(StormMasterCommand.COMMAND.START_SUPERVISORS));
-        commands.put("stopSupervisors", new StormMasterCommand(StormMasterCommand.COMMAND.STOP_SUPERVISORS));
-        commands.put("shutdown", new StormMasterCommand(StormMasterCommand.COMMAND.SHUTDOWN));
+        commands.put("setStormConfig", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.SET_STORM_CONFIG));
+        commands.put("getStormConfig", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.GET_STORM_CONFIG));
+        commands.put("addSupervisors", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.ADD_SUPERVISORS));
+        commands.put("setSupervisors", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.SET_SUPERVISORS));
+        commands.put("getNodeHealth", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.GET_NODE_HEALTH));
+        commands.put("watchEvents", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.WATCH_EVENTS));
+        commands.put("status", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.STATUS));
+        commands.put("startNimbus", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.START_NIMBUS));
+        commands.put("stopNimbus", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.STOP_NIMBUS));
+        commands.put("startUI", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.START_UI));
+        commands.put("stopUI", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.STOP_UI));
+        commands.put("startSupervisors", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.START_SUPERVISORS));
+        commands.put("stopSupervisors", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.STOP_SUPERVISORS));
+        commands.put("shutdown", new StormMasterCommand(_connections, StormMasterCommand.COMMAND.SHUTDOWN));
+        commands.put("batch", new BatchCommand(_connections));
         commands.put("version", new VersionCommand());
+        commands.put("daemon", new ClientDaemon());
         
         String commandName = null;
         String[] commandArgs = null;
@@ -127,8 +159,8 @@ public class Client {
         ClientCommand command = commands.get(commandName);
         if(command == null) {
             LOG.error("ERROR: " + commandName + " is not a supported command.");
-            help.printHelpFor(null);
-            System.exit(1);
+            help.printHelpFor(null, out);
+            return 1;
         }
         Options opts = command.getOpts();
         if(!opts.hasOption("h")) {
@@ -136,15 +168,19 @@ public class Client {
         }
         CommandLine cl = new GnuParser().parse(command.getOpts(), commandArgs);
         if(cl.hasOption("help")) {
-            help.printHelpFor(Arrays.asList(commandName));
+            help.printHelpFor(Arrays.asList(commandName), out);
         } else {
            
-            command.process(cl);
+            command.process(cl, out);
         }
+        return 0;
     }
 
     public static void main(String[] args) throws Exception {
         Client client = new Client();
-        client.execute(args);
+        int exitCode = client.execute(args);
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
     } 
 }
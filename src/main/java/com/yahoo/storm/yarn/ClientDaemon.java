@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yahoo.storm.yarn.Client.ClientCommand;
+
+/**
+ * Runs storm-yarn commands on behalf of bin/storm-yarn, so that a command
+ * costs neither a JVM start nor attaching to the application again.
+ *
+ * The daemon listens on the loopback interface only and writes its port
+ * and a random secret to ~/.storm-yarn/daemon, in a directory accessible
+ * by its owner only.  A request is the secret followed by the command's
+ * arguments, one per line, and an empty line.  The response is everything
+ * the command prints followed by a line with {@link #EXIT_MARKER} and the
+ * exit code.  Every request runs on its own thread and prints to its own
+ * stream, so requests neither wait for nor see each other.
+ */
+class ClientDaemon implements ClientCommand {
+    private static final Logger LOG = LoggerFactory.getLogger(ClientDaemon.class);
+    static final int DEFAULT_PORT = 9299;
+    static final String EXIT_MARKER = "__STORM_YARN_EXIT__";
+    // a requester has this long to send its request
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+
+    @Override
+    public Options getOpts() {
+        Options opts = new Options();
+        opts.addOption("port", true, "Local port to listen on, " + DEFAULT_PORT + " by default");
+        return opts;
+    }
+
+    @Override
+    public String getHeaderDescription() {
+        return "storm-yarn daemon";
+    }
+
+    static File getDaemonFile() {
+        return new File(System.getProperty("user.home"), ".storm-yarn" + File.separator + "daemon");
+    }
+
+    @Override
+    public void process(CommandLine cl, PrintStream out) throws Exception {
+        int port = Integer.parseInt(cl.getOptionValue("port", String.valueOf(DEFAULT_PORT)));
+        final ServerSocket server = new ServerSocket(port, 50, InetAddress.getByName("127.0.0.1"));
+        final String secret = UUID.randomUUID().toString();
+        final File daemonFile = getDaemonFile();
+        writeDaemonFile(daemonFile, server.getLocalPort(), secret);
+
+        final AppConnections connections = AppConnections.kept();
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                daemonFile.delete();
+                connections.closeAll();
+            }
+        });
+        LOG.info("storm-yarn daemon listening on port " + server.getLocalPort());
+        serve(server, new Client(connections), secret);
+    }
+
+    /**
+     * Serves requests, each on a thread of its own, until the server socket
+     * is closed.
+     */
+    static void serve(ServerSocket server, final Client client, final String secret) throws IOException {
+        ExecutorService pool = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger _count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "storm-yarn-daemon-request-" + _count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        try {
+            while (true) {
+                final Socket socket = server.accept();
+                pool.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            serve(client, socket, secret);
+                        } catch (IOException e) {
+                            LOG.warn("Failed to serve a request", e);
+                        } finally {
+                            try {
+                                socket.close();
+                            } catch (IOException e) {
+                                LOG.debug("Failed to close a request's socket", e);
+                            }
+                        }
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Writes the port and the secret only once the directory holding them is
+     * accessible by its owner only, so that nobody else can open the file
+     * while, or after, it is written.  The file itself is written under a
+     * temporary name and renamed, so a reader never sees it half written.
+     */
+    private static void writeDaemonFile(File daemonFile, int port, String secret) throws IOException {
+        File dir = daemonFile.getParentFile();
+        dir.mkdirs();
+        if (!restrictToOwner(dir) || !dir.isDirectory()) {
+            throw new IOException("Unable to make " + dir + " accessible by its owner only");
+        }
+        File tmp = new File(dir, daemonFile.getName() + ".tmp");
+        tmp.delete();
+        if (!tmp.createNewFile() || !restrictToOwner(tmp)) {
+            throw new IOException("Unable to create " + tmp + " readable by its owner only");
+        }
+        OutputStream out = new FileOutputStream(tmp);
+        try {
+            out.write((port + " " + secret + "\n").getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(daemonFile)) {
+            tmp.delete();
+            throw new IOException("Unable to rename " + tmp + " to " + daemonFile);
+        }
+    }
+
+    /**
+     * @return whether the file is now readable, writable and, if it is a
+     * directory, searchable by its owner only
+     */
+    private static boolean restrictToOwner(File file) {
+        boolean dir = file.isDirectory();
+        return file.setReadable(false, false) && file.setWritable(false, false)
+                && file.setExecutable(false, false)
+                && file.setReadable(true, true) && file.setWritable(true, true)
+                && (!dir || file.setExecutable(true, true));
+    }
+
+    /**
+     * Runs one request, printing everything the command prints to the
+     * requester's socket.
+     */
+    private static void serve(Client client, Socket socket, String secret) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+        PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF-8");
+        String given = in.readLine();
+        // compared in constant time, so the time taken tells nothing about it
+        if (given == null || !MessageDigest.isEqual(secret.getBytes("UTF-8"), given.getBytes("UTF-8"))) {
+            LOG.warn("Rejecting a request without the daemon's secret");
+            out.println(EXIT_MARKER + " 1");
+            return;
+        }
+        List<String> args = new ArrayList<String>();
+        String line;
+        while ((line = in.readLine()) != null && !line.isEmpty()) {
+            args.add(line);
+        }
+        socket.setSoTimeout(0);
+        LOG.info("Running " + args);
+        int exitCode;
+        try {
+            if (!args.isEmpty() && args.get(0).equals("daemon")) {
+                out.println("ERROR: the daemon is already running");
+                exitCode = 1;
+            } else {
+                exitCode = client.execute(args.toArray(new String[args.size()]), out);
+            }
+        } catch (Exception e) {
+            e.printStackTrace(out);
+            exitCode = 1;
+        }
+        out.println(EXIT_MARKER + " " + exitCode);
+    }
+}
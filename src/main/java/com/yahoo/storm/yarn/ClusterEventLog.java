@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import backtype.storm.utils.Utils;
+
+import com.yahoo.storm.yarn.generated.ClusterEvent;
+import com.yahoo.storm.yarn.generated.ClusterEvents;
+
+/**
+ * The latest events of the cluster, numbered from 1 in the order they
+ * happened, in a ring buffer of master.events.capacity entries.  Watchers
+ * block in {@link #since(long, long)} until there are events they have not
+ * seen yet.  A waiting watcher holds a thrift worker, so at most
+ * master.events.max.watchers wait at a time, no more than a quarter of the
+ * workers; the others are answered at once.  With the "nonblocking" server
+ * nobody waits, as a watcher would hold up the only thread serving calls.
+ */
+class ClusterEventLog {
+    static final String CONTAINER_ALLOCATED = "CONTAINER_ALLOCATED";
+    static final String CONTAINER_RELEASED = "CONTAINER_RELEASED";
+    static final String CONTAINER_COMPLETED = "CONTAINER_COMPLETED";
+    static final String SUPERVISOR_LAUNCHED = "SUPERVISOR_LAUNCHED";
+    static final String SUPERVISOR_LAUNCH_FAILED = "SUPERVISOR_LAUNCH_FAILED";
+    static final String SUPERVISORS_WANTED = "SUPERVISORS_WANTED";
+    // nimbus, ui or supervisors
+    static final String DAEMON_STARTED = "DAEMON_STARTED";
+    static final String DAEMON_STOPPED = "DAEMON_STOPPED";
+    static final String DAEMON_EXITED = "DAEMON_EXITED";
+    static final String CONF_CHANGED = "CONF_CHANGED";
+
+    private final ClusterEvent[] _ring;
+    private final long _maxWaitMillis;
+    private final int _maxWatchers;
+    // the number of the newest event
+    private long _lastSeq = 0;
+    // the number of watchers waiting for events
+    private int _watchers = 0;
+
+    ClusterEventLog(int capacity, long maxWaitMillis, int maxWatchers) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid event capacity " + capacity);
+        }
+        _ring = new ClusterEvent[capacity];
+        _maxWaitMillis = maxWaitMillis;
+        _maxWatchers = maxWatchers;
+    }
+
+    static ClusterEventLog fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+        long maxWaitMillis = Utils.getInt(storm_conf.get(Config.MASTER_EVENTS_MAX_WAIT_MILLIS));
+        int maxWatchers = Utils.getInt(storm_conf.get(Config.MASTER_EVENTS_MAX_WATCHERS));
+        if ("nonblocking".equals(storm_conf.get(Config.MASTER_THRIFT_SERVER))) {
+            maxWaitMillis = 0;
+        } else {
+            maxWatchers = Math.min(maxWatchers, MasterTransportPlugin.workerThreads(storm_conf) / 4);
+        }
+        return new ClusterEventLog(
+                Utils.getInt(storm_conf.get(Config.MASTER_EVENTS_CAPACITY)), maxWaitMillis, maxWatchers);
+    }
+
+    void record(String type, String message) {
+        record(type, null, null, 0, message);
+    }
+
+    synchronized void record(String type, Object containerId, String host, int exitStatus,
+            String message) {
+        ClusterEvent event = new ClusterEvent();
+        event.set_seq(++_lastSeq);
+        event.set_timestamp_ms(System.currentTimeMillis());
+        event.set_type(type);
+        event.set_container_id(containerId == null ? "" : containerId.toString());
+        event.set_host(host == null ? "" : host);
+        event.set_exit_status(exitStatus);
+        event.set_message(message == null ? "" : message);
+        _ring[(int) (_lastSeq % _ring.length)] = event;
+        notifyAll();
+    }
+
+    /**
+     * @return the number of the newest event, 0 before the first one
+     */
+    synchronized long lastSeq() {
+        return _lastSeq;
+    }
+
+    synchronized int watchers() {
+        return _watchers;
+    }
+
+    /**
+     * @param seq the number of the last event seen, or a negative number to
+     * only learn where the events start from now
+     * @param timeoutMillis how long to wait for an event, at most
+     * master.events.max.wait.millis, and not at all if too many watchers
+     * are waiting already
+     * @return the events after seq that are still buffered
+     */
+    synchronized ClusterEvents since(long seq, long timeoutMillis) throws InterruptedException {
+        ClusterEvents ret = new ClusterEvents();
+        List<ClusterEvent> events = new ArrayList<ClusterEvent>();
+        ret.set_events(events);
+        if (seq < 0) {
+            ret.set_next_seq(_lastSeq);
+            return ret;
+        }
+        long deadline = System.currentTimeMillis() + Math.min(timeoutMillis, _maxWaitMillis);
+        if (_lastSeq == seq && deadline > System.currentTimeMillis() && _watchers < _maxWatchers) {
+            _watchers++;
+            try {
+                while (_lastSeq == seq) {
+                    long left = deadline - System.currentTimeMillis();
+                    if (left <= 0) {
+                        break;
+                    }
+                    wait(left);
+                }
+            } finally {
+                _watchers--;
+            }
+        }
+        long oldest = Math.max(1, _lastSeq - _ring.length + 1);
+        // a seq from before a restart of the master starts over
+        long from = seq > _lastSeq ? oldest : Math.max(seq + 1, oldest);
+        ret.set_truncated(seq > _lastSeq || seq + 1 < oldest);
+        for (long s = from; s <= _lastSeq; s++) {
+            events.add(_ring[(int) (s % _ring.length)]);
+        }
+        ret.set_next_seq(_lastSeq);
+        return ret;
+    }
+}
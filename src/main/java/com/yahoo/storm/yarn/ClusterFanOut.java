@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift7.TException;
+import org.apache.thrift7.async.AsyncMethodCallback;
+import org.apache.thrift7.async.TAsyncClientManager;
+import org.apache.thrift7.transport.TNonblockingSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+/**
+ * Runs one StormMaster call against many Storm clusters at once.  The
+ * masters are looked up through the RM on a bounded pool, and the calls
+ * themselves go out through {@link StormMaster.AsyncClient}s sharing one
+ * selector thread, with at most <code>parallelism</code> clusters in flight.
+ * The masters serve framed transport, which the async clients speak.
+ */
+class ClusterFanOut {
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterFanOut.class);
+
+    /**
+     * Starts the call on the master of one cluster.  Implementations
+     * complete the call through a {@link Reply}.
+     */
+    interface Operation {
+        void start(String appId, StormMaster.AsyncClient client, Completion done) throws TException;
+    }
+
+    /**
+     * Hands the reply of a typed async call to the {@link Completion} of
+     * its cluster.
+     */
+    abstract static class Reply<C> implements AsyncMethodCallback<C> {
+        private final Completion _done;
+
+        Reply(Completion done) {
+            _done = done;
+        }
+
+        /**
+         * @return a short description of the result of the call
+         */
+        abstract String result(C call) throws Exception;
+
+        @Override
+        public void onComplete(C call) {
+            String detail;
+            try {
+                detail = result(call);
+            } catch (Exception e) {
+                _done.failed(e);
+                return;
+            }
+            _done.succeeded(detail);
+        }
+
+        @Override
+        public void onError(Exception e) {
+            _done.failed(e);
+        }
+    }
+
+    /**
+     * The outcome of the call on one cluster.
+     */
+    static class Result {
+        final String appId;
+        private boolean _ok;
+        private String _detail = "not run";
+        private long _millis;
+        private boolean _set = false;
+
+        Result(String appId) {
+            this.appId = appId;
+        }
+
+        synchronized boolean isOk() {
+            return _ok;
+        }
+
+        synchronized String getDetail() {
+            return _detail;
+        }
+
+        synchronized long getMillis() {
+            return _millis;
+        }
+
+        /**
+         * Records the outcome, unless there already is one.
+         */
+        synchronized void set(boolean ok, String detail, long millis) {
+            if (_set) {
+                return;
+            }
+            _set = true;
+            _ok = ok;
+            _detail = detail;
+            _millis = millis;
+        }
+    }
+
+    /**
+     * Completes the call on one cluster exactly once, freeing its slot.
+     * The slots and the latch belong to one run, so that a call completing
+     * after its run gave up does not count towards the next one.
+     */
+    static class Completion {
+        private final Result _result;
+        private final Semaphore _slots;
+        private final CountDownLatch _finished;
+        private final long _start = System.currentTimeMillis();
+        private TNonblockingSocket _socket;
+        private boolean _done = false;
+
+        Completion(Result result, Semaphore slots, CountDownLatch finished) {
+            _result = result;
+            _slots = slots;
+            _finished = finished;
+        }
+
+        void succeeded(String detail) {
+            complete(true, detail);
+        }
+
+        void failed(Exception e) {
+            LOG.debug("Call on " + _result.appId + " failed", e);
+            complete(false, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+
+        private void complete(boolean ok, String detail) {
+            synchronized (this) {
+                if (_done) {
+                    return;
+                }
+                _done = true;
+                if (_socket != null) {
+                    _socket.close();
+                }
+            }
+            _result.set(ok, detail, System.currentTimeMillis() - _start);
+            _slots.release();
+            _finished.countDown();
+        }
+
+        synchronized void setSocket(TNonblockingSocket socket) {
+            _socket = socket;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private final Map _stormConf;
+    private final int _parallelism;
+    private final int _timeoutMillis;
+
+    ClusterFanOut(@SuppressWarnings("rawtypes") Map stormConf, int parallelism, int timeoutMillis) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        _stormConf = stormConf;
+        _parallelism = parallelism;
+        _timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Runs the operation on every cluster and waits for all of them.
+     * @return the result of every cluster, in the order of appIds
+     */
+    List<Result> run(List<String> appIds, final Operation op) throws Exception {
+        final List<Result> results = new ArrayList<Result>();
+        final Semaphore slots = new Semaphore(_parallelism);
+        final CountDownLatch finished = new CountDownLatch(appIds.size());
+        final TAsyncClientManager manager = new TAsyncClientManager();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(_parallelism, Math.max(1, appIds.size())));
+        try {
+            for (String appId : appIds) {
+                final Result result = new Result(appId);
+                results.add(result);
+                pool.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            slots.acquire();
+                        } catch (InterruptedException e) {
+                            finished.countDown();
+                            return;
+                        }
+                        Completion done = new Completion(result, slots, finished);
+                        try {
+                            start(result.appId, op, manager, done);
+                        } catch (Exception e) {
+                            done.failed(e);
+                        }
+                    }
+                });
+            }
+            // each cluster gets the timeout once it has a slot; a lookup that
+            // never returns holds its slot, so the whole run gets a round of
+            // timeouts per slot on top
+            int rounds = (appIds.size() + _parallelism - 1) / _parallelism;
+            long overallMillis = (long) _timeoutMillis * (rounds + 1);
+            if (!finished.await(overallMillis, TimeUnit.MILLISECONDS)) {
+                for (Result result : results) {
+                    result.set(false, "no answer within " + overallMillis + " ms", overallMillis);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(_timeoutMillis, TimeUnit.MILLISECONDS);
+            manager.stop();
+        }
+        return results;
+    }
+
+    private void start(String appId, Operation op, TAsyncClientManager manager, Completion done)
+            throws Exception {
+        EndpointCache.Endpoint endpoint = lookup(appId);
+        if (endpoint == null) {
+            throw new IllegalStateException("no master registered");
+        }
+        TNonblockingSocket socket = new TNonblockingSocket(endpoint.host, endpoint.port, _timeoutMillis);
+        done.setSocket(socket);
+        StormMaster.AsyncClient client = new StormMaster.AsyncClient(
+                MasterTransportPlugin.protocolFactory(_stormConf), manager, socket);
+        client.setTimeout(_timeoutMillis);
+        op.start(appId, client, done);
+    }
+
+    /**
+     * @return the endpoint of the master of an application, or null if it
+     * has not registered with the RM
+     */
+    EndpointCache.Endpoint lookup(String appId) throws Exception {
+        StormOnYarn storm = StormOnYarn.attachToApp(appId, _stormConf);
+        try {
+            return storm.getMasterEndpoint();
+        } finally {
+            storm.stop();
+        }
+    }
+
+    static void printResults(List<Result> results, PrintStream out) {
+        out.println(String.format("%-32s %-6s %8s %s", "APP ID", "RESULT", "MILLIS", "DETAIL"));
+        for (Result result : results) {
+            out.println(String.format("%-32s %-6s %8d %s", result.appId,
+                    result.isOk() ? "OK" : "FAILED", result.getMillis(), result.getDetail()));
+        }
+    }
+}
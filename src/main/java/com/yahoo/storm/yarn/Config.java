@@ -29,13 +29,61 @@ public class Config {
     final public static String MASTER_CONFIG = "master.yaml";
     final public static String MASTER_HOST = "master.host";
     final public static String MASTER_THRIFT_PORT = "master.thrift.port";
+    //despite its name, master.timeout.secs has always been handed to the
+    //client socket as milliseconds; master.timeout.millis takes precedence
     final public static String MASTER_TIMEOUT_SECS = "master.timeout.secs";
+    final public static String MASTER_TIMEOUT_MILLIS = "master.timeout.millis";
+    //engine, workers, frame size and client protocol of the master's thrift service
+    final public static String MASTER_THRIFT_SERVER = "master.thrift.server";
+    final public static String MASTER_THRIFT_WORKER_THREADS = "master.thrift.worker.threads";
+    final public static String MASTER_THRIFT_MAX_FRAME_BYTES = "master.thrift.max.frame.bytes";
+    final public static String MASTER_THRIFT_PROTOCOL = "master.thrift.protocol";
     final public static String MASTER_SIZE_MB = "master.container.size-mb";
     final public static String MASTER_NUM_SUPERVISORS = "master.initial-num-supervisors";
     final public static String MASTER_CONTAINER_PRIORITY = "master.container.priority";
+    //buffered cluster events and the longest wait of watchEvents
+    final public static String MASTER_EVENTS_CAPACITY = "master.events.capacity";
+    final public static String MASTER_EVENTS_MAX_WAIT_MILLIS = "master.events.max.wait.millis";
+    final public static String MASTER_EVENTS_MAX_WATCHERS = "master.events.max.watchers";
+    //pooled connections of clients to the master, see MasterClientPool
+    final public static String MASTER_CLIENT_MAX_IDLE = "master.client.max.idle";
+    final public static String MASTER_CLIENT_RETRIES = "master.client.retries";
+    final public static String MASTER_CLIENT_RETRY_BACKOFF_MILLIS = "master.client.retry.backoff.millis";
+    final public static String MASTER_CLIENT_VALIDATE_AFTER_MILLIS = "master.client.validate.after.millis";
     //# of milliseconds to wait for YARN report on Storm Master host/port
     final public static String YARN_REPORT_WAIT_MILLIS = "yarn.report.wait.millis";
     final public static String MASTER_HEARTBEAT_INTERVAL_MILLIS = "master.heartbeat.interval.millis";
+    //adapt the heartbeat interval to the outstanding container demand
+    final public static String MASTER_HEARTBEAT_ADAPTIVE = "master.heartbeat.adaptive";
+    final public static String MASTER_HEARTBEAT_MIN_INTERVAL_MILLIS = "master.heartbeat.min.interval.millis";
+    final public static String MASTER_HEARTBEAT_MAX_INTERVAL_MILLIS = "master.heartbeat.max.interval.millis";
+    //# of threads preparing supervisor launches, and the rate limit on launches
+    final public static String MASTER_LAUNCHER_THREADS = "master.launcher.threads";
+    final public static String MASTER_LAUNCHER_RATE_PER_SEC = "master.launcher.rate.per.sec";
+    final public static String MASTER_LAUNCHER_BURST = "master.launcher.burst";
+    //size of supervisor containers, computed from the slots and worker heap unless set
+    final public static String MASTER_SUPERVISOR_SIZE_MB = "master.supervisor.container.size-mb";
+    final public static String MASTER_SUPERVISOR_VCORES = "master.supervisor.container.vcores";
+    final public static String MASTER_SUPERVISOR_OVERHEAD_MB = "master.supervisor.overhead-mb";
+    //named supervisor shapes, see SupervisorProfile
+    final public static String MASTER_SUPERVISOR_PROFILES = "master.supervisor.profiles";
+    //placement of supervisor containers, see PlacementPolicies
+    final public static String MASTER_PLACEMENT_POLICY = "master.placement.policy";
+    final public static String MASTER_PLACEMENT_MAX_PER_NODE = "master.placement.max-per-node";
+    final public static String MASTER_PLACEMENT_RACKS = "master.placement.racks";
+    final public static String MASTER_PLACEMENT_HOSTS_ALLOW = "master.placement.hosts.allow";
+    final public static String MASTER_PLACEMENT_HOSTS_DENY = "master.placement.hosts.deny";
+    final public static String MASTER_PLACEMENT_MAX_REJECTIONS = "master.placement.max-rejections";
+    //blacklisting of nodes where supervisors keep failing
+    final public static String MASTER_BLACKLIST_FAILURES = "master.blacklist.failures";
+    final public static String MASTER_BLACKLIST_WINDOW_SECS = "master.blacklist.window.secs";
+    final public static String MASTER_BLACKLIST_COOLDOWN_SECS = "master.blacklist.cooldown.secs";
+    //delay before failed supervisors are replaced
+    final public static String MASTER_REPLACEMENT_BACKOFF_INITIAL_MILLIS = "master.replacement.backoff.initial.millis";
+    final public static String MASTER_REPLACEMENT_BACKOFF_MAX_MILLIS = "master.replacement.backoff.max.millis";
+    //replacing lost supervisors on the same node
+    final public static String MASTER_REPLACEMENT_STICKY = "master.replacement.sticky";
+    final public static String MASTER_REPLACEMENT_STICKY_TIMEOUT_MILLIS = "master.replacement.sticky.timeout.millis";
     
     @SuppressWarnings("rawtypes")
     static public Map readStormConfig() {
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The containers held by the application master, keyed by container id.
+ * Every operation is thread safe without a common lock, so the heartbeat,
+ * the launcher and the Thrift handlers do not serialize on each other.
+ * Containers are dropped once the RM reports them as completed.
+ * The number of containers in each state, overall, per profile and per
+ * node, is kept up to date on every transition, so that counting does not
+ * walk the containers.  Only updating the counts per node takes a lock, as
+ * a node is dropped from them once it holds no container.
+ */
+class ContainerRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(ContainerRegistry.class);
+
+    private final ConcurrentMap<ContainerId, SupervisorContainer> _containers =
+            new ConcurrentHashMap<ContainerId, SupervisorContainer>();
+    private final Counts _counts = new Counts();
+    private final ConcurrentMap<String, Counts> _countsPerProfile =
+            new ConcurrentHashMap<String, Counts>();
+    private final ConcurrentMap<String, Counts> _countsPerHost =
+            new ConcurrentHashMap<String, Counts>();
+
+    /**
+     * The number of containers in each state.  Completed containers are
+     * counted once they are dropped, so COMPLETED only ever grows.
+     */
+    static class Counts {
+        private final AtomicIntegerArray _counts =
+                new AtomicIntegerArray(SupervisorContainer.State.values().length);
+
+        int get(SupervisorContainer.State state) {
+            return _counts.get(state.ordinal());
+        }
+
+        private void moved(SupervisorContainer.State from, SupervisorContainer.State to) {
+            if (from != null) {
+                _counts.decrementAndGet(from.ordinal());
+            }
+            _counts.incrementAndGet(to.ordinal());
+        }
+
+        /**
+         * @return whether any container is counted in a state other than
+         * COMPLETED
+         */
+        private boolean holdsContainers() {
+            for (SupervisorContainer.State state : SupervisorContainer.State.values()) {
+                if (state != SupervisorContainer.State.COMPLETED && get(state) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Register a newly allocated container.
+     */
+    SupervisorContainer add(Container container, SupervisorProfile profile, String rack) {
+        SupervisorContainer sc = new SupervisorContainer(container, profile, rack, this);
+        SupervisorContainer existing = _containers.putIfAbsent(container.getId(), sc);
+        if (existing != null) {
+            return existing;
+        }
+        moved(sc, null, sc.getState());
+        return sc;
+    }
+
+    /**
+     * Called by a container of this registry whenever it changes state.
+     */
+    void moved(SupervisorContainer sc, SupervisorContainer.State from, SupervisorContainer.State to) {
+        _counts.moved(from, to);
+        countsOf(_countsPerProfile, sc.getProfile().getName()).moved(from, to);
+        // a node is dropped once it holds no container, so that the map only
+        // grows with the nodes in use; the lock keeps a move from landing on
+        // counts that were just dropped
+        synchronized (_countsPerHost) {
+            Counts counts = countsOf(_countsPerHost, sc.getHost());
+            counts.moved(from, to);
+            if (!counts.holdsContainers()) {
+                _countsPerHost.remove(sc.getHost());
+            }
+        }
+    }
+
+    private static Counts countsOf(ConcurrentMap<String, Counts> counts, String key) {
+        Counts ret = counts.get(key);
+        if (ret == null) {
+            Counts created = new Counts();
+            ret = counts.putIfAbsent(key, created);
+            if (ret == null) {
+                ret = created;
+            }
+        }
+        return ret;
+    }
+
+    SupervisorContainer get(ContainerId id) {
+        return _containers.get(id);
+    }
+
+    /**
+     * @return false if the container is unknown or cannot move to the state
+     */
+    boolean transition(ContainerId id, SupervisorContainer.State to) {
+        SupervisorContainer sc = _containers.get(id);
+        if (sc == null) {
+            LOG.debug("Ignoring transition of unknown container " + id + " to " + to);
+            return false;
+        }
+        if (!sc.moveTo(to)) {
+            LOG.debug("Ignoring transition of " + sc + " to " + to);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remove a container the RM reported as completed.
+     * @return the container, or null if it was unknown
+     */
+    SupervisorContainer complete(ContainerId id) {
+        SupervisorContainer sc = _containers.remove(id);
+        if (sc != null) {
+            sc.moveTo(SupervisorContainer.State.COMPLETED);
+        }
+        return sc;
+    }
+
+    Collection<SupervisorContainer> all() {
+        return _containers.values();
+    }
+
+    /**
+     * @return the containers that hold, or are about to hold, a supervisor
+     */
+    List<SupervisorContainer> live() {
+        List<SupervisorContainer> ret = new ArrayList<SupervisorContainer>();
+        for (SupervisorContainer sc : _containers.values()) {
+            if (sc.getState().isLive()) {
+                ret.add(sc);
+            }
+        }
+        return ret;
+    }
+
+    int count(SupervisorContainer.State state) {
+        return _counts.get(state);
+    }
+
+    /**
+     * @return the counts per supervisor profile
+     */
+    Map<String, Counts> countsPerProfile() {
+        return Collections.unmodifiableMap(_countsPerProfile);
+    }
+
+    /**
+     * @return the counts per node that holds a container; nodes whose
+     * containers all completed are left out, so their COMPLETED count is lost
+     */
+    Map<String, Counts> countsPerHost() {
+        return Collections.unmodifiableMap(_countsPerHost);
+    }
+
+    int size() {
+        return _containers.size();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers where the Storm master of each application listens, in
+ * ~/.storm-yarn/apps/&lt;appId&gt;, so that clients can talk to it without
+ * asking the RM first.  An entry is only a hint: clients must check the
+ * attempt of the master they reach and forget the entry if it differs.
+ */
+class EndpointCache {
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointCache.class);
+
+    static class Endpoint {
+        final String host;
+        final int port;
+        final String appAttemptId;
+
+        Endpoint(String host, int port, String appAttemptId) {
+            this.host = host;
+            this.port = port;
+            this.appAttemptId = appAttemptId;
+        }
+
+        @Override
+        public String toString() {
+            return host + ":" + port + " (" + appAttemptId + ")";
+        }
+    }
+
+    private final File _dir;
+
+    EndpointCache(File dir) {
+        _dir = dir;
+    }
+
+    static EndpointCache getDefault() {
+        return new EndpointCache(new File(System.getProperty("user.home"),
+                ".storm-yarn" + File.separator + "apps"));
+    }
+
+    /**
+     * @return the cached endpoint of an application, or null
+     */
+    Endpoint get(String appId) {
+        File file = new File(_dir, appId);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            Properties props = Util.loadProperties(file);
+            return new Endpoint(props.getProperty("host"),
+                    Integer.parseInt(props.getProperty("port")),
+                    props.getProperty("attempt"));
+        } catch (Exception e) {
+            LOG.warn("Ignoring unreadable endpoint cache " + file, e);
+            return null;
+        }
+    }
+
+    void put(String appId, Endpoint endpoint) {
+        Properties props = new Properties();
+        props.setProperty("host", endpoint.host);
+        props.setProperty("port", String.valueOf(endpoint.port));
+        props.setProperty("attempt", endpoint.appAttemptId);
+        try {
+            Util.storeProperties(new File(_dir, appId), props, "Storm master of " + appId);
+        } catch (IOException e) {
+            LOG.warn("Unable to cache the endpoint of " + appId, e);
+        }
+    }
+
+    void remove(String appId) {
+        new File(_dir, appId).delete();
+    }
+}
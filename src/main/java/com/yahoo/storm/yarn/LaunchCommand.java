@@ -30,6 +30,7 @@ import com.yahoo.storm.yarn.generated.StormMaster;
 
 class LaunchCommand implements ClientCommand {
   private static final Logger LOG = LoggerFactory.getLogger(LaunchCommand.class);
+  private static final int DEFAULT_WAIT_READY_SECS = 600;
 
   @Override
   public String getHeaderDescription() {
@@ -45,11 +46,14 @@ class LaunchCommand implements ClientCommand {
     opts.addOption("output", true, "Output file");
     opts.addOption("stormConfOutput", true, "storm.yaml file");
     opts.addOption("stormZip", true, "file path of storm.zip");
+    opts.addOption("waitReady", "wait-ready", true, "Wait until nimbus and this many supervisors are up");
+    opts.addOption("waitReadyTimeout", "wait-ready-timeout", true,
+        "Seconds to wait with --wait-ready, " + DEFAULT_WAIT_READY_SECS + " by default");
     return opts;
   }
 
   @Override
-  public void process(CommandLine cl) throws Exception {
+  public void process(CommandLine cl, PrintStream out) throws Exception {
     
     String config_file = null;
     List remaining_args = cl.getArgList();
@@ -72,13 +76,25 @@ class LaunchCommand implements ClientCommand {
                   storm_zip_location);
       LOG.debug("Submitted application's ID:" + storm.getAppId());
 
+      //wait for the storm cluster, reporting how long each phase took
+      String waitReady = cl.getOptionValue("waitReady");
+      if (waitReady != null) {
+        int timeoutSecs = Integer.parseInt(cl.getOptionValue("waitReadyTimeout",
+            String.valueOf(DEFAULT_WAIT_READY_SECS)));
+        Map<String, Long> phases = storm.waitUntilReady(Integer.parseInt(waitReady),
+            timeoutSecs * 1000L);
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+          System.err.println(phase.getKey() + ": " + phase.getValue() + " ms");
+        }
+      }
+
       //download storm.yaml file
       String storm_yaml_output = cl.getOptionValue("stormConfOutput");
       if (storm_yaml_output != null && storm_yaml_output.length() > 0) {
         //try to download storm.yaml
         StormMaster.Client client = storm.getClient();
         if (client != null)
-          StormMasterCommand.downloadStormYaml(client, storm_yaml_output);
+          StormMasterCommand.downloadStormYaml(client, storm_yaml_output, out);
         else
           LOG.warn("No storm.yaml is downloaded");
       }
@@ -86,7 +102,7 @@ class LaunchCommand implements ClientCommand {
       //store appID to output
       String output = cl.getOptionValue("output");
       if (output == null)
-          System.out.println(storm.getAppId());
+          out.println(storm.getAppId());
       else {
           PrintStream os = new PrintStream(output);
           os.println(storm.getAppId());
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.thrift7.TException;
+
+import com.yahoo.storm.yarn.generated.CommandResult;
+import com.yahoo.storm.yarn.generated.MasterCommand;
+
+/**
+ * Runs the commands of one executeBatch call in order.  Once a command
+ * fails the rest are skipped.
+ *
+ * setStormConf stops nimbus, the UI and the supervisors and starts them
+ * again with the new configuration.  Within a batch they are stopped at
+ * the first setStormConf only and started once, after the last command;
+ * start and stop commands in between decide which of them are started.
+ */
+class MasterBatch {
+    private final StormMasterServerHandler _handler;
+    // the daemons are down for a configuration change
+    private boolean _restartPending = false;
+    private boolean _nimbus;
+    private boolean _ui;
+    private boolean _supervisors;
+
+    MasterBatch(StormMasterServerHandler handler) {
+        _handler = handler;
+    }
+
+    List<CommandResult> execute(List<MasterCommand> commands) throws TException {
+        List<CommandResult> results = new ArrayList<CommandResult>();
+        boolean failed = false;
+        for (MasterCommand command : commands) {
+            CommandResult result = new CommandResult();
+            result.set_command(command.get_command());
+            long start = System.currentTimeMillis();
+            if (failed) {
+                result.set_ok(false);
+                result.set_message("skipped");
+            } else {
+                try {
+                    result.set_message(run(command));
+                    result.set_ok(true);
+                } catch (Exception e) {
+                    failed = true;
+                    result.set_ok(false);
+                    result.set_message(e.getMessage() != null ? e.getMessage() : e.toString());
+                }
+            }
+            result.set_millis(System.currentTimeMillis() - start);
+            results.add(result);
+        }
+        // also after a failure, the daemons must not stay down
+        if (_restartPending) {
+            if (_nimbus) {
+                _handler.startNimbus();
+            }
+            if (_ui) {
+                _handler.startUI();
+            }
+            if (_supervisors) {
+                _handler.startSupervisors();
+            }
+        }
+        return results;
+    }
+
+    private String run(MasterCommand command) throws TException {
+        String name = command.get_command();
+        String profile = command.get_profile();
+        boolean defaultProfile = profile == null || profile.length() == 0;
+        if ("getStormConf".equals(name)) {
+            return _handler.getStormConf();
+        } else if ("setStormConf".equals(name)) {
+            if (!_restartPending) {
+                _handler.stopSupervisors();
+                _handler.stopUI();
+                _handler.stopNimbus();
+                _restartPending = true;
+                _nimbus = _ui = _supervisors = true;
+            }
+            _handler.applyStormConf(command.get_storm_conf());
+            return "storm.yaml set";
+        } else if ("addSupervisors".equals(name)) {
+            if (defaultProfile) {
+                _handler.addSupervisors(command.get_number());
+            } else {
+                _handler.addProfileSupervisors(profile, command.get_number());
+            }
+            return command.get_number() + " supervisors added";
+        } else if ("setSupervisorCount".equals(name)) {
+            if (defaultProfile) {
+                _handler.setSupervisorCount(command.get_number());
+            } else {
+                _handler.setProfileSupervisorCount(profile, command.get_number());
+            }
+            return command.get_number() + " supervisors to run";
+        } else if ("startNimbus".equals(name)) {
+            if (_restartPending) {
+                _nimbus = true;
+            } else {
+                _handler.startNimbus();
+            }
+            return "nimbus started";
+        } else if ("stopNimbus".equals(name)) {
+            if (_restartPending) {
+                _nimbus = false;
+            } else {
+                _handler.stopNimbus();
+            }
+            return "nimbus stopped";
+        } else if ("startUI".equals(name)) {
+            if (_restartPending) {
+                _ui = true;
+            } else {
+                _handler.startUI();
+            }
+            return "UI started";
+        } else if ("stopUI".equals(name)) {
+            if (_restartPending) {
+                _ui = false;
+            } else {
+                _handler.stopUI();
+            }
+            return "UI stopped";
+        } else if ("startSupervisors".equals(name)) {
+            if (_restartPending) {
+                _supervisors = true;
+            } else {
+                _handler.startSupervisors();
+            }
+            return "supervisors started";
+        } else if ("stopSupervisors".equals(name)) {
+            if (_restartPending) {
+                _supervisors = false;
+            } else {
+                _handler.stopSupervisors();
+            }
+            return "supervisors stopped";
+        }
+        throw new TException("Unknown command or not allowed in a batch: " + name);
+    }
+}
@@ -31,22 +31,36 @@ public class MasterClient extends ThriftClient {
         try {
             String masterHost = (String) conf.get(Config.MASTER_HOST);
             int masterPort = Utils.getInt(conf.get(Config.MASTER_THRIFT_PORT));
-            try {
-            	Integer timeout = Utils.getInt(conf.get(Config.MASTER_TIMEOUT_SECS));
-            	return new MasterClient(conf, masterHost, masterPort, timeout);
-            } catch (IllegalArgumentException e) {
-            	return new MasterClient(conf, masterHost, masterPort, null);
-            }
+            return new MasterClient(conf, masterHost, masterPort, getTimeoutMillis(conf));
             
         } catch (TTransportException ex) {
             throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * @return the socket timeout in milliseconds from master.timeout.millis,
+     * or else from master.timeout.secs, whose value has always been taken
+     * as milliseconds; null if neither is set
+     */
+    @SuppressWarnings("rawtypes")
+    static Integer getTimeoutMillis(Map conf) {
+        Object timeout = conf.get(Config.MASTER_TIMEOUT_MILLIS);
+        if (timeout == null) {
+            timeout = conf.get(Config.MASTER_TIMEOUT_SECS);
+        }
+        try {
+            return Utils.getInt(timeout);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     public MasterClient(Map conf, String host, int port, Integer timeout) throws TTransportException {
-        super(conf, host, port, timeout);
-        _client = new StormMaster.Client(_protocol);
+        super(MasterTransportPlugin.withMasterTransport(conf), host, port, timeout);
+        _client = new StormMaster.Client(
+                MasterTransportPlugin.protocolFactory(conf).getProtocol(transport()));
     }
 
     public StormMaster.Client getClient() {
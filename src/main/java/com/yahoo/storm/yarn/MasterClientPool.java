@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.thrift7.TException;
+import org.apache.thrift7.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.utils.Utils;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+/**
+ * A thread safe pool of connections to the Storm masters of applications.
+ * Callers get a {@link StormMaster.Iface} per application; every call on it
+ * borrows an idle connection, or opens one, and gives it back afterwards.
+ *
+ * Connections that failed are dropped, and the endpoint of the master is
+ * looked up again through the RM, so that calls follow the master to its
+ * new attempt after a failover.  Calls that failed in transport are
+ * retried with a growing delay, up to master.client.retries times.  Calls
+ * that are not safe to repeat (adding supervisors, changing the Storm
+ * configuration, batches and shutting down) are only retried when the
+ * connection could not be opened, because the master may already have
+ * carried them out.  Connections idle for longer than
+ * master.client.validate.after.millis are checked before they are handed
+ * out.
+ */
+class MasterClientPool {
+    private static final Logger LOG = LoggerFactory.getLogger(MasterClientPool.class);
+
+    // executeBatch may hold any of the others; setStormConf restarts the
+    // daemons every time it is applied
+    static final Set<String> NOT_IDEMPOTENT = new HashSet<String>(Arrays.asList(
+            "addSupervisors", "addProfileSupervisors", "setStormConf", "executeBatch", "shutdown"));
+
+    /**
+     * Finds where the master of an application listens.
+     */
+    interface Resolver {
+        /**
+         * @param refresh whether the endpoint used last failed, so it must
+         * be looked up through the RM
+         * @return the endpoint, or null if the master is not registered
+         */
+        EndpointCache.Endpoint resolve(String appId, @SuppressWarnings("rawtypes") Map stormConf,
+                boolean refresh) throws Exception;
+    }
+
+    /**
+     * Looks endpoints up in the local {@link EndpointCache} first, and
+     * through the RM if there is none or it failed.
+     */
+    static final Resolver YARN_RESOLVER = new Resolver() {
+        private final EndpointCache _endpoints = EndpointCache.getDefault();
+
+        @Override
+        public EndpointCache.Endpoint resolve(String appId, @SuppressWarnings("rawtypes") Map stormConf,
+                boolean refresh) throws Exception {
+            if (!refresh) {
+                EndpointCache.Endpoint endpoint = _endpoints.get(appId);
+                if (endpoint != null) {
+                    return endpoint;
+                }
+            }
+            StormOnYarn storm = StormOnYarn.attachToApp(appId, stormConf);
+            try {
+                return storm.getMasterEndpoint();
+            } finally {
+                storm.stop();
+            }
+        }
+    };
+
+    static class Connection {
+        final MasterClient client;
+        final EndpointCache.Endpoint endpoint;
+        long lastUsed = System.currentTimeMillis();
+
+        Connection(MasterClient client, EndpointCache.Endpoint endpoint) {
+            this.client = client;
+            this.endpoint = endpoint;
+        }
+    }
+
+    private static class App {
+        @SuppressWarnings("rawtypes")
+        Map stormConf;
+        final LinkedList<Connection> idle = new LinkedList<Connection>();
+        // the last endpoint failed, look it up through the RM
+        boolean stale = false;
+    }
+
+    private final Resolver _resolver;
+    private final int _maxIdle;
+    private final int _retries;
+    private final long _retryBackoffMillis;
+    private final long _validateAfterMillis;
+    private final Map<String, App> _apps = new HashMap<String, App>();
+
+    MasterClientPool(@SuppressWarnings("rawtypes") Map stormConf) {
+        this(YARN_RESOLVER,
+                Utils.getInt(stormConf.get(Config.MASTER_CLIENT_MAX_IDLE)),
+                Utils.getInt(stormConf.get(Config.MASTER_CLIENT_RETRIES)),
+                Utils.getInt(stormConf.get(Config.MASTER_CLIENT_RETRY_BACKOFF_MILLIS)),
+                Utils.getInt(stormConf.get(Config.MASTER_CLIENT_VALIDATE_AFTER_MILLIS)));
+    }
+
+    MasterClientPool(Resolver resolver, int maxIdle, int retries, long retryBackoffMillis,
+            long validateAfterMillis) {
+        _resolver = resolver;
+        _maxIdle = maxIdle;
+        _retries = retries;
+        _retryBackoffMillis = retryBackoffMillis;
+        _validateAfterMillis = validateAfterMillis;
+    }
+
+    /**
+     * @return a client of the master of the application that draws its
+     * connections from this pool
+     */
+    StormMaster.Iface get(final String appId, @SuppressWarnings("rawtypes") Map stormConf) {
+        synchronized (this) {
+            app(appId).stormConf = stormConf;
+        }
+        return (StormMaster.Iface) Proxy.newProxyInstance(StormMaster.Iface.class.getClassLoader(),
+                new Class<?>[] { StormMaster.Iface.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return method.invoke(this, args);
+                        }
+                        return call(appId, method, args);
+                    }
+                });
+    }
+
+    private Object call(String appId, Method method, Object[] args) throws Throwable {
+        boolean idempotent = !NOT_IDEMPOTENT.contains(method.getName());
+        long backoff = _retryBackoffMillis;
+        for (int attempt = 0; ; attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(backoff);
+                backoff *= 2;
+            }
+            Connection conn;
+            try {
+                conn = borrow(appId);
+            } catch (TTransportException e) {
+                // nothing was sent, so any call may be retried
+                if (attempt >= _retries) {
+                    throw e;
+                }
+                LOG.info("Retrying " + method.getName() + " on " + appId + ": " + e.getMessage());
+                continue;
+            }
+            try {
+                Object ret = method.invoke(conn.client.getClient(), args);
+                giveBack(appId, conn);
+                return ret;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof TTransportException) {
+                    failed(appId, conn);
+                    if (!idempotent || attempt >= _retries) {
+                        throw cause;
+                    }
+                    LOG.info("Retrying " + method.getName() + " on " + appId + ": " + cause);
+                    continue;
+                }
+                if (cause instanceof TException) {
+                    // the master answered, the connection is fine
+                    giveBack(appId, conn);
+                } else {
+                    conn.client.close();
+                }
+                throw cause;
+            }
+        }
+    }
+
+    private Connection borrow(String appId) throws TTransportException {
+        boolean refresh;
+        @SuppressWarnings("rawtypes")
+        Map stormConf;
+        while (true) {
+            Connection conn;
+            synchronized (this) {
+                App app = app(appId);
+                conn = app.idle.pollFirst();
+                refresh = app.stale;
+                stormConf = app.stormConf;
+            }
+            if (conn == null) {
+                break;
+            }
+            if (System.currentTimeMillis() - conn.lastUsed < _validateAfterMillis || isValid(conn)) {
+                return conn;
+            }
+            conn.client.close();
+        }
+        return open(appId, stormConf, refresh);
+    }
+
+    /**
+     * @return whether the connection still reaches the attempt it was
+     * opened to
+     */
+    private boolean isValid(Connection conn) {
+        try {
+            return conn.endpoint.appAttemptId.equals(conn.client.getClient().getAppAttemptId());
+        } catch (Exception e) {
+            LOG.debug("Dropping idle connection to " + conn.endpoint, e);
+            return false;
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Connection open(String appId, Map stormConf, boolean refresh) throws TTransportException {
+        for (int i = 0; i < 2; i++, refresh = true) {
+            EndpointCache.Endpoint endpoint;
+            try {
+                endpoint = _resolver.resolve(appId, stormConf, refresh);
+            } catch (Exception e) {
+                throw new TTransportException("Unable to look up the master of " + appId + ": " + e, e);
+            }
+            if (endpoint == null) {
+                throw new TTransportException(TTransportException.NOT_OPEN,
+                        "The master of " + appId + " is not registered");
+            }
+            Map conf = new HashMap(stormConf);
+            conf.put(Config.MASTER_HOST, endpoint.host);
+            conf.put(Config.MASTER_THRIFT_PORT, endpoint.port);
+            Connection conn;
+            try {
+                conn = new Connection(MasterClient.getConfiguredClient(conf), endpoint);
+            } catch (RuntimeException e) {
+                LOG.info("Unable to connect to " + endpoint + " of " + appId + ": " + e);
+                continue;
+            }
+            // an endpoint from the RM is current, a cached one is checked
+            if (refresh || isValid(conn)) {
+                synchronized (this) {
+                    app(appId).stale = false;
+                }
+                return conn;
+            }
+            LOG.info("Endpoint " + endpoint + " of " + appId + " is stale");
+            conn.client.close();
+        }
+        synchronized (this) {
+            app(appId).stale = true;
+        }
+        throw new TTransportException(TTransportException.NOT_OPEN,
+                "Unable to connect to the master of " + appId);
+    }
+
+    private void giveBack(String appId, Connection conn) {
+        conn.lastUsed = System.currentTimeMillis();
+        synchronized (this) {
+            App app = app(appId);
+            if (app.idle.size() < _maxIdle) {
+                app.idle.addFirst(conn);
+                return;
+            }
+        }
+        conn.client.close();
+    }
+
+    /**
+     * Drops a connection that failed, and the idle ones to the same
+     * master, which most likely failed as well.
+     */
+    private void failed(String appId, Connection conn) {
+        conn.client.close();
+        List<Connection> dropped;
+        synchronized (this) {
+            App app = app(appId);
+            app.stale = true;
+            dropped = new ArrayList<Connection>(app.idle);
+            app.idle.clear();
+        }
+        for (Connection idle : dropped) {
+            idle.client.close();
+        }
+    }
+
+    private App app(String appId) {
+        App app = _apps.get(appId);
+        if (app == null) {
+            app = new App();
+            _apps.put(appId, app);
+        }
+        return app;
+    }
+
+    /**
+     * Closes the idle connections to the master of an application.
+     */
+    void close(String appId) {
+        List<Connection> closed;
+        synchronized (this) {
+            App app = app(appId);
+            closed = new ArrayList<Connection>(app.idle);
+            app.idle.clear();
+        }
+        for (Connection conn : closed) {
+            conn.client.close();
+        }
+    }
+
+    void closeAll() {
+        List<String> appIds;
+        synchronized (this) {
+            appIds = new ArrayList<String>(_apps.keySet());
+        }
+        for (String appId : appIds) {
+            close(appId);
+        }
+    }
+}
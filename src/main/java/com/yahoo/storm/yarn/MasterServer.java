@@ -16,28 +16,21 @@
 
 package com.yahoo.storm.yarn;
 
-import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.GnuParser;
 import org.apache.commons.cli.Options;
-import org.apache.hadoop.service.Service;
 import org.apache.hadoop.net.NetUtils;
 import org.apache.hadoop.yarn.api.ApplicationConstants;
-import org.apache.hadoop.yarn.api.protocolrecords.AllocateResponse;
 import org.apache.hadoop.yarn.api.protocolrecords.RegisterApplicationMasterResponse;
-import org.apache.hadoop.yarn.api.records.AMCommand;
 import org.apache.hadoop.yarn.api.records.ApplicationAttemptId;
-import org.apache.hadoop.yarn.api.records.Container;
 import org.apache.hadoop.yarn.api.records.ContainerId;
-import org.apache.hadoop.yarn.api.records.ContainerStatus;
 import org.apache.hadoop.yarn.api.records.FinalApplicationStatus;
+import org.apache.hadoop.yarn.client.api.AMRMClient.ContainerRequest;
+import org.apache.hadoop.yarn.client.api.async.AMRMClientAsync;
 import org.apache.hadoop.yarn.conf.YarnConfiguration;
 import org.apache.hadoop.yarn.util.ConverterUtils;
 import org.slf4j.Logger;
@@ -52,65 +45,25 @@ import com.yahoo.storm.yarn.generated.StormMaster.Processor;
 public class MasterServer extends ThriftServer {
     private static final Logger LOG = LoggerFactory.getLogger(MasterServer.class);
     private StormMasterServerHandler _handler;
+    @SuppressWarnings("rawtypes")
+    private final Map _storm_conf;
 
-    private Thread initAndStartHeartbeat(final StormAMRMClient client,
-            final BlockingQueue<Container> launcherQueue,
+    private AMRMClientAsync<ContainerRequest> initAMRMClientAsync(
+            final StormAMRMClient client,
+            final SupervisorLauncher launcher,
             final int heartBeatIntervalMs) {
-        Thread thread = new Thread() {
-        @Override
-        public void run() {
-          try {
-            while (client.getServiceState() == Service.STATE.STARTED &&
-                !Thread.currentThread().isInterrupted()) {
-              
-              Thread.sleep(heartBeatIntervalMs);
-
-              // We always send 50% progress.
-              AllocateResponse allocResponse = client.allocate(0.5f);
-
-              AMCommand am_command = allocResponse.getAMCommand();
-              if (am_command!=null &&
-                      (am_command == AMCommand.AM_SHUTDOWN || am_command==AMCommand.AM_RESYNC)) {
-                LOG.info("Got AM_SHUTDOWN or AM_RESYNC from the RM");
-                _handler.stop();
-                System.exit(0);
-              }
-
-              List<Container> allocatedContainers = allocResponse.getAllocatedContainers();
-              if (allocatedContainers.size() > 0) {
-                // Add newly allocated containers to the client.
-                LOG.info("HB: Received allocated containers (" + allocatedContainers.size() + ")");
-                client.addAllocatedContainers(allocatedContainers);
-                if (client.supervisorsAreToRun()) {
-                  LOG.info("HB: Supervisors are to run, so queueing (" + allocatedContainers.size() + ") containers...");
-                  launcherQueue.addAll(allocatedContainers);
-                } else {
-                  LOG.info("HB: Supervisors are to stop, so releasing all containers...");
-                  client.stopAllSupervisors();
-                }
-              }
-
-              List<ContainerStatus> completedContainers =
-                  allocResponse.getCompletedContainersStatuses();
-              
-              if (completedContainers.size() > 0 && client.supervisorsAreToRun()) {
-                LOG.debug("HB: Containers completed (" + completedContainers.size() + "), so releasing them.");
-                client.addSupervisors(completedContainers.size());
-              }
-            
-            }
-          } catch (Throwable t) {
-            // Something happened we could not handle.  Make sure the AM goes
-            // down so that we are not surprised later on that our heart
-            // stopped..
-            LOG.error("Unhandled error in AM: ", t);
-            _handler.stop();
-            System.exit(1);
-          }
+        AdaptiveHeartbeat heartbeat = AdaptiveHeartbeat.fromConf(_storm_conf);
+        StormAMRMCallbackHandler callbackHandler =
+                new StormAMRMCallbackHandler(client, launcher, _handler, heartbeat);
+        AMRMClientAsync<ContainerRequest> amrmClient =
+                AMRMClientAsync.createAMRMClientAsync(client,
+                        heartBeatIntervalMs, callbackHandler);
+        callbackHandler.setAMRMClientAsync(amrmClient);
+        if (heartbeat != null) {
+            LOG.info("Adaptive heartbeat between " + _storm_conf.get(Config.MASTER_HEARTBEAT_MIN_INTERVAL_MILLIS)
+                    + " and " + _storm_conf.get(Config.MASTER_HEARTBEAT_MAX_INTERVAL_MILLIS) + " ms");
         }
-      };
-      thread.start();
-      return thread;
+        return amrmClient;
     }
 
     @SuppressWarnings("unchecked")
@@ -149,78 +102,50 @@ public class MasterServer extends ThriftServer {
 
         StormAMRMClient rmClient =
                 new StormAMRMClient(appAttemptID, storm_conf, hadoopConf);
-        rmClient.init(hadoopConf);
-        rmClient.start();
 
-        BlockingQueue<Container> launcherQueue = new LinkedBlockingQueue<Container>();
+        SupervisorLauncher launcher =
+                new SupervisorLauncher(rmClient, storm_conf, hadoopConf);
 
         MasterServer server = new MasterServer(storm_conf, rmClient);
+        // The async client owns the lifecycle of rmClient and drives the
+        // heartbeat once the AM is registered.
+        AMRMClientAsync<ContainerRequest> amrmClient =
+                server.initAMRMClientAsync(rmClient, launcher,
+                        Utils.getInt(storm_conf
+                                .get(Config.MASTER_HEARTBEAT_INTERVAL_MILLIS)));
+        amrmClient.init(hadoopConf);
+        amrmClient.start();
         try {
             final int port = Utils.getInt(storm_conf.get(Config.MASTER_THRIFT_PORT));
             final String target = host + ":" + port;
             InetSocketAddress addr = NetUtils.createSocketAddr(target);
+            LOG.info("Registering with the RM and starting HB thread");
             RegisterApplicationMasterResponse resp =
-                    rmClient.registerApplicationMaster(addr.getHostName(), port, null);
+                    amrmClient.registerApplicationMaster(addr.getHostName(), port, null);
             LOG.info("Got a registration response "+resp);
             LOG.info("Max Capability "+resp.getMaximumResourceCapability());
             rmClient.setMaxResource(resp.getMaximumResourceCapability());
-            LOG.info("Starting HB thread");
-            server.initAndStartHeartbeat(rmClient, launcherQueue,
-                    (Integer) storm_conf
-                    .get(Config.MASTER_HEARTBEAT_INTERVAL_MILLIS));
             LOG.info("Starting launcher");
-            initAndStartLauncher(rmClient, launcherQueue);
+            launcher.start();
             rmClient.startAllSupervisors();
             LOG.info("Starting Master Thrift Server");
             server.serve();
             LOG.info("StormAMRMClient::unregisterApplicationMaster");
-            rmClient.unregisterApplicationMaster(FinalApplicationStatus.SUCCEEDED,
+            amrmClient.unregisterApplicationMaster(FinalApplicationStatus.SUCCEEDED,
                     "AllDone", null);
         } finally {
             if (server.isServing()) {
                 LOG.info("Stop Master Thrift Server");
                 server.stop();
             }
+            LOG.info("Stop launcher");
+            launcher.stop();
             LOG.info("Stop RM client");
-            rmClient.stop();
+            amrmClient.stop();
         }
         System.exit(0);
     }
 
-    private static void initAndStartLauncher(final StormAMRMClient client,
-            final BlockingQueue<Container> launcherQueue) {
-        Thread thread = new Thread() {
-            Container container;
-            @Override
-            public void run() {
-                while (client.getServiceState() == Service.STATE.STARTED &&
-                        !Thread.currentThread().isInterrupted()) {
-                    try {
-                        container = launcherQueue.take();
-                        LOG.info("LAUNCHER: Taking container with id ("+container.getId()+") from the queue.");
-                        if (client.supervisorsAreToRun()) {
-                            LOG.info("LAUNCHER: Supervisors are to run, so launching container id ("+container.getId()+")");
-                            client.launchSupervisorOnContainer(container);
-                        } else {
-                            // Do nothing
-                            LOG.info("LAUNCHER: Supervisors are not to run, so not launching container id ("+container.getId()+")");
-                        }
-                    } catch (InterruptedException e) {
-                        if (client.getServiceState() == Service.STATE.STARTED) {
-                            LOG.error("Launcher thread interrupted : ", e);
-                            System.exit(1);
-                        }
-                        return;
-                    } catch (IOException e) {
-                        LOG.error("Launcher thread I/O exception : ", e);
-                        System.exit(1);
-                    }
-                }
-            }
-        };
-        thread.start();
-    }
-
     public MasterServer(@SuppressWarnings("rawtypes") Map storm_conf, 
             StormAMRMClient client) {
         this(storm_conf, new StormMasterServerHandler(storm_conf, client));
@@ -228,9 +153,10 @@ public class MasterServer extends ThriftServer {
 
     private MasterServer(@SuppressWarnings("rawtypes") Map storm_conf,
             StormMasterServerHandler handler) {
-        super(storm_conf, 
+        super(MasterTransportPlugin.withMasterTransport(storm_conf),
                 new Processor<StormMaster.Iface>(handler), 
                 Utils.getInt(storm_conf.get(Config.MASTER_THRIFT_PORT)));
+        _storm_conf = storm_conf;
         try {
             _handler = handler;
             _handler.init(this);
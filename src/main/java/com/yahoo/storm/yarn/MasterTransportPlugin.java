@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.security.auth.login.Configuration;
+
+import org.apache.thrift7.TException;
+import org.apache.thrift7.TProcessor;
+import org.apache.thrift7.protocol.TBinaryProtocol;
+import org.apache.thrift7.protocol.TCompactProtocol;
+import org.apache.thrift7.protocol.TProtocol;
+import org.apache.thrift7.protocol.TProtocolFactory;
+import org.apache.thrift7.server.THsHaServer;
+import org.apache.thrift7.server.TNonblockingServer;
+import org.apache.thrift7.server.TServer;
+import org.apache.thrift7.transport.TFramedTransport;
+import org.apache.thrift7.transport.TNonblockingServerSocket;
+import org.apache.thrift7.transport.TTransport;
+import org.apache.thrift7.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.security.auth.ITransportPlugin;
+import backtype.storm.security.auth.SimpleTransportPlugin;
+import backtype.storm.utils.Utils;
+
+/**
+ * Transport of the StormMaster service when storm's simple transport is
+ * configured.  The server engine, its worker threads and the largest frame
+ * accepted are set through master.thrift.*.  Clients speak the protocol
+ * of master.thrift.protocol; the server answers every request in the
+ * protocol it was sent in, so binary and compact clients can be mixed.
+ * Unlike storm's SimpleTransportPlugin, requests are not wrapped to fill in
+ * storm's ReqContext, which the StormMaster service does not read.
+ */
+public class MasterTransportPlugin implements ITransportPlugin {
+    private static final Logger LOG = LoggerFactory.getLogger(MasterTransportPlugin.class);
+
+    // the first byte of a compact message, binary ones start with 0x80
+    private static final byte COMPACT_PROTOCOL_ID = (byte) 0x82;
+    private static final int DEFAULT_MAX_FRAME_BYTES = 16384000;
+    // as many as storm's SimpleTransportPlugin runs
+    static final int DEFAULT_WORKER_THREADS = 64;
+
+    @SuppressWarnings("rawtypes")
+    private Map _storm_conf;
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void prepare(Map storm_conf, Configuration login_conf) {
+        _storm_conf = storm_conf;
+    }
+
+    @Override
+    public TServer getServer(int port, TProcessor processor) throws IOException, TTransportException {
+        Object engine = _storm_conf.get(Config.MASTER_THRIFT_SERVER);
+        int maxFrameBytes = maxFrameBytes(_storm_conf);
+        TNonblockingServerSocket serverTransport = new TNonblockingServerSocket(port);
+        TProcessor matching = new MatchingProtocolProcessor(processor);
+        TProtocolFactory protocols = new NegotiatingProtocolFactory(protocolFactory(_storm_conf));
+        if (engine == null || "hsha".equals(engine)) {
+            int workerThreads = workerThreads(_storm_conf);
+            LOG.info("Serving with a selector thread and " + workerThreads + " worker threads");
+            THsHaServer.Args args = new THsHaServer.Args(serverTransport).workerThreads(workerThreads);
+            args.processor(matching).protocolFactory(protocols);
+            args.maxReadBufferBytes = maxFrameBytes;
+            return new THsHaServer(args);
+        } else if ("nonblocking".equals(engine)) {
+            LOG.info("Serving with a single selector thread");
+            TNonblockingServer.Args args = new TNonblockingServer.Args(serverTransport);
+            args.processor(matching).protocolFactory(protocols);
+            args.maxReadBufferBytes = maxFrameBytes;
+            return new TNonblockingServer(args);
+        }
+        serverTransport.close();
+        throw new IllegalArgumentException("Unknown " + Config.MASTER_THRIFT_SERVER + ": " + engine);
+    }
+
+    @Override
+    public TTransport connect(TTransport transport, String serverHost) throws TTransportException {
+        TTransport conn = new TFramedTransport(transport, maxFrameBytes(_storm_conf));
+        conn.open();
+        return conn;
+    }
+
+    /**
+     * @return the number of worker threads of the "hsha" server, from
+     * master.thrift.worker.threads
+     */
+    static int workerThreads(@SuppressWarnings("rawtypes") Map storm_conf) {
+        Object workers = storm_conf.get(Config.MASTER_THRIFT_WORKER_THREADS);
+        return workers == null ? DEFAULT_WORKER_THREADS : Utils.getInt(workers);
+    }
+
+    private static int maxFrameBytes(@SuppressWarnings("rawtypes") Map storm_conf) {
+        Object bytes = storm_conf.get(Config.MASTER_THRIFT_MAX_FRAME_BYTES);
+        return bytes == null ? DEFAULT_MAX_FRAME_BYTES : Utils.getInt(bytes);
+    }
+
+    /**
+     * @return the factory of the protocol clients speak, from
+     * master.thrift.protocol
+     */
+    static TProtocolFactory protocolFactory(@SuppressWarnings("rawtypes") Map storm_conf) {
+        Object protocol = storm_conf.get(Config.MASTER_THRIFT_PROTOCOL);
+        if (protocol == null || "binary".equals(protocol)) {
+            return new TBinaryProtocol.Factory();
+        } else if ("compact".equals(protocol)) {
+            return new TCompactProtocol.Factory();
+        }
+        throw new IllegalArgumentException("Unknown " + Config.MASTER_THRIFT_PROTOCOL + ": " + protocol);
+    }
+
+    /**
+     * @return storm_conf, or a copy of it that uses this plugin if storm's
+     * simple transport is configured.  Other plugins, e.g. SASL ones, are
+     * left in place.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static Map withMasterTransport(Map storm_conf) {
+        Object plugin = storm_conf.get(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN);
+        if (plugin != null && !SimpleTransportPlugin.class.getName().equals(plugin)) {
+            return storm_conf;
+        }
+        Map conf = new HashMap(storm_conf);
+        conf.put(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN, MasterTransportPlugin.class.getName());
+        return conf;
+    }
+
+    /**
+     * Reads a request in the protocol it was sent in.  The nonblocking
+     * servers read a whole frame before they make the input protocol, so
+     * the first byte of the message is in the buffer.
+     */
+    static class NegotiatingProtocolFactory implements TProtocolFactory {
+        private static final long serialVersionUID = 1L;
+        private final TProtocolFactory _default;
+
+        NegotiatingProtocolFactory(TProtocolFactory defaultFactory) {
+            _default = defaultFactory;
+        }
+
+        @Override
+        public TProtocol getProtocol(TTransport trans) {
+            if (trans.getBytesRemainingInBuffer() > 0) {
+                if (trans.getBuffer()[trans.getBufferPosition()] == COMPACT_PROTOCOL_ID) {
+                    return new TCompactProtocol(trans);
+                }
+                return new TBinaryProtocol(trans);
+            }
+            return _default.getProtocol(trans);
+        }
+    }
+
+    /**
+     * Writes the response in the protocol the request was read in.
+     */
+    static class MatchingProtocolProcessor implements TProcessor {
+        private final TProcessor _wrapped;
+
+        MatchingProtocolProcessor(TProcessor wrapped) {
+            _wrapped = wrapped;
+        }
+
+        @Override
+        public boolean process(TProtocol in, TProtocol out) throws TException {
+            if (in instanceof TCompactProtocol && !(out instanceof TCompactProtocol)) {
+                out = new TCompactProtocol(out.getTransport());
+            } else if (in instanceof TBinaryProtocol && !(out instanceof TBinaryProtocol)) {
+                out = new TBinaryProtocol(out.getTransport());
+            }
+            return _wrapped.process(in, out);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Counts supervisor failures per node over a sliding window.  A node with
+ * master.blacklist.failures failures within master.blacklist.window.secs
+ * is blacklisted for master.blacklist.cooldown.secs, during which no
+ * supervisor is placed on it.
+ *
+ * The 2.1 AMRMClient cannot pass a blacklist to the RM, so containers
+ * allocated on a blacklisted node are given back by the AM instead.
+ */
+class NodeFailureTracker {
+    private static final Logger LOG = LoggerFactory.getLogger(NodeFailureTracker.class);
+
+    private final int _threshold;
+    private final long _windowMillis;
+    private final long _cooldownMillis;
+    private final Map<String, LinkedList<Long>> _failures = new HashMap<String, LinkedList<Long>>();
+    private final Map<String, Long> _blacklistedUntil = new HashMap<String, Long>();
+
+    NodeFailureTracker(int threshold, long windowMillis, long cooldownMillis) {
+        _threshold = threshold;
+        _windowMillis = windowMillis;
+        _cooldownMillis = cooldownMillis;
+    }
+
+    static NodeFailureTracker fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+        return new NodeFailureTracker(
+                Utils.getInt(storm_conf.get(Config.MASTER_BLACKLIST_FAILURES)),
+                Utils.getInt(storm_conf.get(Config.MASTER_BLACKLIST_WINDOW_SECS)) * 1000L,
+                Utils.getInt(storm_conf.get(Config.MASTER_BLACKLIST_COOLDOWN_SECS)) * 1000L);
+    }
+
+    void recordFailure(String host) {
+        recordFailure(host, System.currentTimeMillis());
+    }
+
+    synchronized void recordFailure(String host, long now) {
+        LinkedList<Long> failures = _failures.get(host);
+        if (failures == null) {
+            failures = new LinkedList<Long>();
+            _failures.put(host, failures);
+        }
+        failures.add(now);
+        expire(failures, now);
+        LOG.info("Supervisor failed on " + host + ", " + failures.size() + " failures in the last "
+                + (_windowMillis / 1000) + "s");
+        if (_threshold > 0 && failures.size() >= _threshold && !isBlacklisted(host, now)) {
+            LOG.warn("Blacklisting " + host + " for " + (_cooldownMillis / 1000) + "s");
+            _blacklistedUntil.put(host, now + _cooldownMillis);
+        }
+    }
+
+    private void expire(LinkedList<Long> failures, long now) {
+        while (!failures.isEmpty() && failures.getFirst() <= now - _windowMillis) {
+            failures.removeFirst();
+        }
+    }
+
+    boolean isBlacklisted(String host) {
+        return isBlacklisted(host, System.currentTimeMillis());
+    }
+
+    synchronized boolean isBlacklisted(String host, long now) {
+        Long until = _blacklistedUntil.get(host);
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            LOG.info("Cooldown of " + host + " is over, taking it off the blacklist");
+            _blacklistedUntil.remove(host);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the failures within the window per node
+     */
+    synchronized Map<String, Integer> getRecentFailures(long now) {
+        Map<String, Integer> ret = new TreeMap<String, Integer>();
+        Iterator<Map.Entry<String, LinkedList<Long>>> it = _failures.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, LinkedList<Long>> e = it.next();
+            expire(e.getValue(), now);
+            if (e.getValue().isEmpty()) {
+                it.remove();
+            } else {
+                ret.put(e.getKey(), e.getValue().size());
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return the end of the cooldown per blacklisted node
+     */
+    synchronized Map<String, Long> getBlacklist(long now) {
+        Map<String, Long> ret = new TreeMap<String, Long>();
+        Iterator<Map.Entry<String, Long>> it = _blacklistedUntil.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> e = it.next();
+            if (e.getValue() <= now) {
+                it.remove();
+            } else {
+                ret.put(e.getKey(), e.getValue());
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Built-in supervisor placement strategies, selected by master.placement.policy:
+ * <ul>
+ * <li>any: no locality hints, every container is accepted.</li>
+ * <li>spread: avoid stacking more than master.placement.max-per-node
+ * supervisors on one NodeManager.</li>
+ * <li>pack: keep supervisors on as few racks as possible, so that
+ * worker-to-worker traffic stays within a rack.</li>
+ * <li>rack: distribute supervisors evenly over master.placement.racks.</li>
+ * </ul>
+ * Host allow/deny lists (master.placement.hosts.allow/deny) apply on top of
+ * whichever strategy is in use, see {@link HostFilter}.
+ */
+class PlacementPolicies {
+    private static final Logger LOG = LoggerFactory.getLogger(PlacementPolicies.class);
+
+    static SupervisorPlacementPolicy fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+        Object name = storm_conf.get(Config.MASTER_PLACEMENT_POLICY);
+        String policyName = name == null ? "any" : name.toString().trim();
+        SupervisorPlacementPolicy policy;
+        if (policyName.equals("any")) {
+            policy = new Any();
+        } else if (policyName.equals("spread")) {
+            policy = new Spread();
+        } else if (policyName.equals("pack")) {
+            policy = new Pack();
+        } else if (policyName.equals("rack")) {
+            policy = new RackAware();
+        } else {
+            try {
+                policy = (SupervisorPlacementPolicy) Class.forName(policyName)
+                        .getDeclaredConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                // thrown by the constructor of the policy
+                throw new IllegalArgumentException("Unable to create placement policy " + policyName
+                        + " of " + Config.MASTER_PLACEMENT_POLICY, e.getCause());
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Unable to load placement policy " + policyName
+                        + " of " + Config.MASTER_PLACEMENT_POLICY, e);
+            }
+        }
+        policy.prepare(storm_conf);
+        LOG.info("Supervisor placement policy: " + policyName);
+        return policy;
+    }
+
+    @SuppressWarnings("rawtypes")
+    static List<String> getStringList(Map storm_conf, String key) {
+        Object value = storm_conf.get(key);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<String> ret = new ArrayList<String>();
+        if (value instanceof List) {
+            for (Object o : (List) value) {
+                ret.add(o.toString());
+            }
+        } else {
+            for (String s : value.toString().split(",")) {
+                if (s.trim().length() > 0) {
+                    ret.add(s.trim());
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Accepts hosts matching any regex of master.placement.hosts.allow (all
+     * hosts if the list is empty) unless they match a regex of
+     * master.placement.hosts.deny.
+     */
+    static class HostFilter {
+        private final List<Pattern> _allow = new ArrayList<Pattern>();
+        private final List<Pattern> _deny = new ArrayList<Pattern>();
+
+        HostFilter(List<String> allow, List<String> deny) {
+            for (String regex : allow) {
+                _allow.add(Pattern.compile(regex));
+            }
+            for (String regex : deny) {
+                _deny.add(Pattern.compile(regex));
+            }
+        }
+
+        static HostFilter fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+            return new HostFilter(getStringList(storm_conf, Config.MASTER_PLACEMENT_HOSTS_ALLOW),
+                    getStringList(storm_conf, Config.MASTER_PLACEMENT_HOSTS_DENY));
+        }
+
+        boolean allows(String host) {
+            for (Pattern p : _deny) {
+                if (p.matcher(host).matches()) {
+                    return false;
+                }
+            }
+            if (_allow.isEmpty()) {
+                return true;
+            }
+            for (Pattern p : _allow) {
+                if (p.matcher(host).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static class Any implements SupervisorPlacementPolicy {
+        @Override
+        public void prepare(@SuppressWarnings("rawtypes") Map storm_conf) {
+        }
+
+        @Override
+        public Placement nextPlacement(View view) {
+            return Placement.ANYWHERE;
+        }
+
+        @Override
+        public boolean accept(String host, String rack, View view) {
+            return true;
+        }
+    }
+
+    static class Spread implements SupervisorPlacementPolicy {
+        private int _maxPerNode;
+
+        @Override
+        public void prepare(@SuppressWarnings("rawtypes") Map storm_conf) {
+            _maxPerNode = Math.max(1, Utils.getInt(storm_conf.get(Config.MASTER_PLACEMENT_MAX_PER_NODE)));
+        }
+
+        @Override
+        public Placement nextPlacement(View view) {
+            return Placement.ANYWHERE;
+        }
+
+        @Override
+        public boolean accept(String host, String rack, View view) {
+            return view.supervisorsOnHost(host) < _maxPerNode;
+        }
+    }
+
+    static class Pack implements SupervisorPlacementPolicy {
+        @Override
+        public void prepare(@SuppressWarnings("rawtypes") Map storm_conf) {
+        }
+
+        @Override
+        public Placement nextPlacement(View view) {
+            String fullest = null;
+            int max = 0;
+            for (Map.Entry<String, Integer> e : view.supervisorsPerRack().entrySet()) {
+                if (e.getValue() > max) {
+                    fullest = e.getKey();
+                    max = e.getValue();
+                }
+            }
+            if (fullest == null) {
+                return Placement.ANYWHERE;
+            }
+            return new Placement(null, new String[] { fullest });
+        }
+
+        @Override
+        public boolean accept(String host, String rack, View view) {
+            return view.supervisorsPerRack().isEmpty() || view.supervisorsOnRack(rack) > 0;
+        }
+    }
+
+    static class RackAware implements SupervisorPlacementPolicy {
+        private List<String> _racks;
+
+        @Override
+        public void prepare(@SuppressWarnings("rawtypes") Map storm_conf) {
+            _racks = getStringList(storm_conf, Config.MASTER_PLACEMENT_RACKS);
+            if (_racks.isEmpty()) {
+                throw new IllegalArgumentException(Config.MASTER_PLACEMENT_RACKS
+                        + " must list at least one rack for the rack placement policy");
+            }
+        }
+
+        @Override
+        public Placement nextPlacement(View view) {
+            String emptiest = null;
+            int min = Integer.MAX_VALUE;
+            for (String rack : _racks) {
+                int count = view.supervisorsOnRack(rack);
+                if (count < min) {
+                    emptiest = rack;
+                    min = count;
+                }
+            }
+            return new Placement(null, new String[] { emptiest });
+        }
+
+        @Override
+        public boolean accept(String host, String rack, View view) {
+            return _racks.contains(rack);
+        }
+    }
+}
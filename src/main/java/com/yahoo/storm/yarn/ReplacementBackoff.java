@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Map;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Exponential backoff for replacing failed supervisors.  Every failure in a
+ * row doubles the delay before the next replacement is requested, from
+ * master.replacement.backoff.initial.millis up to
+ * master.replacement.backoff.max.millis.  The streak ends once no failure
+ * was seen for the maximum delay.  A container given back because its
+ * node is blacklisted counts as a failure too, so that the AM does not ask
+ * for, and get, the same container on every heartbeat.
+ */
+class ReplacementBackoff {
+    private final long _initialMillis;
+    private final long _maxMillis;
+    private int _consecutiveFailures = 0;
+    private long _lastFailureMillis = 0;
+    private long _notBeforeMillis = 0;
+
+    ReplacementBackoff(long initialMillis, long maxMillis) {
+        _initialMillis = initialMillis;
+        _maxMillis = Math.max(initialMillis, maxMillis);
+    }
+
+    static ReplacementBackoff fromConf(@SuppressWarnings("rawtypes") Map storm_conf) {
+        return new ReplacementBackoff(
+                Utils.getInt(storm_conf.get(Config.MASTER_REPLACEMENT_BACKOFF_INITIAL_MILLIS)),
+                Utils.getInt(storm_conf.get(Config.MASTER_REPLACEMENT_BACKOFF_MAX_MILLIS)));
+    }
+
+    /**
+     * @return the delay before replacements may be requested again
+     */
+    synchronized long failed(long now) {
+        if (_initialMillis <= 0) {
+            return 0;
+        }
+        if (now - _lastFailureMillis > _maxMillis) {
+            _consecutiveFailures = 0;
+        }
+        _lastFailureMillis = now;
+        long delay = _initialMillis << Math.min(_consecutiveFailures, 30);
+        delay = Math.min(delay, _maxMillis);
+        _consecutiveFailures++;
+        _notBeforeMillis = now + delay;
+        return delay;
+    }
+
+    synchronized boolean mayRequest(long now) {
+        return now >= _notBeforeMillis;
+    }
+}
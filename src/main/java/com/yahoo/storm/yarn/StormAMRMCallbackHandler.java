@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.List;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerStatus;
+import org.apache.hadoop.yarn.api.records.NodeReport;
+import org.apache.hadoop.yarn.client.api.async.AMRMClientAsync;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reacts to the allocate responses delivered by {@link AMRMClientAsync}.
+ * The heartbeat itself is driven by the async client; this handler only
+ * turns allocated and completed containers into supervisor work.
+ */
+class StormAMRMCallbackHandler implements AMRMClientAsync.CallbackHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(StormAMRMCallbackHandler.class);
+
+    private final StormAMRMClient _client;
+    private final SupervisorLauncher _launcher;
+    private final StormMasterServerHandler _handler;
+    private final AdaptiveHeartbeat _heartbeat;
+    private volatile AMRMClientAsync<?> _amrmClient;
+
+    StormAMRMCallbackHandler(StormAMRMClient client,
+            SupervisorLauncher launcher,
+            StormMasterServerHandler handler,
+            AdaptiveHeartbeat heartbeat) {
+        _client = client;
+        _launcher = launcher;
+        _handler = handler;
+        _heartbeat = heartbeat;
+    }
+
+    /**
+     * Sets the async client whose heartbeat interval is adapted after
+     * every allocate response. Has no effect without an AdaptiveHeartbeat.
+     */
+    void setAMRMClientAsync(AMRMClientAsync<?> amrmClient) {
+        _amrmClient = amrmClient;
+    }
+
+    @Override
+    public void onContainersAllocated(List<Container> allocatedContainers) {
+        LOG.info("HB: Received allocated containers (" + allocatedContainers.size() + ")");
+        // Add newly allocated containers to the client, which gives back
+        // the ones that are not needed.
+        List<Container> accepted = _client.addAllocatedContainers(allocatedContainers);
+        if (!accepted.isEmpty()) {
+            LOG.info("HB: Supervisors are to run, so queueing (" + accepted.size() + ") containers...");
+            _launcher.launch(accepted);
+        }
+    }
+
+    @Override
+    public void onContainersCompleted(List<ContainerStatus> completedContainers) {
+        LOG.info("HB: Containers completed (" + completedContainers.size() + ")");
+        _client.removeCompletedContainers(completedContainers);
+        _client.reconcile();
+    }
+
+    @Override
+    public void onShutdownRequest() {
+        LOG.info("Got AM_SHUTDOWN or AM_RESYNC from the RM");
+        _handler.stop();
+        System.exit(0);
+    }
+
+    @Override
+    public void onNodesUpdated(List<NodeReport> updatedNodes) {
+        LOG.debug("HB: Nodes updated (" + updatedNodes.size() + ")");
+    }
+
+    @Override
+    public float getProgress() {
+        // Called by the async client after each allocate response has been
+        // handled, which makes it the place to converge on the desired
+        // supervisors and to pick the next interval.
+        _client.reconcile();
+        AMRMClientAsync<?> amrmClient = _amrmClient;
+        if (_heartbeat != null && amrmClient != null) {
+            boolean busy = _client.hasPendingRequests() || _launcher.getPendingLaunches() > 0;
+            int previous = _heartbeat.currentInterval();
+            int interval = _heartbeat.nextInterval(busy);
+            if (interval != previous) {
+                LOG.debug("HB: interval is now " + interval + " ms");
+                amrmClient.setHeartbeatInterval(interval);
+            }
+        }
+        // We always send 50% progress.
+        return 0.5f;
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        // Something happened we could not handle.  Make sure the AM goes
+        // down so that we are not surprised later on that our heart
+        // stopped..
+        LOG.error("Unhandled error in AM: ", t);
+        _handler.stop();
+        System.exit(1);
+    }
+}
@@ -18,36 +18,40 @@ package com.yahoo.storm.yarn;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.DataOutputBuffer;
 import org.apache.hadoop.security.Credentials;
+import org.apache.hadoop.security.token.Token;
 import org.apache.hadoop.yarn.api.ApplicationConstants;
+import org.apache.hadoop.yarn.api.protocolrecords.AllocateResponse;
 import org.apache.hadoop.yarn.api.records.ApplicationAttemptId;
 import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerExitStatus;
 import org.apache.hadoop.yarn.api.records.ContainerId;
 import org.apache.hadoop.yarn.api.records.ContainerLaunchContext;
+import org.apache.hadoop.yarn.api.records.ContainerStatus;
 import org.apache.hadoop.yarn.api.records.LocalResource;
 import org.apache.hadoop.yarn.api.records.LocalResourceType;
 import org.apache.hadoop.yarn.api.records.LocalResourceVisibility;
 import org.apache.hadoop.yarn.api.records.Priority;
 import org.apache.hadoop.yarn.api.records.Resource;
 import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.apache.hadoop.yarn.exceptions.YarnException;
+import org.apache.hadoop.yarn.util.RackResolver;
 import org.apache.hadoop.yarn.util.Records;
 
 import org.apache.hadoop.yarn.client.api.AMRMClient.ContainerRequest;
-import org.apache.hadoop.yarn.client.api.NMClient;
 import org.apache.hadoop.yarn.client.api.impl.AMRMClientImpl;
-import org.apache.hadoop.yarn.client.api.impl.NMClientImpl;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,13 +64,39 @@ class StormAMRMClient extends AMRMClientImpl<ContainerRequest>  {
   @SuppressWarnings("rawtypes")
   private final Map storm_conf;
   private final YarnConfiguration hadoopConf;
-  private final Priority DEFAULT_PRIORITY = Records.newRecord(Priority.class);
-  private final Set<Container> containers;
+  private final Map<String, SupervisorProfile> profiles;
+  private final ContainerRegistry registry = new ContainerRegistry();
   private volatile boolean supervisorsAreToRun = false;
-  private AtomicInteger numSupervisors;
-  private Resource maxResourceCapability;
+  // guards desiredSupervisors, outstandingRequests, placementRejections,
+  // failedSupervisors and the sticky replacement state
+  private final Object requestLock = new Object();
+  private final Map<String, Integer> desiredSupervisors = new HashMap<String, Integer>();
+  private final List<ContainerRequest> outstandingRequests = new ArrayList<ContainerRequest>();
+  private final SupervisorPlacementPolicy placementPolicy;
+  private final PlacementPolicies.HostFilter hostFilter;
+  private final int maxPlacementRejections;
+  private int placementRejections = 0;
+  private final NodeFailureTracker nodeFailures;
+  private final ClusterEventLog events;
+  private final Map<String, ReplacementBackoff> backoffs = new HashMap<String, ReplacementBackoff>();
+  private final boolean stickyReplacement;
+  private final long stickyTimeoutMillis;
+  private final Map<String, LinkedList<String>> lostHosts = new HashMap<String, LinkedList<String>>();
+  private final Map<ContainerRequest, StickyRequest> stickyRequests =
+      new HashMap<ContainerRequest, StickyRequest>();
+  private int replacements = 0;
+  private int warmReplacements = 0;
+  // supervisors that exited or could not be launched, per profile
+  private final Map<String, Integer> failedSupervisors = new HashMap<String, Integer>();
+  private volatile long lastHeartbeatMillis = 0;
+  private volatile long lastHeartbeatLatencyMillis = -1;
+  private volatile Resource maxResourceCapability;
   private ApplicationAttemptId appAttemptId;
-  private NMClientImpl nmClient;
+  private SupervisorConfArtifacts confArtifacts;
+  // launch context templates per profile, rebuilt when the Storm
+  // configuration or the security tokens change
+  private final Map<String, SupervisorLaunchTemplate> launchTemplates =
+      new HashMap<String, SupervisorLaunchTemplate>();
 
   public StormAMRMClient(ApplicationAttemptId appAttemptId,
                          @SuppressWarnings("rawtypes") Map storm_conf,
@@ -74,87 +104,733 @@ class StormAMRMClient extends AMRMClientImpl<ContainerRequest>  {
     this.appAttemptId = appAttemptId;
     this.storm_conf = storm_conf;
     this.hadoopConf = hadoopConf;
-    Integer pri = Utils.getInt(storm_conf.get(Config.MASTER_CONTAINER_PRIORITY));
-    this.DEFAULT_PRIORITY.setPriority(pri);
-    this.containers = new TreeSet<Container>();
-    numSupervisors = new AtomicInteger(0);
+    this.profiles = SupervisorProfile.fromConf(storm_conf);
+    LOG.info("Supervisor profiles: " + this.profiles.values());
+    this.placementPolicy = PlacementPolicies.fromConf(storm_conf);
+    this.hostFilter = PlacementPolicies.HostFilter.fromConf(storm_conf);
+    this.maxPlacementRejections =
+        Utils.getInt(storm_conf.get(Config.MASTER_PLACEMENT_MAX_REJECTIONS));
+    this.nodeFailures = NodeFailureTracker.fromConf(storm_conf);
+    this.events = ClusterEventLog.fromConf(storm_conf);
+    for (String profile : profiles.keySet()) {
+      backoffs.put(profile, ReplacementBackoff.fromConf(storm_conf));
+      lostHosts.put(profile, new LinkedList<String>());
+    }
+    Object sticky = storm_conf.get(Config.MASTER_REPLACEMENT_STICKY);
+    this.stickyReplacement = sticky == null || Boolean.parseBoolean(sticky.toString());
+    this.stickyTimeoutMillis =
+        Utils.getInt(storm_conf.get(Config.MASTER_REPLACEMENT_STICKY_TIMEOUT_MILLIS));
+  }
+
+  ApplicationAttemptId getAppAttemptId() {
+    return appAttemptId;
+  }
+
+  NodeFailureTracker getNodeFailures() {
+    return nodeFailures;
+  }
+
+  ClusterEventLog getEvents() {
+    return events;
+  }
+
+  ContainerRegistry getRegistry() {
+    return registry;
+  }
+
+  /**
+   * @return the names of the supervisor profiles, in configuration order
+   */
+  List<String> getProfileNames() {
+    return new ArrayList<String>(profiles.keySet());
+  }
+
+  /**
+   * Times the heartbeat, which the async client drives through this call.
+   */
+  @Override
+  public AllocateResponse allocate(float progressIndicator) throws YarnException, IOException {
+    long start = System.currentTimeMillis();
+    AllocateResponse response = super.allocate(progressIndicator);
+    long end = System.currentTimeMillis();
+    lastHeartbeatLatencyMillis = end - start;
+    lastHeartbeatMillis = end;
+    return response;
+  }
 
-    // start am nm client
-    nmClient = (NMClientImpl) NMClient.createNMClient();
-    nmClient.init(hadoopConf);
-    nmClient.start();
+  /**
+   * @return when the last heartbeat was answered by the RM, or 0 if none was
+   */
+  public long getLastHeartbeatMillis() {
+    return lastHeartbeatMillis;
   }
 
-  public synchronized void startAllSupervisors() {
+  /**
+   * @return how long the RM took to answer the last heartbeat, or -1 if it
+   * has not answered one yet
+   */
+  public long getLastHeartbeatLatencyMillis() {
+    return lastHeartbeatLatencyMillis;
+  }
+
+  public void startAllSupervisors() {
     LOG.debug("Starting all supervisors, requesting containers...");
     this.supervisorsAreToRun = true;
-    this.addSupervisorsRequest();
+    events.record(ClusterEventLog.DAEMON_STARTED, "supervisors");
+    reconcile();
   }
   
-  public synchronized void stopAllSupervisors() {
+  public void stopAllSupervisors() {
     LOG.debug("Stopping all supervisors, releasing all containers...");
     this.supervisorsAreToRun = false;
-    releaseAllSupervisorsRequest();
+    events.record(ClusterEventLog.DAEMON_STOPPED, "supervisors");
+    reconcile();
   }
 
-  private void addSupervisorsRequest() {
-    int num = numSupervisors.getAndSet(0);
+  /**
+   * Converge every profile on its desired number of supervisors: request
+   * the missing ones, and once there are too many, cancel outstanding
+   * requests first and then release the containers that have done the
+   * least work.  While supervisors are not to run the desired number is 0.
+   * Called on every heartbeat and whenever the desired numbers change.
+   */
+  public void reconcile() {
+    List<ContainerId> toRelease = new ArrayList<ContainerId>();
+    synchronized (requestLock) {
+      relaxStickyRequests(System.currentTimeMillis());
+      for (SupervisorProfile profile : profiles.values()) {
+        int target = getTarget(profile);
+        List<SupervisorContainer> live = getLiveContainers(profile);
+        List<ContainerRequest> pending = getOutstandingRequests(profile);
+        int deficit = target - live.size() - pending.size();
+        if (deficit > 0) {
+          if (backoffs.get(profile.getName()).mayRequest(System.currentTimeMillis())) {
+            addSupervisorsRequest(profile, deficit);
+          } else {
+            LOG.debug("Backing off before replacing " + deficit + " " + profile + " supervisors");
+          }
+        } else if (deficit < 0) {
+          int surplus = -deficit;
+          LOG.info("Reconciling " + profile + ": " + target + " desired, " + live.size()
+              + " held and " + pending.size() + " requested");
+          // the newest requests are the least likely to be satisfied soon
+          for (int i = pending.size() - 1; i >= 0 && surplus > 0; i--, surplus--) {
+            outstandingRequests.remove(pending.get(i));
+            stickyRequests.remove(pending.get(i));
+            super.removeContainerRequest(pending.get(i));
+          }
+          lostHosts.get(profile.getName()).clear();
+          Collections.sort(live, LEAST_WORK_FIRST);
+          for (int i = 0; i < live.size() && surplus > 0; i++) {
+            SupervisorContainer sc = live.get(i);
+            if (sc.moveTo(SupervisorContainer.State.RELEASED)) {
+              toRelease.add(sc.getId());
+              surplus--;
+            }
+          }
+        }
+      }
+    }
+    for (ContainerId id : toRelease) {
+      LOG.info("Releasing surplus container (id:"+id+")");
+      releaseAssignedContainer(id);
+    }
+  }
+
+  /**
+   * Orders containers that have not started a supervisor yet first, and
+   * younger containers before older ones.
+   */
+  private static final Comparator<SupervisorContainer> LEAST_WORK_FIRST =
+      new Comparator<SupervisorContainer>() {
+        @Override
+        public int compare(SupervisorContainer a, SupervisorContainer b) {
+          int byState = a.getState().compareTo(b.getState());
+          if (byState != 0) {
+            return byState;
+          }
+          return a.getStateChangedMillis() < b.getStateChangedMillis() ? 1
+              : (a.getStateChangedMillis() == b.getStateChangedMillis() ? 0 : -1);
+        }
+      };
+
+  private int getTarget(SupervisorProfile profile) {
+    if (!supervisorsAreToRun) {
+      return 0;
+    }
+    Integer desired = desiredSupervisors.get(profile.getName());
+    return desired == null ? 0 : desired;
+  }
+
+  private List<SupervisorContainer> getLiveContainers(SupervisorProfile profile) {
+    List<SupervisorContainer> ret = new ArrayList<SupervisorContainer>();
+    for (SupervisorContainer sc : registry.live()) {
+      if (sc.getProfile() == profile) {
+        ret.add(sc);
+      }
+    }
+    return ret;
+  }
+
+  private List<ContainerRequest> getOutstandingRequests(SupervisorProfile profile) {
+    List<ContainerRequest> ret = new ArrayList<ContainerRequest>();
+    for (ContainerRequest req : outstandingRequests) {
+      if (req.getPriority().equals(profile.getPriority())) {
+        ret.add(req);
+      }
+    }
+    return ret;
+  }
+
+  private void addSupervisorsRequest(SupervisorProfile profile, int num) {
+    Resource capability = profile.getCapability(storm_conf, maxResourceCapability);
+    LOG.info("Requesting " + num + " " + profile + " supervisor containers of " + capability);
     for (int i=0; i<num; i++) {
-      ContainerRequest req = new ContainerRequest(this.maxResourceCapability,
-              null, // String[] nodes,
-              null, // String[] racks,
-              DEFAULT_PRIORITY);
+      String host = nextLostHost(profile);
+      ContainerRequest req;
+      if (host != null) {
+        // the NM there most likely still has storm.zip localized
+        LOG.info("Requesting replacement " + profile + " supervisor on " + host);
+        req = new ContainerRequest(capability,
+            new String[] { host },
+            new String[] { resolveRack(host) },
+            profile.getPriority());
+        stickyRequests.put(req, new StickyRequest(host, System.currentTimeMillis()));
+      } else {
+        SupervisorPlacementPolicy.Placement placement =
+            placementPolicy.nextPlacement(new PlacementView());
+        req = new ContainerRequest(capability,
+            withoutBlacklisted(placement.getNodes()),
+            placement.getRacks(),
+            profile.getPriority());
+      }
       super.addContainerRequest(req);
+      outstandingRequests.add(req);
     }
   }
-  
-  public synchronized boolean addAllocatedContainers(List<Container> containers) {
-    for (int i=0; i<containers.size(); i++) {
-      ContainerRequest req = new ContainerRequest(this.maxResourceCapability,
-              null, // String[] nodes,
-              null, // String[] racks,
-              DEFAULT_PRIORITY);
+
+  /**
+   * @return the most recent host that lost a supervisor of the profile and
+   * may run its replacement, or null
+   */
+  private String nextLostHost(SupervisorProfile profile) {
+    LinkedList<String> hosts = lostHosts.get(profile.getName());
+    while (!hosts.isEmpty()) {
+      String host = hosts.removeLast();
+      if (hostFilter.allows(host) && !nodeFailures.isBlacklisted(host)
+          && placementPolicy.accept(host, resolveRack(host), new PlacementView())) {
+        return host;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Replacement requests still pinned to a node after
+   * master.replacement.sticky.timeout.millis are widened to the node's rack.
+   * They are relaxed requests already, but schedulers without delay
+   * scheduling would otherwise leave them to the ANY ask right away.
+   */
+  private void relaxStickyRequests(long now) {
+    List<ContainerRequest> expired = new ArrayList<ContainerRequest>();
+    for (Map.Entry<ContainerRequest, StickyRequest> e : stickyRequests.entrySet()) {
+      if (e.getKey().getNodes() != null && now - e.getValue().since >= stickyTimeoutMillis) {
+        expired.add(e.getKey());
+      }
+    }
+    for (ContainerRequest req : expired) {
+      StickyRequest sticky = stickyRequests.remove(req);
+      LOG.info("No container on " + sticky.host + " after " + (now - sticky.since)
+          + " ms, asking for its rack instead");
+      ContainerRequest relaxed = new ContainerRequest(req.getCapability(),
+          null,
+          req.getRacks().toArray(new String[req.getRacks().size()]),
+          req.getPriority());
+      outstandingRequests.remove(req);
       super.removeContainerRequest(req);
+      super.addContainerRequest(relaxed);
+      outstandingRequests.add(relaxed);
+      stickyRequests.put(relaxed, sticky);
     }
-    return this.containers.addAll(containers);
   }
 
-  private synchronized void releaseAllSupervisorsRequest() {
-    Iterator<Container> it = this.containers.iterator();
-    ContainerId id;
-    while (it.hasNext()) {
-      id = it.next().getId();
-      LOG.debug("Releasing container (id:"+id+")");
-      releaseAssignedContainer(id);
-      it.remove();
+  private static class StickyRequest {
+    final String host;
+    final long since;
+
+    StickyRequest(String host, long since) {
+      this.host = host;
+      this.since = since;
     }
   }
   
-  public synchronized boolean supervisorsAreToRun() {
+  private String[] withoutBlacklisted(String[] nodes) {
+    if (nodes == null) {
+      return null;
+    }
+    List<String> ret = new ArrayList<String>(nodes.length);
+    for (String node : nodes) {
+      if (!nodeFailures.isBlacklisted(node)) {
+        ret.add(node);
+      }
+    }
+    return ret.isEmpty() ? null : ret.toArray(new String[ret.size()]);
+  }
+
+  /**
+   * Record newly allocated containers, and give back the ones the placement
+   * policy or host filter rejects.
+   * @return the containers to launch supervisors on
+   */
+  public List<Container> addAllocatedContainers(List<Container> containers) {
+    List<Container> accepted = new ArrayList<Container>(containers.size());
+    for (Container container : containers) {
+      String host = container.getNodeId().getHost();
+      String rack = resolveRack(host);
+      SupervisorProfile profile = getProfile(container.getPriority());
+      SupervisorContainer sc = registry.add(container, profile, rack);
+      events.record(ClusterEventLog.CONTAINER_ALLOCATED, container.getId(), host, 0,
+          profile.getName());
+      String rejection = null;
+      synchronized (requestLock) {
+        ContainerRequest satisfied = removeSatisfiedRequest(container.getPriority(),
+            container.getResource(), host, rack);
+        StickyRequest sticky = stickyRequests.remove(satisfied);
+        if (sticky != null) {
+          replacements++;
+          if (sticky.host.equals(host)) {
+            warmReplacements++;
+          }
+          LOG.info("Replacement supervisor container (id:" + container.getId() + ") allocated on "
+              + host + (sticky.host.equals(host) ? ", a warm node" : " instead of " + sticky.host)
+              + " (" + warmReplacements + "/" + replacements + " replacements on warm nodes)");
+        }
+        if (!hostFilter.allows(host)) {
+          LOG.info("Host " + host + " is not allowed to run supervisors, releasing container (id:"
+              + container.getId() + ")");
+          rejection = "host not allowed";
+        } else if (nodeFailures.isBlacklisted(host)) {
+          // if that node is the only one with room, asking again right away
+          // would get the same container back on every heartbeat
+          long delay = backoffs.get(profile.getName()).failed(System.currentTimeMillis());
+          LOG.info("Host " + host + " is blacklisted, releasing container (id:"
+              + container.getId() + ") and asking again in no less than " + delay + " ms");
+          rejection = "host blacklisted";
+        } else if (getLiveContainers(profile).size() > getTarget(profile)) {
+          LOG.info("No more " + profile + " supervisors are needed, releasing container (id:"
+              + container.getId() + ")");
+          rejection = "not needed";
+        } else if (!placementPolicy.accept(host, rack, new PlacementView(container.getId()))
+            && placementRejections < maxPlacementRejections) {
+          placementRejections++;
+          LOG.info("Placement policy rejected host " + host + " (" + rack + "), releasing container (id:"
+              + container.getId() + ")");
+          rejection = "rejected by placement policy";
+        } else {
+          placementRejections = 0;
+        }
+      }
+      if (rejection == null) {
+        accepted.add(container);
+      } else {
+        sc.moveTo(SupervisorContainer.State.RELEASED);
+        releaseAssignedContainer(container.getId());
+        events.record(ClusterEventLog.CONTAINER_RELEASED, container.getId(), host, 0, rejection);
+      }
+    }
+    return accepted;
+  }
+
+  /**
+   * Remove the outstanding request an allocated container most likely
+   * satisfied, so that the node and rack asks sent to the RM stay in step
+   * with the ANY ask.
+   * @return the removed request, or null if there was none
+   */
+  private ContainerRequest removeSatisfiedRequest(Priority priority, Resource resource,
+                                                  String host, String rack) {
+    // After a profile or configuration change, requests of different sizes
+    // can share a priority.  Only the requests the container is big enough
+    // for count, and of those the ones closest to its size, so that an old
+    // container does not cancel a request for the new size.
+    List<ContainerRequest> samePriority = new ArrayList<ContainerRequest>();
+    List<ContainerRequest> candidates = new ArrayList<ContainerRequest>();
+    Resource closest = null;
+    for (ContainerRequest req : outstandingRequests) {
+      if (!req.getPriority().equals(priority)) {
+        continue;
+      }
+      samePriority.add(req);
+      Resource capability = req.getCapability();
+      if (!fits(capability, resource)) {
+        continue;
+      }
+      if (closest == null || !fits(capability, closest)) {
+        candidates.clear();
+        closest = capability;
+      }
+      if (fits(closest, capability)) {
+        candidates.add(req);
+      }
+    }
+    if (candidates.isEmpty()) {
+      // the scheduler may hand out less than asked for, e.g. vcores it
+      // does not account for
+      candidates = samePriority;
+    }
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    ContainerRequest satisfied = null;
+    for (ContainerRequest req : candidates) {
+      if (req.getNodes() != null && req.getNodes().contains(host)) {
+        satisfied = req;
+        break;
+      }
+    }
+    if (satisfied == null) {
+      for (ContainerRequest req : candidates) {
+        if (req.getRacks() != null && req.getRacks().contains(rack)) {
+          satisfied = req;
+          break;
+        }
+      }
+    }
+    if (satisfied == null) {
+      satisfied = candidates.get(0);
+    }
+    outstandingRequests.remove(satisfied);
+    super.removeContainerRequest(satisfied);
+    return satisfied;
+  }
+
+  // whether a container of the available size holds the requested one
+  private static boolean fits(Resource requested, Resource available) {
+    return requested.getMemory() <= available.getMemory()
+        && requested.getVirtualCores() <= available.getVirtualCores();
+  }
+
+  /**
+   * @return the profile requested at the given priority, or the default
+   * profile if the priority is unknown
+   */
+  private SupervisorProfile getProfile(Priority priority) {
+    for (SupervisorProfile profile : profiles.values()) {
+      if (profile.getPriority().equals(priority)) {
+        return profile;
+      }
+    }
+    return profiles.get(SupervisorProfile.DEFAULT);
+  }
+
+  /**
+   * Forget about containers the RM reports as completed.  Lost supervisors
+   * are replaced by the next {@link #reconcile()}; if they failed, that
+   * counts against their node and delays the replacement.
+   * @return the completed containers that were known to the registry
+   */
+  public List<SupervisorContainer> removeCompletedContainers(List<ContainerStatus> statuses) {
+    List<SupervisorContainer> completed = new ArrayList<SupervisorContainer>();
+    for (ContainerStatus status : statuses) {
+      SupervisorContainer sc = registry.get(status.getContainerId());
+      SupervisorContainer.State state = sc == null ? null : sc.getState();
+      boolean released = state == SupervisorContainer.State.RELEASED;
+      registry.complete(status.getContainerId());
+      if (sc == null) {
+        continue;
+      }
+      completed.add(sc);
+      events.record(ClusterEventLog.CONTAINER_COMPLETED, sc.getId(), sc.getHost(),
+          status.getExitStatus(), status.getDiagnostics());
+      if (stickyReplacement && state == SupervisorContainer.State.RUNNING) {
+        synchronized (requestLock) {
+          lostHosts.get(sc.getProfile().getName()).add(sc.getHost());
+        }
+      }
+      if (!released && status.getExitStatus() != ContainerExitStatus.SUCCESS) {
+        LOG.info("Supervisor in container (id:" + sc.getId() + ") on " + sc.getHost()
+            + " failed with exit status " + status.getExitStatus() + ": " + status.getDiagnostics());
+        supervisorFailed(sc);
+      }
+    }
+    return completed;
+  }
+
+  private void supervisorFailed(SupervisorContainer sc) {
+    nodeFailures.recordFailure(sc.getHost());
+    synchronized (requestLock) {
+      Integer failed = failedSupervisors.get(sc.getProfile().getName());
+      failedSupervisors.put(sc.getProfile().getName(), failed == null ? 1 : failed + 1);
+    }
+    long delay = backoffs.get(sc.getProfile().getName()).failed(System.currentTimeMillis());
+    if (delay > 0) {
+      LOG.info("Replacing " + sc.getProfile() + " supervisors in no less than " + delay + " ms");
+    }
+  }
+
+  /**
+   * A supervisor could not be started on a container: count it against the
+   * node and give the container back.
+   */
+  public void launchFailed(ContainerId id) {
+    SupervisorContainer sc = registry.get(id);
+    if (sc != null) {
+      supervisorFailed(sc);
+    }
+    releaseContainer(id);
+  }
+
+  /**
+   * @return the number of replacement containers allocated so far
+   */
+  public int getReplacementCount() {
+    synchronized (requestLock) {
+      return replacements;
+    }
+  }
+
+  /**
+   * @return the number of replacement containers allocated on the node
+   * that lost the supervisor, where storm.zip was already localized
+   */
+  public int getWarmReplacementCount() {
+    synchronized (requestLock) {
+      return warmReplacements;
+    }
+  }
+
+  /**
+   * @return the number of supervisors of a profile that exited or could
+   * not be launched so far
+   */
+  public int getFailedSupervisorCount(String profile) {
+    synchronized (requestLock) {
+      Integer failed = failedSupervisors.get(profile);
+      return failed == null ? 0 : failed;
+    }
+  }
+
+  /**
+   * @return true if container requests have been sent to the RM and not
+   * yet been satisfied.
+   */
+  public boolean hasPendingRequests() {
+    synchronized (requestLock) {
+      return !outstandingRequests.isEmpty();
+    }
+  }
+
+  /**
+   * @return the number of outstanding container requests of a profile
+   */
+  public int getPendingRequestCount(String profile) {
+    checkProfile(profile);
+    synchronized (requestLock) {
+      return getOutstandingRequests(profiles.get(profile)).size();
+    }
+  }
+
+  List<ContainerRequest> getPendingRequests(String profile) {
+    checkProfile(profile);
+    synchronized (requestLock) {
+      return getOutstandingRequests(profiles.get(profile));
+    }
+  }
+
+  private static String resolveRack(String host) {
+    return RackResolver.resolve(host).getNetworkLocation();
+  }
+
+  /**
+   * Snapshot of the hosts and racks of the supervisors held right now.
+   */
+  private class PlacementView implements SupervisorPlacementPolicy.View {
+    private final Map<String, Integer> perHost = new HashMap<String, Integer>();
+    private final Map<String, Integer> perRack = new HashMap<String, Integer>();
+
+    PlacementView() {
+      this(null);
+    }
+
+    /**
+     * @param candidate a container that is already registered but that the
+     * policy is still asked about, so it must not count as held
+     */
+    PlacementView(ContainerId candidate) {
+      for (SupervisorContainer sc : registry.live()) {
+        if (!sc.getId().equals(candidate)) {
+          increment(perHost, sc.getHost());
+          increment(perRack, sc.getRack());
+        }
+      }
+    }
+
+    private void increment(Map<String, Integer> counts, String key) {
+      Integer count = counts.get(key);
+      counts.put(key, count == null ? 1 : count + 1);
+    }
+
+    @Override
+    public int supervisorsOnHost(String host) {
+      Integer count = perHost.get(host);
+      return count == null ? 0 : count;
+    }
+
+    @Override
+    public int supervisorsOnRack(String rack) {
+      Integer count = perRack.get(rack);
+      return count == null ? 0 : count;
+    }
+
+    @Override
+    public Map<String, Integer> supervisorsPerRack() {
+      return Collections.unmodifiableMap(perRack);
+    }
+  }
+
+  public boolean supervisorsAreToRun() {
     return this.supervisorsAreToRun;
   }
 
-  public synchronized void addSupervisors(int number) {
-    int num = numSupervisors.addAndGet(number);
-    if (this.supervisorsAreToRun) {
-      LOG.info("Added " + num + " supervisors, and requesting containers...");
-      addSupervisorsRequest();
-    } else {
-      LOG.info("Added " + num + " supervisors, but not requesting containers now.");
+  public void addSupervisors(int number) {
+    addSupervisors(number, SupervisorProfile.DEFAULT);
+  }
+
+  public void addSupervisors(int number, String profile) {
+    checkProfile(profile);
+    synchronized (requestLock) {
+      setSupervisorCount(getSupervisorCount(profile) + number, profile);
     }
   }
 
-  public void launchSupervisorOnContainer(Container container)
+  public void setSupervisorCount(int number) {
+    setSupervisorCount(number, SupervisorProfile.DEFAULT);
+  }
+
+  /**
+   * Set the desired number of supervisors of a profile.
+   */
+  public void setSupervisorCount(int number, String profile) {
+    checkProfile(profile);
+    if (number < 0) {
+      throw new IllegalArgumentException("Invalid number of supervisors " + number);
+    }
+    synchronized (requestLock) {
+      desiredSupervisors.put(profile, number);
+      events.record(ClusterEventLog.SUPERVISORS_WANTED, number + " " + profile);
+      if (this.supervisorsAreToRun) {
+        LOG.info("Want " + number + " " + profile + " supervisors, and requesting containers...");
+      } else {
+        LOG.info("Want " + number + " " + profile + " supervisors, but not requesting containers now.");
+      }
+    }
+    reconcile();
+  }
+
+  /**
+   * @return the desired number of supervisors of a profile
+   */
+  public int getSupervisorCount(String profile) {
+    synchronized (requestLock) {
+      Integer desired = desiredSupervisors.get(profile);
+      return desired == null ? 0 : desired;
+    }
+  }
+
+  private void checkProfile(String profile) {
+    if (!profiles.containsKey(profile)) {
+      throw new IllegalArgumentException("Unknown supervisor profile " + profile
+          + ", known profiles are " + profiles.keySet());
+    }
+  }
+
+  /**
+   * Give a container back to the RM, e.g. because a supervisor could not
+   * be launched on it.  The next reconciliation requests a replacement
+   * while supervisors are to run.
+   */
+  public void releaseContainer(ContainerId id) {
+    LOG.info("Releasing container (id:"+id+")");
+    SupervisorContainer sc = registry.get(id);
+    registry.transition(id, SupervisorContainer.State.RELEASED);
+    releaseAssignedContainer(id);
+    events.record(ClusterEventLog.CONTAINER_RELEASED, id, sc == null ? null : sc.getHost(), 0,
+        "given back");
+  }
+
+  private synchronized SupervisorConfArtifacts getConfArtifacts(FileSystem fs) {
+    if (confArtifacts == null) {
+      String appHome = Util.getApplicationHomeForId(appAttemptId.toString());
+      confArtifacts = new SupervisorConfArtifacts(fs, appHome, hadoopConf);
+    }
+    return confArtifacts;
+  }
+
+  /**
+   * The Storm configuration was changed, so supervisors launched from now
+   * on need the new one.  Templates are built holding launchTemplates, so
+   * the conf resources are forgotten under that lock too; otherwise a build
+   * that read the old configuration could cache its resource again.
+   */
+  public void stormConfChanged() {
+    events.record(ClusterEventLog.CONF_CHANGED, null);
+    SupervisorConfArtifacts artifacts;
+    synchronized (this) {
+      artifacts = confArtifacts;
+    }
+    synchronized (launchTemplates) {
+      if (artifacts != null) {
+        artifacts.invalidate();
+      }
+      launchTemplates.clear();
+    }
+  }
+
+  /**
+   * Build the launch context of a supervisor on the given container from
+   * its profile's template.  Building a template may write the supervisors'
+   * configuration to HDFS and so may block.
+   */
+  public ContainerLaunchContext createSupervisorLaunchContext(Container container)
       throws IOException {
-    // create a container launch context
-    ContainerLaunchContext launchContext = Records.newRecord(ContainerLaunchContext.class);
-    UserGroupInformation user = UserGroupInformation.getCurrentUser();
+    SupervisorContainer sc = registry.get(container.getId());
+    SupervisorProfile profile = sc == null ? getProfile(container.getPriority()) : sc.getProfile();
+    return getLaunchTemplate(profile).newLaunchContext();
+  }
+
+  private SupervisorLaunchTemplate getLaunchTemplate(SupervisorProfile profile)
+      throws IOException {
+    Credentials credentials = UserGroupInformation.getCurrentUser().getCredentials();
+    int tokensFingerprint = tokensFingerprint(credentials);
+    synchronized (launchTemplates) {
+      SupervisorLaunchTemplate template = launchTemplates.get(profile.getName());
+      if (template == null || !template.hasTokens(tokensFingerprint)) {
+        LOG.info("Building the launch context template of " + profile + " supervisors");
+        template = buildLaunchTemplate(profile, credentials, tokensFingerprint);
+        launchTemplates.put(profile.getName(), template);
+      }
+      return template;
+    }
+  }
+
+  private static int tokensFingerprint(Credentials credentials) {
+    int fingerprint = 0;
+    for (Token<?> token : credentials.getAllTokens()) {
+      fingerprint += token.hashCode();
+    }
+    return fingerprint;
+  }
+
+  private SupervisorLaunchTemplate buildLaunchTemplate(SupervisorProfile profile,
+      Credentials credentials, int tokensFingerprint) throws IOException {
+    @SuppressWarnings("rawtypes")
+    Map conf = profile.getConf(this.storm_conf);
+
+    ByteBuffer securityTokens = null;
     try {
-      Credentials credentials = user.getCredentials();
       DataOutputBuffer dob = new DataOutputBuffer();
       credentials.writeTokenStorageToStream(dob);
-      ByteBuffer securityTokens = ByteBuffer.wrap(dob.getData(), 0, dob.getLength());
-      launchContext.setTokens(securityTokens);
+      securityTokens = ByteBuffer.wrap(dob.getData(), 0, dob.getLength());
     } catch (IOException e) {
       LOG.warn("Getting current user info failed when trying to launch the container"
               + e.getMessage());
@@ -163,14 +839,13 @@ class StormAMRMClient extends AMRMClientImpl<ContainerRequest>  {
     // CLC: env
     Map<String, String> env = new HashMap<String, String>();
     env.put("STORM_LOG_DIR", ApplicationConstants.LOG_DIR_EXPANSION_VAR);
-    launchContext.setEnvironment(env);
 
     // CLC: local resources includes storm, conf
     Map<String, LocalResource> localResources = new HashMap<String, LocalResource>();
-    String storm_zip_path = (String) storm_conf.get("storm.zip.path");
+    String storm_zip_path = (String) conf.get("storm.zip.path");
     Path zip = new Path(storm_zip_path);
     FileSystem fs = FileSystem.get(hadoopConf);
-    String vis = (String) storm_conf.get("storm.zip.visibility");
+    String vis = (String) conf.get("storm.zip.visibility");
     if (vis.equals("PUBLIC"))
       localResources.put("storm", Util.newYarnAppResource(fs, zip,
               LocalResourceType.ARCHIVE, LocalResourceVisibility.PUBLIC));
@@ -181,33 +856,13 @@ class StormAMRMClient extends AMRMClientImpl<ContainerRequest>  {
       localResources.put("storm", Util.newYarnAppResource(fs, zip,
               LocalResourceType.ARCHIVE, LocalResourceVisibility.APPLICATION));
 
-    String appHome = Util.getApplicationHomeForId(appAttemptId.toString());
-    
-    String containerHome = appHome + Path.SEPARATOR + container.getId().getId();
-    
-    Path confDst = Util.createConfigurationFileInFs(fs, containerHome,
-                 this.storm_conf, this.hadoopConf);
-    
-    localResources.put("conf", Util.newYarnAppResource(fs, confDst));
-
-    launchContext.setLocalResources(localResources);
+    localResources.put("conf", getConfArtifacts(fs).get(profile, conf));
 
     // CLC: command
-    List<String> supervisorArgs = Util.buildSupervisorCommands(this.storm_conf);
-    launchContext.setCommands(supervisorArgs);
-
-    try {
-      LOG.info("Use NMClient to launch supervisors in container. ");
-      nmClient.startContainer(container, launchContext);
+    List<String> supervisorArgs = Util.buildSupervisorCommands(conf);
 
-      String userShortName = user.getShortUserName();
-      if (userShortName != null)
-        LOG.info("Supervisor log: http://" + container.getNodeHttpAddress() + "/node/containerlogs/"
-                + container.getId().toString() + "/" + userShortName + "/supervisor.log");
-    } catch (Exception e) {
-      LOG.error("Caught an exception while trying to start a container", e);
-      System.exit(-1);
-    }
+    return new SupervisorLaunchTemplate(securityTokens, tokensFingerprint,
+        env, localResources, supervisorArgs);
   }
 
   public void setMaxResource(Resource maximumResourceCapability) {
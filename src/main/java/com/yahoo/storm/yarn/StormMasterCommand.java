@@ -16,19 +16,41 @@
 
 package com.yahoo.storm.yarn;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Options;
 import org.apache.thrift7.TException;
+import org.apache.thrift7.TSerializer;
+import org.apache.thrift7.protocol.TSimpleJSONProtocol;
 import org.apache.thrift7.transport.TTransportException;
 import org.json.simple.JSONValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.yaml.snakeyaml.Yaml;
 
+import backtype.storm.utils.Utils;
+
 import com.yahoo.storm.yarn.Client.ClientCommand;
+import com.yahoo.storm.yarn.generated.ClusterEvent;
+import com.yahoo.storm.yarn.generated.ClusterEvents;
+import com.yahoo.storm.yarn.generated.ClusterState;
+import com.yahoo.storm.yarn.generated.ContainerState;
+import com.yahoo.storm.yarn.generated.DaemonState;
+import com.yahoo.storm.yarn.generated.NodeHealth;
+import com.yahoo.storm.yarn.generated.NodeState;
+import com.yahoo.storm.yarn.generated.ProfileState;
 import com.yahoo.storm.yarn.generated.StormMaster;
 
 class StormMasterCommand implements ClientCommand {
@@ -41,24 +63,50 @@ class StormMasterCommand implements ClientCommand {
         START_UI, 
         STOP_UI, 
         ADD_SUPERVISORS,
+        SET_SUPERVISORS,
+        GET_NODE_HEALTH,
+        WATCH_EVENTS,
+        STATUS,
         START_SUPERVISORS,
         STOP_SUPERVISORS,
         SHUTDOWN
     };
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int DEFAULT_TIMEOUT_SECS = 120;
+    // how long one watchEvents call waits for events with -follow
+    private static final int WATCH_WAIT_MILLIS = 20000;
+    // the least time between two watchEvents calls that bring no events,
+    // since the master answers at once when it is not to wait
+    private static final int WATCH_MIN_INTERVAL_MILLIS = 1000;
     COMMAND cmd;
+    AppConnections connections;
 
     StormMasterCommand(COMMAND cmd) {
+        this(AppConnections.perCommand(), cmd);
+    }
+
+    StormMasterCommand(AppConnections connections, COMMAND cmd) {
         this.cmd = cmd;
+        this.connections = connections;
     }
 
     @Override
     public Options getOpts() {
         Options opts = new Options();
         //TODO can we make this required
-        opts.addOption("appId", true, "(Required) The storm clusters app ID");
+        opts.addOption("appId", true, "(Required) The storm clusters app ID, repeat it or separate IDs by commas to run against several clusters");
+        opts.addOption("appIds", true, "File listing the app IDs to run against, one per line");
+        opts.addOption("queue", true, "Run against the running clusters in this RM queue");
+        opts.addOption("appname", true, "With -queue, the name the clusters were launched with. Default value - Storm-on-Yarn");
+        opts.addOption("parallelism", true, "Clusters to run against at once, " + DEFAULT_PARALLELISM + " by default");
+        opts.addOption("timeout", true, "Seconds to wait for each cluster, " + DEFAULT_TIMEOUT_SECS + " by default");
 
         opts.addOption("output", true, "Output file");
-        opts.addOption("supervisors", true, "(Required for addSupervisors) The # of supervisors to be added");
+        opts.addOption("supervisors", true, "(Required for addSupervisors/setSupervisors) The # of supervisors to be added, or to run");
+        opts.addOption("profile", true, "(Optional for addSupervisors/setSupervisors) The profile of the supervisors");
+        opts.addOption("since", true, "(Optional for watchEvents) Show the events after this sequence number");
+        opts.addOption("follow", false, "(Optional for watchEvents) Keep showing events as they happen");
+        opts.addOption("json", false, "(Optional for status) Print the cluster state as JSON");
         return opts;
     }
     
@@ -68,7 +116,7 @@ class StormMasterCommand implements ClientCommand {
     }
 
     @Override
-    public void process(CommandLine cl) throws Exception {
+    public void process(CommandLine cl, PrintStream out) throws Exception {
       
         String config_file = null;
         List remaining_args = cl.getArgList();
@@ -77,102 +125,506 @@ class StormMasterCommand implements ClientCommand {
         }
         Map stormConf = Config.readStormConfig(null);
       
-        String appId = cl.getOptionValue("appId");
-        if(appId == null) {
+        List<String> appIds = selectAppIds(cl);
+        if (appIds.isEmpty()) {
             throw new IllegalArgumentException("-appId is required");
         }
+        if (appIds.size() > 1 || cl.hasOption("appIds") || cl.hasOption("queue")) {
+            fanOut(cl, stormConf, appIds, out);
+            return;
+        }
+        String appId = appIds.get(0);
 
-        StormOnYarn storm = null;
+        // a copy, so that changes for this command stay out of stormConf
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> clientConf = new HashMap<Object, Object>(stormConf);
+        if (cmd == COMMAND.WATCH_EVENTS) {
+            // the socket must outlast a call waiting for events
+            clientConf.put(Config.MASTER_TIMEOUT_MILLIS, WATCH_WAIT_MILLIS + 10000);
+        }
+        StormMaster.Iface client = connections.attach(appId, clientConf);
         try {
-            storm = StormOnYarn.attachToApp(appId, stormConf);
-            StormMaster.Client client = storm.getClient();
             switch (cmd) {
             case GET_STORM_CONFIG:
-                downloadStormYaml(client, cl.getOptionValue("output"));
+                downloadStormYaml(client, cl.getOptionValue("output"), out);
                 break;
 
             case SET_STORM_CONFIG:
                 String storm_conf_str = JSONValue.toJSONString(stormConf);
-                try { 
-                    client.setStormConf(storm_conf_str);  
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.setStormConf(storm_conf_str);
                 break;
 
             case ADD_SUPERVISORS:
                 String supversiors = cl.getOptionValue("supervisors", "1");
-                try {
-                    client.addSupervisors(new Integer(supversiors).intValue());  
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
+                String addProfile = cl.getOptionValue("profile");
+                if (addProfile == null) {
+                    client.addSupervisors(Integer.parseInt(supversiors));
+                } else {
+                    client.addProfileSupervisors(addProfile, Integer.parseInt(supversiors));
                 }
                 break;
 
-            case START_NIMBUS:
-                try {
-                    client.startNimbus();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
+            case SET_SUPERVISORS:
+                String count = cl.getOptionValue("supervisors");
+                if (count == null) {
+                    throw new IllegalArgumentException("-supervisors is required");
+                }
+                String setProfile = cl.getOptionValue("profile");
+                if (setProfile == null) {
+                    client.setSupervisorCount(Integer.parseInt(count));
+                } else {
+                    client.setProfileSupervisorCount(setProfile, Integer.parseInt(count));
                 }
                 break;
 
-            case STOP_NIMBUS:
-                try {
-                    client.stopNimbus();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
+            case GET_NODE_HEALTH:
+                printNodeHealth(client.getNodeHealth(), out);
+                break;
+
+            case WATCH_EVENTS:
+                watchEvents(client, Long.parseLong(cl.getOptionValue("since", "0")), cl.hasOption("follow"), out);
+                break;
+
+            case STATUS:
+                ClusterState state = client.getClusterState();
+                if (cl.hasOption("json")) {
+                    out.println(new TSerializer(new TSimpleJSONProtocol.Factory()).toString(state));
+                } else {
+                    printClusterState(state, out);
                 }
                 break;
 
+            case START_NIMBUS:
+                client.startNimbus();
+                break;
+
+            case STOP_NIMBUS:
+                client.stopNimbus();
+                break;
+
             case START_UI:
-                try {
-                    client.startUI();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.startUI();
                 break;
 
             case STOP_UI:
-                try {
-                    client.stopUI();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.stopUI();
                 break;
 
             case START_SUPERVISORS:
-                try {
-                    client.startSupervisors();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.startSupervisors();
                 break;
 
             case STOP_SUPERVISORS:
-                try {
-                    client.stopSupervisors();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.stopSupervisors();
                 break;
 
             case SHUTDOWN:
-                try {
-                    client.shutdown();
-                } catch (TTransportException ex) {
-                    LOG.info(ex.toString());
-                }
+                client.shutdown();
                 break;
             } 
         } finally {
-            if (storm != null) {
-                storm.stop();
+            connections.release(appId);
+        }
+    }
+
+    /**
+     * @return the app IDs given by -appId, -appIds and -queue, without
+     * duplicates
+     */
+    private static List<String> selectAppIds(CommandLine cl) throws Exception {
+        Set<String> appIds = new LinkedHashSet<String>();
+        String[] values = cl.getOptionValues("appId");
+        if (values != null) {
+            for (String value : values) {
+                for (String appId : value.split(",")) {
+                    if (appId.trim().length() > 0) {
+                        appIds.add(appId.trim());
+                    }
+                }
+            }
+        }
+        String file = cl.getOptionValue("appIds");
+        if (file != null) {
+            BufferedReader in = new BufferedReader(new FileReader(file));
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    line = line.trim();
+                    if (line.length() > 0 && !line.startsWith("#")) {
+                        appIds.add(line);
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        }
+        String queue = cl.getOptionValue("queue");
+        if (queue != null) {
+            appIds.addAll(StormOnYarn.findRunningApps(queue, cl.getOptionValue("appname", "Storm-on-Yarn")));
+        }
+        return new ArrayList<String>(appIds);
+    }
+
+    /**
+     * Runs the command against every cluster concurrently and prints a
+     * table of the per cluster results.
+     */
+    @SuppressWarnings("rawtypes")
+    private void fanOut(CommandLine cl, Map stormConf, List<String> appIds, PrintStream out) throws Exception {
+        int parallelism = Integer.parseInt(cl.getOptionValue("parallelism", String.valueOf(DEFAULT_PARALLELISM)));
+        int timeoutSecs = Integer.parseInt(cl.getOptionValue("timeout", String.valueOf(DEFAULT_TIMEOUT_SECS)));
+        ClusterFanOut fanOut = new ClusterFanOut(stormConf, parallelism, timeoutSecs * 1000);
+        List<ClusterFanOut.Result> results = fanOut.run(appIds, operation(cl, stormConf));
+        ClusterFanOut.printResults(results, out);
+        int failures = 0;
+        for (ClusterFanOut.Result result : results) {
+            if (!result.isOk()) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            throw new RuntimeException(failures + " of " + results.size() + " clusters failed");
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private ClusterFanOut.Operation operation(CommandLine cl, Map stormConf) {
+        final String profile = cl.getOptionValue("profile");
+        switch (cmd) {
+        case GET_STORM_CONFIG:
+            final String output = cl.getOptionValue("output");
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(final String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.getStormConf(new ClusterFanOut.Reply<StormMaster.AsyncClient.getStormConf_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.getStormConf_call call) throws Exception {
+                            Map<?, ?> conf = (Map<?, ?>) JSONValue.parse(call.getResult());
+                            if (output == null) {
+                                return conf.size() + " settings";
+                            }
+                            // with several clusters -output names a directory
+                            File file = new File(output, appId + ".yaml");
+                            FileWriter out = new FileWriter(file);
+                            try {
+                                new Yaml().dump(conf, out);
+                            } finally {
+                                out.close();
+                            }
+                            return "saved to " + file;
+                        }
+                    });
+                }
+            };
+
+        case SET_STORM_CONFIG:
+            final String storm_conf_str = JSONValue.toJSONString(stormConf);
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.setStormConf(storm_conf_str, new ClusterFanOut.Reply<StormMaster.AsyncClient.setStormConf_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.setStormConf_call call) throws Exception {
+                            call.getResult();
+                            return "storm.yaml set";
+                        }
+                    });
+                }
+            };
+
+        case ADD_SUPERVISORS:
+            final int added = Integer.parseInt(cl.getOptionValue("supervisors", "1"));
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    if (profile == null) {
+                        client.addSupervisors(added, new ClusterFanOut.Reply<StormMaster.AsyncClient.addSupervisors_call>(done) {
+                            @Override
+                            String result(StormMaster.AsyncClient.addSupervisors_call call) throws Exception {
+                                call.getResult();
+                                return added + " supervisors added";
+                            }
+                        });
+                    } else {
+                        client.addProfileSupervisors(profile, added, new ClusterFanOut.Reply<StormMaster.AsyncClient.addProfileSupervisors_call>(done) {
+                            @Override
+                            String result(StormMaster.AsyncClient.addProfileSupervisors_call call) throws Exception {
+                                call.getResult();
+                                return added + " " + profile + " supervisors added";
+                            }
+                        });
+                    }
+                }
+            };
+
+        case SET_SUPERVISORS:
+            String count = cl.getOptionValue("supervisors");
+            if (count == null) {
+                throw new IllegalArgumentException("-supervisors is required");
+            }
+            final int target = Integer.parseInt(count);
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    if (profile == null) {
+                        client.setSupervisorCount(target, new ClusterFanOut.Reply<StormMaster.AsyncClient.setSupervisorCount_call>(done) {
+                            @Override
+                            String result(StormMaster.AsyncClient.setSupervisorCount_call call) throws Exception {
+                                call.getResult();
+                                return target + " supervisors to run";
+                            }
+                        });
+                    } else {
+                        client.setProfileSupervisorCount(profile, target, new ClusterFanOut.Reply<StormMaster.AsyncClient.setProfileSupervisorCount_call>(done) {
+                            @Override
+                            String result(StormMaster.AsyncClient.setProfileSupervisorCount_call call) throws Exception {
+                                call.getResult();
+                                return target + " " + profile + " supervisors to run";
+                            }
+                        });
+                    }
+                }
+            };
+
+        case GET_NODE_HEALTH:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.getNodeHealth(new ClusterFanOut.Reply<StormMaster.AsyncClient.getNodeHealth_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.getNodeHealth_call call) throws Exception {
+                            int blacklisted = 0;
+                            List<NodeHealth> nodes = call.getResult();
+                            for (NodeHealth node : nodes) {
+                                if (node.is_blacklisted()) {
+                                    blacklisted++;
+                                }
+                            }
+                            return nodes.size() + " nodes with failures, " + blacklisted + " blacklisted";
+                        }
+                    });
+                }
+            };
+
+        case STATUS:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.getClusterState(new ClusterFanOut.Reply<StormMaster.AsyncClient.getClusterState_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.getClusterState_call call) throws Exception {
+                            return summary(call.getResult());
+                        }
+                    });
+                }
+            };
+
+        case START_NIMBUS:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.startNimbus(new ClusterFanOut.Reply<StormMaster.AsyncClient.startNimbus_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.startNimbus_call call) throws Exception {
+                            call.getResult();
+                            return "nimbus started";
+                        }
+                    });
+                }
+            };
+
+        case STOP_NIMBUS:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.stopNimbus(new ClusterFanOut.Reply<StormMaster.AsyncClient.stopNimbus_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.stopNimbus_call call) throws Exception {
+                            call.getResult();
+                            return "nimbus stopped";
+                        }
+                    });
+                }
+            };
+
+        case START_UI:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.startUI(new ClusterFanOut.Reply<StormMaster.AsyncClient.startUI_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.startUI_call call) throws Exception {
+                            call.getResult();
+                            return "UI started";
+                        }
+                    });
+                }
+            };
+
+        case STOP_UI:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.stopUI(new ClusterFanOut.Reply<StormMaster.AsyncClient.stopUI_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.stopUI_call call) throws Exception {
+                            call.getResult();
+                            return "UI stopped";
+                        }
+                    });
+                }
+            };
+
+        case START_SUPERVISORS:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.startSupervisors(new ClusterFanOut.Reply<StormMaster.AsyncClient.startSupervisors_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.startSupervisors_call call) throws Exception {
+                            call.getResult();
+                            return "supervisors started";
+                        }
+                    });
+                }
+            };
+
+        case STOP_SUPERVISORS:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.stopSupervisors(new ClusterFanOut.Reply<StormMaster.AsyncClient.stopSupervisors_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.stopSupervisors_call call) throws Exception {
+                            call.getResult();
+                            return "supervisors stopped";
+                        }
+                    });
+                }
+            };
+
+        case SHUTDOWN:
+            return new ClusterFanOut.Operation() {
+                @Override
+                public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                    client.shutdown(new ClusterFanOut.Reply<StormMaster.AsyncClient.shutdown_call>(done) {
+                        @Override
+                        String result(StormMaster.AsyncClient.shutdown_call call) throws Exception {
+                            call.getResult();
+                            return "shut down";
+                        }
+                    });
+                }
+            };
+        }
+        throw new IllegalArgumentException(cmd + " cannot run against several clusters");
+    }
+
+    static void printNodeHealth(List<NodeHealth> nodes, PrintStream out) {
+        out.println(String.format("%-40s %8s %s", "HOST", "FAILURES", "BLACKLISTED UNTIL"));
+        for (NodeHealth node : nodes) {
+            String until = node.is_blacklisted() ? new Date(node.get_blacklisted_until_ms()).toString() : "-";
+            out.println(String.format("%-40s %8d %s", node.get_host(), node.get_recent_failures(), until));
+        }
+    }
+
+    /**
+     * @return one line on the supervisors and daemons of a cluster
+     */
+    static String summary(ClusterState state) {
+        int desired = 0;
+        int running = 0;
+        int pending = 0;
+        for (ProfileState profile : state.get_profiles()) {
+            desired += profile.get_desired();
+            running += profile.get_running();
+            pending += profile.get_pending();
+        }
+        StringBuilder ret = new StringBuilder();
+        ret.append(running).append("/").append(desired).append(" supervisors running, ")
+                .append(pending).append(" pending");
+        for (DaemonState daemon : state.get_daemons()) {
+            ret.append(", ").append(daemon.get_name()).append(daemon.is_running() ? " up" : " down");
+        }
+        return ret.toString();
+    }
+
+    static void printClusterState(ClusterState state, PrintStream out) {
+        out.println(state.get_app_attempt_id() + ": " + summary(state)
+                + (state.is_supervisors_to_run() ? "" : ", supervisors stopped"));
+        if (state.get_last_heartbeat_ms() > 0) {
+            out.println(String.format("last heartbeat %d ms ago, answered in %d ms",
+                    state.get_timestamp_ms() - state.get_last_heartbeat_ms(),
+                    state.get_last_heartbeat_latency_ms()));
+        } else {
+            out.println("no heartbeat answered yet");
+        }
+        out.println(String.format("%d replacements, %d on the same node; events up to %d",
+                state.get_replacements(), state.get_warm_replacements(), state.get_last_event_seq()));
+
+        out.println();
+        out.println(String.format("%-8s %-7s %8s %10s", "DAEMON", "RUNNING", "PID", "UPTIME(s)"));
+        for (DaemonState daemon : state.get_daemons()) {
+            out.println(String.format("%-8s %-7s %8s %10s", daemon.get_name(),
+                    daemon.is_running() ? "yes" : "no",
+                    daemon.get_pid() < 0 ? "-" : String.valueOf(daemon.get_pid()),
+                    daemon.is_running() ? String.valueOf(daemon.get_uptime_ms() / 1000) : "-"));
+        }
+
+        out.println();
+        out.println(String.format("%-16s %7s %7s %9s %9s %7s %6s", "PROFILE",
+                "DESIRED", "PENDING", "ALLOCATED", "LAUNCHING", "RUNNING", "FAILED"));
+        for (ProfileState profile : state.get_profiles()) {
+            out.println(String.format("%-16s %7d %7d %9d %9d %7d %6d", profile.get_profile(),
+                    profile.get_desired(), profile.get_pending(), profile.get_allocated(),
+                    profile.get_launching(), profile.get_running(), profile.get_failed()));
+        }
+
+        if (!state.get_nodes().isEmpty()) {
+            out.println();
+            out.println(String.format("%-40s %9s %9s %7s %8s %s", "HOST",
+                    "ALLOCATED", "LAUNCHING", "RUNNING", "FAILURES", "BLACKLISTED"));
+            for (NodeState node : state.get_nodes()) {
+                out.println(String.format("%-40s %9d %9d %7d %8d %s", node.get_host(),
+                        node.get_allocated(), node.get_launching(), node.get_running(),
+                        node.get_recent_failures(), node.is_blacklisted() ? "yes" : "no"));
+            }
+        }
+
+        if (!state.get_containers().isEmpty()) {
+            out.println();
+            out.println(String.format("%-40s %-40s %-16s %-9s %s", "CONTAINER", "HOST",
+                    "PROFILE", "STATE", "SINCE"));
+            for (ContainerState container : state.get_containers()) {
+                out.println(String.format("%-40s %-40s %-16s %-9s %tF %<tT",
+                        container.get_container_id(), container.get_host(), container.get_profile(),
+                        container.get_state(), new Date(container.get_state_since_ms())));
             }
         }
     }
 
-    public static void downloadStormYaml(StormMaster.Client client, String storm_yaml_output) {
+    static void watchEvents(StormMaster.Iface client, long since, boolean follow, PrintStream out) throws TException {
+        do {
+            long start = System.currentTimeMillis();
+            ClusterEvents events = client.watchEvents(since, follow ? WATCH_WAIT_MILLIS : 0);
+            if (events.is_truncated()) {
+                out.println("(events after " + since + " were dropped)");
+            }
+            for (ClusterEvent event : events.get_events()) {
+                out.println(String.format("%8d %tF %<tT %-24s %-40s %-24s %4d %s", event.get_seq(),
+                        new Date(event.get_timestamp_ms()), event.get_type(), event.get_container_id(),
+                        event.get_host(), event.get_exit_status(), event.get_message()));
+            }
+            out.flush();
+            since = events.get_next_seq();
+            long left = start + WATCH_MIN_INTERVAL_MILLIS - System.currentTimeMillis();
+            if (follow && events.get_events_size() == 0 && left > 0) {
+                Utils.sleep(left);
+            }
+        } while (follow);
+    }
+
+    public static void downloadStormYaml(StormMaster.Iface client, String storm_yaml_output, PrintStream out) {
         String  conf_str = "Not Avaialble";
 
         //fetch storm.yaml from Master
@@ -192,12 +644,12 @@ class StormMasterCommand implements ClientCommand {
 
             if (storm_yaml_output == null) {
                 LOG.info("storm.yaml downloaded:");
-                System.out.println(yaml.dump(conf));
+                out.println(yaml.dump(conf));
             } else {
-                FileWriter out = new FileWriter(storm_yaml_output);
-                yaml.dump(conf, out);
-                out.flush();
-                out.close();
+                FileWriter writer = new FileWriter(storm_yaml_output);
+                yaml.dump(conf, writer);
+                writer.flush();
+                writer.close();
                 LOG.info("storm.yaml downloaded into "+storm_yaml_output);
             }
         } catch (Exception ex) {
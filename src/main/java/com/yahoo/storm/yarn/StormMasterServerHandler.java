@@ -17,10 +17,17 @@
 package com.yahoo.storm.yarn;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.thrift7.TException;
 import org.json.simple.JSONValue;
@@ -28,10 +35,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import backtype.storm.Config;
+import backtype.storm.utils.NimbusClient;
 
 import com.google.common.base.Joiner;
+import com.yahoo.storm.yarn.generated.ClusterEvents;
+import com.yahoo.storm.yarn.generated.ClusterState;
+import com.yahoo.storm.yarn.generated.CommandResult;
+import com.yahoo.storm.yarn.generated.ContainerState;
+import com.yahoo.storm.yarn.generated.DaemonState;
+import com.yahoo.storm.yarn.generated.MasterCommand;
+import com.yahoo.storm.yarn.generated.NodeHealth;
+import com.yahoo.storm.yarn.generated.NodeState;
+import com.yahoo.storm.yarn.generated.ProfileState;
 import com.yahoo.storm.yarn.generated.StormMaster;
 
+/**
+ * Serves the Storm master's Thrift calls.  Every call that reads or changes
+ * the configuration, the supervisor counts or the daemons holds the
+ * handler's lock, so that executeBatch, which holds it for the whole batch,
+ * runs without other calls coming in between its commands.  watchEvents,
+ * getNodeHealth and getAppAttemptId do not touch any of these and do not
+ * wait for a batch.
+ */
 public class StormMasterServerHandler implements StormMaster.Iface {
     private static final Logger LOG = LoggerFactory.getLogger(StormMasterServerHandler.class);
     @SuppressWarnings("rawtypes")
@@ -71,42 +96,267 @@ public class StormMasterServerHandler implements StormMaster.Iface {
         }
     }
     
+    @Override
+    public String getAppAttemptId() throws TException {
+        return _client.getAppAttemptId().toString();
+    }
+
     @Override
     public String getStormConf() throws TException {
         LOG.info("getting configuration...");
-        return JSONValue.toJSONString(_storm_conf);
+        synchronized(this) {
+            return JSONValue.toJSONString(_storm_conf);
+        }
+    }
+
+    /**
+     * @return a copy of the configuration, for use outside the lock
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    synchronized Map copyStormConf() {
+        return new HashMap(_storm_conf);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void setStormConf(String storm_conf) throws TException {
         LOG.info("setting configuration...");
+        synchronized(this) {
+            // stop processes
+            stopSupervisors();
+            stopUI();
+            stopNimbus();
+
+            applyStormConf(storm_conf);
 
-        // stop processes
-        stopSupervisors();
-        stopUI();
-        stopNimbus();
+            // start processes
+            startNimbus();
+            startUI();
+            startSupervisors();
+        }
+    }
 
+    /**
+     * Merges the configuration into the running one, without restarting
+     * the daemons that use it.
+     */
+    @SuppressWarnings("unchecked")
+    void applyStormConf(String storm_conf) {
         Object json = JSONValue.parse(storm_conf);
         Map<?, ?> new_conf = (Map<?, ?>)json;
-        _storm_conf.putAll(new_conf);
-        Util.rmNulls(_storm_conf);
-        setStormHostConf();
-        
-        // start processes
-        startNimbus();
-        startUI();
-        startSupervisors();
+        synchronized(this) {
+            _storm_conf.putAll(new_conf);
+            Util.rmNulls(_storm_conf);
+            setStormHostConf();
+            _client.stormConfChanged();
+        }
+    }
+
+    @Override
+    public List<CommandResult> executeBatch(List<MasterCommand> commands) throws TException {
+        LOG.info("executing a batch of " + commands.size() + " commands...");
+        // every command of a batch locks the handler too, so nothing can
+        // come in between them
+        synchronized(this) {
+            return new MasterBatch(this).execute(commands);
+        }
+    }
+
+    @Override
+    public ClusterEvents watchEvents(long since_seq, int timeout_ms) throws TException {
+        try {
+            return _client.getEvents().since(since_seq, timeout_ms);
+        } catch (InterruptedException e) {
+            throw new TException("Interrupted while waiting for events", e);
+        }
     }
 
     @Override
     public void addSupervisors(int number) throws TException {
         LOG.info("adding "+number+" supervisors...");
-        _client.addSupervisors(number);
+        synchronized(this) {
+            _client.addSupervisors(number);
+        }
+    }
+
+    @Override
+    public void addProfileSupervisors(String profile, int number) throws TException {
+        LOG.info("adding "+number+" "+profile+" supervisors...");
+        try {
+            synchronized(this) {
+                _client.addSupervisors(number, profile);
+            }
+        } catch (IllegalArgumentException e) {
+            LOG.error("Unable to add supervisors", e);
+            throw new TException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setSupervisorCount(int number) throws TException {
+        setProfileSupervisorCount(SupervisorProfile.DEFAULT, number);
+    }
+
+    @Override
+    public void setProfileSupervisorCount(String profile, int number) throws TException {
+        LOG.info("setting "+profile+" supervisors to "+number+"...");
+        try {
+            synchronized(this) {
+                _client.setSupervisorCount(number, profile);
+            }
+        } catch (IllegalArgumentException e) {
+            LOG.error("Unable to set supervisors", e);
+            throw new TException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<NodeHealth> getNodeHealth() throws TException {
+        long now = System.currentTimeMillis();
+        NodeFailureTracker tracker = _client.getNodeFailures();
+        Map<String, Integer> failures = tracker.getRecentFailures(now);
+        Map<String, Long> blacklist = tracker.getBlacklist(now);
+        Set<String> hosts = new TreeSet<String>(failures.keySet());
+        hosts.addAll(blacklist.keySet());
+        List<NodeHealth> ret = new ArrayList<NodeHealth>();
+        for (String host : hosts) {
+            NodeHealth node = new NodeHealth();
+            node.set_host(host);
+            Integer count = failures.get(host);
+            node.set_recent_failures(count == null ? 0 : count);
+            Long until = blacklist.get(host);
+            node.set_blacklisted(until != null);
+            node.set_blacklisted_until_ms(until == null ? 0 : until);
+            ret.add(node);
+        }
+        return ret;
+    }
+
+    @Override
+    public int getRegisteredSupervisors() throws TException {
+        NimbusClient nimbus = null;
+        try {
+            nimbus = NimbusClient.getConfiguredClient(copyStormConf());
+            return nimbus.getClient().getClusterInfo().get_supervisors_size();
+        } catch (Exception e) {
+            LOG.debug("Nimbus is not reachable", e);
+            return -1;
+        } finally {
+            if (nimbus != null) {
+                nimbus.close();
+            }
+        }
+    }
+
+    /**
+     * Copies the bookkeeping the master keeps current anyway: the container
+     * registry and its counts, the node failures, the request counters and
+     * the daemon processes.  Nothing here asks the RM, a node manager or
+     * nimbus, so polling it is cheap.
+     */
+    @Override
+    public synchronized ClusterState getClusterState() throws TException {
+        long now = System.currentTimeMillis();
+        ClusterState state = new ClusterState();
+        state.set_timestamp_ms(now);
+        state.set_app_attempt_id(String.valueOf(_client.getAppAttemptId()));
+        state.set_supervisors_to_run(_client.supervisorsAreToRun());
+
+        ContainerRegistry registry = _client.getRegistry();
+        Map<String, ContainerRegistry.Counts> perProfile = registry.countsPerProfile();
+        List<ProfileState> profiles = new ArrayList<ProfileState>();
+        for (String name : _client.getProfileNames()) {
+            ProfileState profile = new ProfileState();
+            profile.set_profile(name);
+            profile.set_desired(_client.getSupervisorCount(name));
+            profile.set_pending(_client.getPendingRequestCount(name));
+            ContainerRegistry.Counts counts = perProfile.get(name);
+            if (counts != null) {
+                profile.set_allocated(counts.get(SupervisorContainer.State.ALLOCATED));
+                profile.set_launching(counts.get(SupervisorContainer.State.LAUNCHING));
+                profile.set_running(counts.get(SupervisorContainer.State.RUNNING));
+            }
+            profile.set_failed(_client.getFailedSupervisorCount(name));
+            profiles.add(profile);
+        }
+        state.set_profiles(profiles);
+
+        Map<String, ContainerRegistry.Counts> perHost = registry.countsPerHost();
+        NodeFailureTracker tracker = _client.getNodeFailures();
+        Map<String, Integer> failures = tracker.getRecentFailures(now);
+        Set<String> blacklist = tracker.getBlacklist(now).keySet();
+        Set<String> hosts = new TreeSet<String>(failures.keySet());
+        hosts.addAll(blacklist);
+        for (Map.Entry<String, ContainerRegistry.Counts> e : perHost.entrySet()) {
+            ContainerRegistry.Counts counts = e.getValue();
+            if (counts.get(SupervisorContainer.State.ALLOCATED) > 0
+                    || counts.get(SupervisorContainer.State.LAUNCHING) > 0
+                    || counts.get(SupervisorContainer.State.RUNNING) > 0) {
+                hosts.add(e.getKey());
+            }
+        }
+        List<NodeState> nodes = new ArrayList<NodeState>();
+        for (String host : hosts) {
+            NodeState node = new NodeState();
+            node.set_host(host);
+            ContainerRegistry.Counts counts = perHost.get(host);
+            if (counts != null) {
+                node.set_allocated(counts.get(SupervisorContainer.State.ALLOCATED));
+                node.set_launching(counts.get(SupervisorContainer.State.LAUNCHING));
+                node.set_running(counts.get(SupervisorContainer.State.RUNNING));
+            }
+            Integer count = failures.get(host);
+            node.set_recent_failures(count == null ? 0 : count);
+            node.set_blacklisted(blacklist.contains(host));
+            nodes.add(node);
+        }
+        state.set_nodes(nodes);
+
+        List<SupervisorContainer> held = new ArrayList<SupervisorContainer>(registry.all());
+        Collections.sort(held, new Comparator<SupervisorContainer>() {
+            @Override
+            public int compare(SupervisorContainer a, SupervisorContainer b) {
+                return a.getId().compareTo(b.getId());
+            }
+        });
+        List<ContainerState> containers = new ArrayList<ContainerState>();
+        for (SupervisorContainer sc : held) {
+            ContainerState container = new ContainerState();
+            container.set_container_id(sc.getId().toString());
+            container.set_host(sc.getHost());
+            container.set_profile(sc.getProfile().getName());
+            container.set_state(sc.getState().name());
+            container.set_state_since_ms(sc.getStateChangedMillis());
+            containers.add(container);
+        }
+        state.set_containers(containers);
+
+        List<DaemonState> daemons = new ArrayList<DaemonState>();
+        daemons.add(daemonState("nimbus", nimbusProcess, now));
+        daemons.add(daemonState("ui", uiProcess, now));
+        state.set_daemons(daemons);
+
+        state.set_last_heartbeat_ms(_client.getLastHeartbeatMillis());
+        state.set_last_heartbeat_latency_ms(_client.getLastHeartbeatLatencyMillis());
+        state.set_replacements(_client.getReplacementCount());
+        state.set_warm_replacements(_client.getWarmReplacementCount());
+        state.set_last_event_seq(_client.getEvents().lastSeq());
+        return state;
+    }
+
+    private static DaemonState daemonState(String name, StormProcess process, long now) {
+        DaemonState daemon = new DaemonState();
+        daemon.set_name(name);
+        boolean running = process != null && process.isAlive();
+        daemon.set_running(running);
+        daemon.set_pid(running ? process.getPid() : -1);
+        daemon.set_started_ms(running ? process._startedMillis : 0);
+        daemon.set_uptime_ms(running ? now - process._startedMillis : 0);
+        return daemon;
     }
 
     class StormProcess extends Thread {
-        Process _process;
+        volatile Process _process;
+        volatile long _startedMillis;
         String _name;
 
         public StormProcess(String name){
@@ -114,10 +364,12 @@ public class StormMasterServerHandler implements StormMaster.Iface {
         }
 
         public void run(){
+            _startedMillis = System.currentTimeMillis();
             startStormProcess();
             try {
-                _process.waitFor();
+                int exitValue = _process.waitFor();
                 LOG.info("Storm process "+_name+" stopped");
+                _client.getEvents().record(ClusterEventLog.DAEMON_EXITED, null, null, exitValue, _name);
             } catch (InterruptedException e) {
                 LOG.info("Interrupted => will stop the storm process too");
                 _process.destroy();
@@ -141,9 +393,9 @@ public class StormMasterServerHandler implements StormMaster.Iface {
 
         private List<String> buildCommands() throws IOException {
             if (_name == "nimbus") {
-                return Util.buildNimbusCommands(_storm_conf);
+                return Util.buildNimbusCommands(copyStormConf());
             } else if (_name == "ui") {
-                return Util.buildUICommands(_storm_conf);
+                return Util.buildUICommands(copyStormConf());
             }
 
             throw new IllegalArgumentException(
@@ -153,6 +405,32 @@ public class StormMasterServerHandler implements StormMaster.Iface {
         public void stopStormProcess() {
             _process.destroy();
         }
+
+        /**
+         * @return the pid of the process, or -1 if it is not started yet
+         * or the JVM does not tell
+         */
+        long getPid() {
+            Process process = _process;
+            if (process == null) {
+                return -1;
+            }
+            try {
+                // Process.pid() is there from Java 9 on
+                return ((Number) Process.class.getMethod("pid").invoke(process)).longValue();
+            } catch (Exception e) {
+                LOG.debug("No Process.pid()", e);
+            }
+            try {
+                // java.lang.UNIXProcess before that
+                Field pid = process.getClass().getDeclaredField("pid");
+                pid.setAccessible(true);
+                return pid.getInt(process);
+            } catch (Exception e) {
+                LOG.debug("Cannot determine the pid of " + _name, e);
+                return -1;
+            }
+        }
     }
 
     StormProcess nimbusProcess;
@@ -168,6 +446,7 @@ public class StormMasterServerHandler implements StormMaster.Iface {
             }
             nimbusProcess = new StormProcess("nimbus");
             nimbusProcess.start(); 
+            _client.getEvents().record(ClusterEventLog.DAEMON_STARTED, "nimbus");
         }       
     }
 
@@ -182,6 +461,7 @@ public class StormMasterServerHandler implements StormMaster.Iface {
             }
             nimbusProcess.stopStormProcess();
             nimbusProcess = null;
+            _client.getEvents().record(ClusterEventLog.DAEMON_STOPPED, "nimbus");
         }
     }
 
@@ -195,6 +475,7 @@ public class StormMasterServerHandler implements StormMaster.Iface {
             }
             uiProcess = new StormProcess("ui");
             uiProcess.start();
+            _client.getEvents().record(ClusterEventLog.DAEMON_STARTED, "ui");
         } 
     }
 
@@ -209,19 +490,24 @@ public class StormMasterServerHandler implements StormMaster.Iface {
             }
             uiProcess.stopStormProcess();
             uiProcess = null;
+            _client.getEvents().record(ClusterEventLog.DAEMON_STOPPED, "ui");
         }
     }
 
     @Override
     public void startSupervisors() throws TException {
         LOG.info("starting supervisors...");
-        _client.startAllSupervisors();
+        synchronized(this) {
+            _client.startAllSupervisors();
+        }
     }
 
     @Override
     public void stopSupervisors() throws TException {
         LOG.info("stopping supervisors...");
-        _client.stopAllSupervisors();
+        synchronized(this) {
+            _client.stopAllSupervisors();
+        }
     }
 
     @Override
@@ -16,17 +16,24 @@
 
 package com.yahoo.storm.yarn;
 
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -53,6 +60,7 @@ import org.apache.hadoop.yarn.exceptions.YarnException;
 import org.apache.hadoop.yarn.util.Apps;
 import org.apache.hadoop.yarn.util.ConverterUtils;
 import org.apache.hadoop.yarn.util.Records;
+import org.apache.thrift7.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +77,7 @@ public class StormOnYarn {
     @SuppressWarnings("rawtypes")
     private Map _stormConf;
     private MasterClient _client = null;
+    private final EndpointCache _endpoints = EndpointCache.getDefault();
 
     private StormOnYarn(@SuppressWarnings("rawtypes") Map stormConf) {
         this(null, stormConf);
@@ -95,27 +104,41 @@ public class StormOnYarn {
         return _appId;
     }
 
-    @SuppressWarnings("unchecked")
     public synchronized StormMaster.Client getClient() throws YarnException, IOException {
-        if (_client == null) {
+        MasterClient client = getMasterClient(Long.MAX_VALUE);
+        return client == null ? null : client.getClient();
+    }
+
+    /**
+     * @param deadline when to stop waiting for the master to register; the
+     * socket timeout is cut down so that no call blocks past it either
+     * @return the shared client, or a client of its own if its timeout had
+     * to be cut down, which the caller must close; null if the master did
+     * not register in time
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized MasterClient getMasterClient(long deadline) throws YarnException, IOException {
+        if (_client != null) {
+            return _client;
+        }
+        Integer timeout = boundedTimeout(deadline);
+        MasterClient client = attachToCachedEndpoint(timeout);
+        if (client == null) {
             String host = null;
             int port = 0;
+            ApplicationReport report = null;
             //wait for application to be ready
             int max_wait_for_report = Utils.getInt(_stormConf.get(Config.YARN_REPORT_WAIT_MILLIS));
-            int waited=0; 
-            while (waited<max_wait_for_report) {
-                ApplicationReport report = _yarn.getApplicationReport(_appId);
+            deadline = Math.min(deadline, System.currentTimeMillis() + max_wait_for_report);
+            Poller poller = new Poller();
+            while (true) {
+                report = _yarn.getApplicationReport(_appId);
                 host = report.getHost();
                 port = report.getRpcPort();
-                if (host == null || port==0) { 
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                    }
-                    waited += 1000;
-                } else {
+                if ((host != null && port != 0) || System.currentTimeMillis() >= deadline) {
                     break;
                 }
+                poller.sleep();
             }
             if (host == null || port==0) {
                 LOG.info("No host/port returned for Application Master " + _appId);
@@ -129,11 +152,100 @@ public class StormOnYarn {
             _stormConf.put(Config.MASTER_HOST, host);
             _stormConf.put(Config.MASTER_THRIFT_PORT, port);
             LOG.info("Attaching to "+host+":"+port+" to talk to app master "+_appId);
-            _client = MasterClient.getConfiguredClient(_stormConf);
+            client = connect(timeout);
+            if (report.getCurrentApplicationAttemptId() != null) {
+                _endpoints.put(_appId.toString(), new EndpointCache.Endpoint(host, port,
+                        report.getCurrentApplicationAttemptId().toString()));
+            }
+        }
+        if (timeout == null) {
+            _client = client;
         }
-        return _client.getClient();
+        return client;
     }
 
+    /**
+     * @return the time left until deadline if that is shorter than the
+     * configured socket timeout, otherwise null
+     */
+    private Integer boundedTimeout(long deadline) {
+        if (deadline == Long.MAX_VALUE) {
+            return null;
+        }
+        long left = Math.max(1, deadline - System.currentTimeMillis());
+        Integer configured = MasterClient.getTimeoutMillis(_stormConf);
+        if (configured != null && configured > 0 && configured <= left) {
+            return null;
+        }
+        return (int) Math.min(left, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param timeout socket timeout in milliseconds instead of the configured
+     * one, or null
+     */
+    @SuppressWarnings("unchecked")
+    private MasterClient connect(Integer timeout) {
+        if (timeout == null) {
+            return MasterClient.getConfiguredClient(_stormConf);
+        }
+        Map<Object, Object> conf = new HashMap<Object, Object>(_stormConf);
+        conf.put(Config.MASTER_TIMEOUT_MILLIS, timeout);
+        return MasterClient.getConfiguredClient(conf);
+    }
+
+    /**
+     * @return a client of the master at the cached endpoint of the
+     * application, or null if there is none or it is not the attempt that
+     * was cached
+     */
+    @SuppressWarnings("unchecked")
+    private MasterClient attachToCachedEndpoint(Integer timeout) {
+        EndpointCache.Endpoint endpoint = _endpoints.get(_appId.toString());
+        if (endpoint == null) {
+            return null;
+        }
+        if (_stormConf == null ) {
+            _stormConf = new HashMap<Object,Object>();
+        }
+        _stormConf.put(Config.MASTER_HOST, endpoint.host);
+        _stormConf.put(Config.MASTER_THRIFT_PORT, endpoint.port);
+        MasterClient client = null;
+        try {
+            client = connect(timeout);
+            String attempt = client.getClient().getAppAttemptId();
+            if (endpoint.appAttemptId.equals(attempt)) {
+                LOG.info("Attached to cached endpoint " + endpoint + " of app master " + _appId);
+                return client;
+            }
+            LOG.info("Cached endpoint of app master " + _appId + " is now served by " + attempt);
+        } catch (Exception e) {
+            LOG.info("Cached endpoint " + endpoint + " of app master " + _appId + " is gone: " + e);
+        }
+        if (client != null) {
+            client.close();
+        }
+        _endpoints.remove(_appId.toString());
+        return null;
+    }
+
+    /**
+     * @return where the master of the application listens as reported by
+     * the RM, or null if it has not registered yet
+     */
+    EndpointCache.Endpoint getMasterEndpoint() throws YarnException, IOException {
+        ApplicationReport report = _yarn.getApplicationReport(_appId);
+        if (report.getHost() == null || report.getRpcPort() == 0
+                || report.getCurrentApplicationAttemptId() == null) {
+            return null;
+        }
+        EndpointCache.Endpoint endpoint = new EndpointCache.Endpoint(report.getHost(),
+                report.getRpcPort(), report.getCurrentApplicationAttemptId().toString());
+        _endpoints.put(_appId.toString(), endpoint);
+        return endpoint;
+    }
+
+    @SuppressWarnings("unchecked")
     private void launchApp(String appName, String queue, int amMB, String storm_zip_location) throws Exception {
         LOG.debug("StormOnYarn:launchApp() ...");
         YarnClientApplication client_app = _yarn.createApplication();
@@ -154,94 +266,131 @@ public class StormOnYarn {
         // Set up the container launch context for the application master
         ContainerLaunchContext amContainer = Records
                 .newRecord(ContainerLaunchContext.class);
-        Map<String, LocalResource> localResources = new HashMap<String, LocalResource>();
-
-        // set local resources for the application master
-        // local files or archives as needed
-        // In this scenario, the jar file for the application master is part of the
-        // local resources
-        LOG.info("Copy App Master jar from local filesystem and add to local environment");
-        // Copy the application master jar to the filesystem
-        // Create a local resource to point to the destination jar path
-        String appMasterJar = findContainingJar(MasterServer.class);
-        FileSystem fs = FileSystem.get(_hadoopConf);
-        Path src = new Path(appMasterJar);
-        String appHome =  Util.getApplicationHomeForId(_appId.toString());
-        Path dst = new Path(fs.getHomeDirectory(), 
-                appHome + Path.SEPARATOR + "AppMaster.jar");
-        fs.copyFromLocalFile(false, true, src, dst);
-        localResources.put("AppMaster.jar", Util.newYarnAppResource(fs, dst));
-
-        Version stormVersion = Util.getStormVersion();
-        Path zip;
+        Map<String, String> env = new HashMap<String, String>();
+        String stormHomeInZip;
+
+        // The steps below only depend on each other where noted, so they
+        // run concurrently and the submission waits for all of them.
+        final String appMasterJar = findContainingJar(MasterServer.class);
+        final FileSystem fs = FileSystem.get(_hadoopConf);
+        final String appHome =  Util.getApplicationHomeForId(_appId.toString());
+        final Version stormVersion = Util.getStormVersion();
+        final Path zip;
         if (storm_zip_location != null) {
             zip = new Path(storm_zip_location);
         } else {
             zip = new Path("/lib/storm/"+stormVersion+"/storm.zip");         
         }
-        _stormConf.put("storm.zip.path", zip.makeQualified(fs).toUri().getPath());
-        LocalResourceVisibility visibility = LocalResourceVisibility.PUBLIC;
-        _stormConf.put("storm.zip.visibility", "PUBLIC");
-        if (!Util.isPublic(fs, zip)) {
-          visibility = LocalResourceVisibility.APPLICATION;
-          _stormConf.put("storm.zip.visibility", "APPLICATION");
-        }
-        localResources.put("storm", Util.newYarnAppResource(fs, zip, LocalResourceType.ARCHIVE, visibility));
-        
-        Path confDst = Util.createConfigurationFileInFs(fs, appHome, _stormConf, _hadoopConf);
-        // establish a symbolic link to conf directory
-        localResources.put("conf", Util.newYarnAppResource(fs, confDst));
-
-        // Setup security tokens
-        Path[] paths = new Path[3];
-        paths[0] = dst;
-        paths[1] = zip;
-        paths[2] = confDst;
-        Credentials credentials = new Credentials();
-        TokenCache.obtainTokensForNamenodes(credentials, paths, _hadoopConf);
-        DataOutputBuffer dob = new DataOutputBuffer();
-        credentials.writeTokenStorageToStream(dob);
-        ByteBuffer securityTokens = ByteBuffer.wrap(dob.getData(), 0, dob.getLength());
-
-        //security tokens for HDFS distributed cache
-        amContainer.setTokens(securityTokens);
-
-        // Set local resource info into app master container launch context
-        amContainer.setLocalResources(localResources);
-
-        // Set the env variables to be setup in the env where the application master
-        // will be run
-        LOG.info("Set the environment for the application master");
-        Map<String, String> env = new HashMap<String, String>();
-        // add the runtime classpath needed for tests to work
-        Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./conf");
-        Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./AppMaster.jar");
-
-        //Make sure that AppMaster has access to all YARN JARs
-        List<String> yarn_classpath_cmd = java.util.Arrays.asList("yarn", "classpath");
-        ProcessBuilder pb = new ProcessBuilder(yarn_classpath_cmd);
-        LOG.info("YARN CLASSPATH COMMAND = [" + yarn_classpath_cmd + "]");
-        pb.environment().putAll(System.getenv());
-        Process proc = pb.start();
-        Util.redirectStreamAsync(proc.getErrorStream(), System.err);
-        BufferedReader reader = new BufferedReader(new InputStreamReader(proc.getInputStream(), "UTF-8"));
-        String line = "";
-        String yarn_class_path = (String) _stormConf.get("storm.yarn.yarn_classpath");
-        if (yarn_class_path == null){
-            StringBuilder yarn_class_path_builder = new StringBuilder();
-            while ((line = reader.readLine() ) != null){            
-                yarn_class_path_builder.append(line);             
-            }
-            yarn_class_path = yarn_class_path_builder.toString();
+        final String configured_yarn_class_path = (String) _stormConf.get("storm.yarn.yarn_classpath");
+        // the steps only see this copy of the conf; what they add to it is
+        // merged into _stormConf on this thread once they are done
+        final Map<Object, Object> launchConf = new HashMap<Object, Object>(_stormConf);
+
+        ExecutorService pipeline = Executors.newFixedThreadPool(6);
+        try {
+            // set local resources for the application master
+            // local files or archives as needed
+            // In this scenario, the jar file for the application master is part of the
+            // local resources
+            final Future<LocalResource> appMasterJarResource = pipeline.submit(
+                    new LaunchStep<LocalResource>("stage AppMaster.jar") {
+                @Override
+                LocalResource run() throws Exception {
+                    // Copy the application master jar to the staging area of the
+                    // filesystem, unless the same jar has been staged before
+                    // Create a local resource to point to the destination jar path
+                    Path dst = Util.stageInCache(fs, new File(appMasterJar), "AppMaster.jar");
+                    LOG.info("App Master jar is staged as " + dst);
+                    return Util.newCachedResource(fs, dst);
+                }
+            });
+
+            final Future<LocalResource> zipResource = pipeline.submit(
+                    new LaunchStep<LocalResource>("inspect storm.zip visibility") {
+                @Override
+                LocalResource run() throws Exception {
+                    LocalResourceVisibility visibility = Util.isPublic(fs, zip)
+                            ? LocalResourceVisibility.PUBLIC : LocalResourceVisibility.APPLICATION;
+                    return Util.newYarnAppResource(fs, zip, LocalResourceType.ARCHIVE, visibility);
+                }
+            });
+
+            Future<String> stormHome = pipeline.submit(
+                    new LaunchStep<String>("find storm home in storm.zip") {
+                @Override
+                String run() throws Exception {
+                    return Util.getStormHomeInZip(fs, zip, stormVersion.version());
+                }
+            });
+
+            // the conf tells supervisors where storm.zip is and how it is shared
+            Future<LocalResource> confResource = pipeline.submit(
+                    new LaunchStep<LocalResource>("write conf") {
+                @Override
+                LocalResource run() throws Exception {
+                    LocalResourceVisibility visibility = zipResource.get().getVisibility();
+                    launchConf.put("storm.zip.path", zip.makeQualified(fs).toUri().getPath());
+                    launchConf.put("storm.zip.visibility", visibility.toString());
+                    Path confDst = Util.createConfigurationFileInFs(fs, appHome, launchConf, _hadoopConf);
+                    // establish a symbolic link to conf directory
+                    return Util.newYarnAppResource(fs, confDst);
+                }
+            });
+
+            // Setup security tokens for the name nodes of the jar, storm.zip
+            // and conf, which are all known up front
+            Future<ByteBuffer> tokens = pipeline.submit(
+                    new LaunchStep<ByteBuffer>("obtain tokens") {
+                @Override
+                ByteBuffer run() throws Exception {
+                    Path[] paths = new Path[3];
+                    paths[0] = fs.getHomeDirectory();
+                    paths[1] = zip;
+                    paths[2] = new Path(fs.getHomeDirectory(), appHome);
+                    Credentials credentials = new Credentials();
+                    TokenCache.obtainTokensForNamenodes(credentials, paths, _hadoopConf);
+                    DataOutputBuffer dob = new DataOutputBuffer();
+                    credentials.writeTokenStorageToStream(dob);
+                    return ByteBuffer.wrap(dob.getData(), 0, dob.getLength());
+                }
+            });
+
+            //Make sure that AppMaster has access to all YARN JARs
+            Future<String> yarnClassPath = pipeline.submit(
+                    new LaunchStep<String>("resolve yarn classpath") {
+                @Override
+                String run() throws Exception {
+                    return YarnClassPath.resolve(configured_yarn_class_path);
+                }
+            });
+
+            Map<String, LocalResource> localResources = new HashMap<String, LocalResource>();
+            localResources.put("AppMaster.jar", LaunchStep.await(appMasterJarResource));
+            localResources.put("storm", LaunchStep.await(zipResource));
+            localResources.put("conf", LaunchStep.await(confResource));
+            _stormConf.put("storm.zip.path", launchConf.get("storm.zip.path"));
+            _stormConf.put("storm.zip.visibility", launchConf.get("storm.zip.visibility"));
+
+            //security tokens for HDFS distributed cache
+            amContainer.setTokens(LaunchStep.await(tokens));
+
+            // Set local resource info into app master container launch context
+            amContainer.setLocalResources(localResources);
+
+            // Set the env variables to be setup in the env where the application master
+            // will be run
+            LOG.info("Set the environment for the application master");
+            // add the runtime classpath needed for tests to work
+            Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./conf");
+            Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./AppMaster.jar");
+            Apps.addToEnvironment(env, Environment.CLASSPATH.name(), LaunchStep.await(yarnClassPath));
+
+            stormHomeInZip = LaunchStep.await(stormHome);
+            Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./storm/" + stormHomeInZip + "/*");
+            Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./storm/" + stormHomeInZip + "/lib/*");
+        } finally {
+            pipeline.shutdownNow();
         }
-        LOG.info("YARN CLASSPATH = [" + yarn_class_path + "]");
-        proc.waitFor();
-        reader.close();
-        Apps.addToEnvironment(env, Environment.CLASSPATH.name(), yarn_class_path);
-        
-        String stormHomeInZip = Util.getStormHomeInZip(fs, zip, stormVersion.version());
-        Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./storm/" + stormHomeInZip + "/*");
-        Apps.addToEnvironment(env, Environment.CLASSPATH.name(), "./storm/" + stormHomeInZip + "/lib/*");
 
         String java_home = (String) _stormConf.get("storm.yarn.java_home");
         if (java_home == null)
@@ -285,19 +434,55 @@ public class StormOnYarn {
     }
 
 
+    /**
+     * One step of launchApp, timed and logged.
+     */
+    private static abstract class LaunchStep<T> implements Callable<T> {
+        private final String _name;
+
+        LaunchStep(String name) {
+            _name = name;
+        }
+
+        abstract T run() throws Exception;
+
+        @Override
+        public T call() throws Exception {
+            long start = System.currentTimeMillis();
+            try {
+                return run();
+            } finally {
+                LOG.info("Launch step '" + _name + "' took " + (System.currentTimeMillis() - start) + " ms");
+            }
+        }
+
+        /**
+         * @return the result of a step, rethrowing what made it fail
+         */
+        static <T> T await(Future<T> step) throws Exception {
+            try {
+                return step.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw e;
+            }
+        }
+    }
+
     /**
      * Wait until the application is successfully launched
      * @throws YarnException
      */
     public boolean waitUntilLaunched() throws YarnException, IOException {
-        while (true) {
+        return waitUntilLaunched(Long.MAX_VALUE);
+    }
 
-            // Check app status every 1 second.
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                LOG.debug("Thread sleep in monitoring loop interrupted");
-            }
+    private boolean waitUntilLaunched(long deadline) throws YarnException, IOException {
+        Poller poller = new Poller();
+        while (true) {
 
             // Get application report for the appId we are interested in 
             ApplicationReport report = _yarn.getApplicationReport(_appId);
@@ -327,7 +512,77 @@ public class StormOnYarn {
             if (state==YarnApplicationState.RUNNING) {
                 return true;
             }
-        }    
+
+            if (System.currentTimeMillis() >= deadline) {
+                LOG.info("Application is still " + state + ". Breaking monitoring loop");
+                return false;
+            }
+            poller.sleep();
+        }
+    }
+
+    /**
+     * Wait until the application master runs, nimbus answers and the given
+     * number of supervisors registered with nimbus.
+     * @return the time spent in each phase, in milliseconds
+     * @throws IOException if the cluster is not ready in time
+     */
+    public Map<String, Long> waitUntilReady(int supervisors, long timeoutMillis)
+            throws YarnException, IOException, TException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Map<String, Long> phases = new LinkedHashMap<String, Long>();
+
+        long start = System.currentTimeMillis();
+        if (!waitUntilLaunched(deadline)) {
+            throw new IOException("Application " + _appId + " is not running");
+        }
+        phases.put("application master running", System.currentTimeMillis() - start);
+
+        start = System.currentTimeMillis();
+        MasterClient master = getMasterClient(deadline);
+        if (master == null) {
+            throw new IOException("Application master of " + _appId + " is not reachable");
+        }
+        try {
+            phases.put("application master reachable", System.currentTimeMillis() - start);
+
+            start = System.currentTimeMillis();
+            Poller poller = new Poller();
+            int registered;
+            while ((registered = master.getClient().getRegisteredSupervisors()) < supervisors) {
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IOException("Storm cluster of " + _appId + " is not ready after "
+                            + timeoutMillis + " ms: " + (registered < 0 ? "nimbus is not reachable"
+                            : registered + " of " + supervisors + " supervisors registered"));
+                }
+                poller.sleep();
+            }
+            phases.put("nimbus and " + supervisors + " supervisors ready", System.currentTimeMillis() - start);
+            return phases;
+        } finally {
+            if (master != _client) {
+                master.close();
+            }
+        }
+    }
+
+    /**
+     * Sleeps between polls, from tens of milliseconds at first up to a
+     * second, so that a short wait is not rounded up to whole seconds.
+     */
+    private static class Poller {
+        private static final long MIN_SLEEP_MILLIS = 20;
+        private static final long MAX_SLEEP_MILLIS = 1000;
+        private long _sleepMillis = MIN_SLEEP_MILLIS;
+
+        void sleep() {
+            try {
+                Thread.sleep(_sleepMillis);
+            } catch (InterruptedException e) {
+                LOG.debug("Thread sleep in monitoring loop interrupted");
+            }
+            _sleepMillis = Math.min(_sleepMillis * 2, MAX_SLEEP_MILLIS);
+        }
     }
 
 
@@ -373,6 +628,32 @@ public class StormOnYarn {
         return storm;
     }
 
+    /**
+     * @param appName the name the applications were launched with, or
+     * null for any
+     * @return the IDs of the running applications in a queue
+     */
+    static List<String> findRunningApps(String queue, String appName)
+            throws YarnException, IOException {
+        YarnClient yarn = YarnClient.createYarnClient();
+        yarn.init(new YarnConfiguration());
+        yarn.start();
+        try {
+            List<String> appIds = new ArrayList<String>();
+            for (ApplicationReport report : yarn.getApplications()) {
+                if (report.getYarnApplicationState() == YarnApplicationState.RUNNING
+                        && queue.equals(report.getQueue())
+                        && (appName == null || appName.equals(report.getName()))) {
+                    appIds.add(report.getApplicationId().toString());
+                }
+            }
+            Collections.sort(appIds);
+            return appIds;
+        } finally {
+            yarn.stop();
+        }
+    }
+
     public static StormOnYarn attachToApp(String appId,
             @SuppressWarnings("rawtypes") Map stormConf) {
         return new StormOnYarn(ConverterUtils.toApplicationId(appId), stormConf);
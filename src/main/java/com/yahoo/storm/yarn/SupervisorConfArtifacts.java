@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.yarn.api.records.LocalResource;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The conf directory (storm.yaml, yarn-site.xml and logback.xml) shipped to
+ * supervisors.  Each distinct configuration is written to HDFS once, under
+ * the hash of its content, and shared by all containers as a single
+ * APPLICATION resource.  The resource of a profile is kept until
+ * {@link #invalidate()} is called because the Storm configuration changed.
+ */
+class SupervisorConfArtifacts {
+    private static final Logger LOG = LoggerFactory.getLogger(SupervisorConfArtifacts.class);
+
+    private final FileSystem _fs;
+    private final String _appHome;
+    private final YarnConfiguration _hadoopConf;
+    private byte[] _yarnSiteXml;
+    private byte[] _logbackXml;
+    private final Map<String, LocalResource> _byProfile = new HashMap<String, LocalResource>();
+    private final Map<String, LocalResource> _byHash = new HashMap<String, LocalResource>();
+
+    SupervisorConfArtifacts(FileSystem fs, String appHome, YarnConfiguration hadoopConf) {
+        _fs = fs;
+        _appHome = appHome;
+        _hadoopConf = hadoopConf;
+    }
+
+    /**
+     * @return the conf resource of a profile, written to HDFS if its content
+     * has not been seen before
+     */
+    synchronized LocalResource get(SupervisorProfile profile,
+            @SuppressWarnings("rawtypes") Map conf) throws IOException {
+        LocalResource resource = _byProfile.get(profile.getName());
+        if (resource != null) {
+            return resource;
+        }
+        if (_yarnSiteXml == null) {
+            _yarnSiteXml = Util.toXml(_hadoopConf);
+            _logbackXml = Util.readLogbackXML();
+        }
+        byte[] stormYaml = Util.toYaml(conf);
+        String hash = Util.sha256Hex(stormYaml, _yarnSiteXml, _logbackXml);
+        resource = _byHash.get(hash);
+        if (resource == null) {
+            String home = _appHome + Path.SEPARATOR + "conf-" + hash;
+            LOG.info("Writing " + profile + " supervisor configuration to " + home);
+            Path confDst = Util.createConfigurationFileInFs(_fs, home,
+                    stormYaml, _yarnSiteXml, _logbackXml);
+            resource = Util.newYarnAppResource(_fs, confDst);
+            _byHash.put(hash, resource);
+        }
+        _byProfile.put(profile.getName(), resource);
+        return resource;
+    }
+
+    /**
+     * Forget which configuration each profile uses; the next {@link #get}
+     * serializes it again and only writes it if its content changed.
+     */
+    synchronized void invalidate() {
+        _byProfile.clear();
+    }
+}
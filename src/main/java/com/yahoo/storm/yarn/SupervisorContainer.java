@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerId;
+
+/**
+ * A container held for a supervisor, and where it is in its life cycle.
+ */
+class SupervisorContainer {
+    /**
+     * REQUESTED covers asks that no container satisfies yet; they are tracked
+     * as outstanding requests by StormAMRMClient.  A SupervisorContainer is
+     * created once the RM allocates a container, and moves on from there:
+     * <pre>
+     * ALLOCATED -> LAUNCHING -> RUNNING
+     *     |            |           |
+     *     +------------+-----------+--> RELEASED --> COMPLETED
+     *     +------------+-----------+--------------> COMPLETED
+     * </pre>
+     * RELEASED containers were given back by the AM and only wait for the
+     * RM to report them as completed.
+     */
+    enum State {
+        REQUESTED,
+        ALLOCATED,
+        LAUNCHING,
+        RUNNING,
+        RELEASED,
+        COMPLETED;
+
+        private EnumSet<State> next() {
+            switch (this) {
+            case REQUESTED:
+                return EnumSet.of(ALLOCATED);
+            case ALLOCATED:
+                return EnumSet.of(LAUNCHING, RELEASED, COMPLETED);
+            case LAUNCHING:
+                return EnumSet.of(RUNNING, RELEASED, COMPLETED);
+            case RUNNING:
+                return EnumSet.of(RELEASED, COMPLETED);
+            case RELEASED:
+                return EnumSet.of(COMPLETED);
+            default:
+                return EnumSet.noneOf(State.class);
+            }
+        }
+
+        boolean canMoveTo(State to) {
+            return next().contains(to);
+        }
+
+        /**
+         * @return true for the states in which the container holds, or is
+         * about to hold, a supervisor
+         */
+        boolean isLive() {
+            return this == ALLOCATED || this == LAUNCHING || this == RUNNING;
+        }
+    }
+
+    private final Container _container;
+    private final SupervisorProfile _profile;
+    private final String _rack;
+    private final AtomicReference<State> _state = new AtomicReference<State>(State.ALLOCATED);
+    private volatile long _stateChangedMillis = System.currentTimeMillis();
+    // told about every transition, so that it can keep its counts current
+    private final ContainerRegistry _registry;
+
+    SupervisorContainer(Container container, SupervisorProfile profile, String rack) {
+        this(container, profile, rack, null);
+    }
+
+    SupervisorContainer(Container container, SupervisorProfile profile, String rack,
+            ContainerRegistry registry) {
+        _container = container;
+        _profile = profile;
+        _rack = rack;
+        _registry = registry;
+    }
+
+    Container getContainer() {
+        return _container;
+    }
+
+    ContainerId getId() {
+        return _container.getId();
+    }
+
+    String getHost() {
+        return _container.getNodeId().getHost();
+    }
+
+    String getRack() {
+        return _rack;
+    }
+
+    SupervisorProfile getProfile() {
+        return _profile;
+    }
+
+    State getState() {
+        return _state.get();
+    }
+
+    long getStateChangedMillis() {
+        return _stateChangedMillis;
+    }
+
+    /**
+     * Move to the given state if that is a legal transition from the current one.
+     * @return false if the transition is not allowed
+     */
+    boolean moveTo(State to) {
+        while (true) {
+            State from = _state.get();
+            if (!from.canMoveTo(to)) {
+                return false;
+            }
+            if (_state.compareAndSet(from, to)) {
+                _stateChangedMillis = System.currentTimeMillis();
+                if (_registry != null) {
+                    _registry.moved(this, from, to);
+                }
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getId() + "@" + getHost() + " " + _profile.getName() + " " + getState();
+    }
+}
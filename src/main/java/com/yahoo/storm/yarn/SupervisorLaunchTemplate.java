@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.yarn.api.records.ContainerLaunchContext;
+import org.apache.hadoop.yarn.api.records.LocalResource;
+import org.apache.hadoop.yarn.util.Records;
+
+/**
+ * The parts of a supervisor's launch context that are the same for every
+ * container of a profile: security tokens, environment, local resources
+ * and command.  Built once, so that launching a supervisor does not
+ * serialize credentials, stat storm.zip or walk the storm home again.
+ */
+class SupervisorLaunchTemplate {
+    private final ByteBuffer _tokens;
+    private final int _tokensFingerprint;
+    private final Map<String, String> _env;
+    private final Map<String, LocalResource> _localResources;
+    private final List<String> _commands;
+
+    SupervisorLaunchTemplate(ByteBuffer tokens, int tokensFingerprint,
+            Map<String, String> env,
+            Map<String, LocalResource> localResources,
+            List<String> commands) {
+        _tokens = tokens;
+        _tokensFingerprint = tokensFingerprint;
+        _env = Collections.unmodifiableMap(new HashMap<String, String>(env));
+        _localResources = Collections.unmodifiableMap(new HashMap<String, LocalResource>(localResources));
+        _commands = Collections.unmodifiableList(new ArrayList<String>(commands));
+    }
+
+    /**
+     * @return whether the template was built from the given tokens
+     */
+    boolean hasTokens(int tokensFingerprint) {
+        return _tokensFingerprint == tokensFingerprint;
+    }
+
+    /**
+     * @return a new launch context filled in from the template
+     */
+    ContainerLaunchContext newLaunchContext() {
+        ContainerLaunchContext launchContext = Records.newRecord(ContainerLaunchContext.class);
+        if (_tokens != null) {
+            launchContext.setTokens(_tokens.duplicate());
+        }
+        launchContext.setEnvironment(new HashMap<String, String>(_env));
+        launchContext.setLocalResources(new HashMap<String, LocalResource>(_localResources));
+        launchContext.setCommands(new ArrayList<String>(_commands));
+        return launchContext;
+    }
+}
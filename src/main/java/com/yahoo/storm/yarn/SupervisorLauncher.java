@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerId;
+import org.apache.hadoop.yarn.api.records.ContainerLaunchContext;
+import org.apache.hadoop.yarn.api.records.ContainerStatus;
+import org.apache.hadoop.yarn.client.api.async.NMClientAsync;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Launches supervisors on allocated containers.  Launch contexts are built
+ * on a bounded pool of worker threads and the containers are started
+ * through {@link NMClientAsync}, so a large batch of containers is brought
+ * up concurrently.  A token bucket bounds the rate at which launches are
+ * dispatched so that a burst does not flood HDFS or the NodeManagers.
+ */
+class SupervisorLauncher implements NMClientAsync.CallbackHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(SupervisorLauncher.class);
+    // as in master_defaults.yaml
+    private static final int DEFAULT_THREADS = 8;
+    private static final double DEFAULT_RATE_PER_SEC = 10;
+    private static final int DEFAULT_BURST = 20;
+
+    private final StormAMRMClient _client;
+    private final YarnConfiguration _hadoopConf;
+    private final BlockingQueue<Container> _launcherQueue = new LinkedBlockingQueue<Container>();
+    private final Map<ContainerId, Container> _launching = new ConcurrentHashMap<ContainerId, Container>();
+    private final AtomicInteger _inFlight = new AtomicInteger(0);
+    private final int _numThreads;
+    private final TokenBucket _rateLimiter;
+    private ExecutorService _pool;
+    private NMClientAsync _nmClient;
+    private Thread _dispatcher;
+    private volatile boolean _running = false;
+
+    SupervisorLauncher(StormAMRMClient client,
+            @SuppressWarnings("rawtypes") Map storm_conf,
+            YarnConfiguration hadoopConf) {
+        _client = client;
+        _hadoopConf = hadoopConf;
+        _numThreads = Math.max(1, getInt(storm_conf, Config.MASTER_LAUNCHER_THREADS, DEFAULT_THREADS));
+        double rate = Util.getDouble(storm_conf.get(Config.MASTER_LAUNCHER_RATE_PER_SEC), DEFAULT_RATE_PER_SEC);
+        if (rate > 0) {
+            _rateLimiter = new TokenBucket(rate,
+                    Math.max(1, getInt(storm_conf, Config.MASTER_LAUNCHER_BURST, DEFAULT_BURST)));
+        } else {
+            _rateLimiter = null;
+        }
+    }
+
+    private static int getInt(@SuppressWarnings("rawtypes") Map storm_conf, String key, int defaultValue) {
+        Object value = storm_conf.get(key);
+        return value == null ? defaultValue : Utils.getInt(value);
+    }
+
+    synchronized void start() {
+        if (_running) {
+            return;
+        }
+        _nmClient = NMClientAsync.createNMClientAsync(this);
+        _nmClient.init(_hadoopConf);
+        _nmClient.start();
+
+        _pool = Executors.newFixedThreadPool(_numThreads, new ThreadFactory() {
+            private final AtomicInteger _count = new AtomicInteger(0);
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "supervisor-launcher-" + _count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        _running = true;
+        _dispatcher = new Thread("supervisor-launch-dispatcher") {
+            @Override
+            public void run() {
+                while (_running && !Thread.currentThread().isInterrupted()) {
+                    try {
+                        Container container = _launcherQueue.take();
+                        LOG.info("LAUNCHER: Taking container with id ("+container.getId()+") from the queue.");
+                        if (_rateLimiter != null) {
+                            _rateLimiter.acquire();
+                        }
+                        _inFlight.incrementAndGet();
+                        _pool.execute(new LaunchTask(container));
+                    } catch (InterruptedException e) {
+                        if (_running) {
+                            LOG.error("Launcher thread interrupted : ", e);
+                            System.exit(1);
+                        }
+                        return;
+                    }
+                }
+            }
+        };
+        _dispatcher.setDaemon(true);
+        _dispatcher.start();
+        LOG.info("LAUNCHER: Started with " + _numThreads + " threads");
+    }
+
+    synchronized void stop() {
+        if (!_running) {
+            return;
+        }
+        _running = false;
+        _dispatcher.interrupt();
+        _pool.shutdownNow();
+        try {
+            _pool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        _nmClient.stop();
+    }
+
+    /**
+     * Queue allocated containers for launching.
+     */
+    void launch(List<Container> containers) {
+        _launcherQueue.addAll(containers);
+    }
+
+    /**
+     * @return the number of containers queued or being launched that have
+     * not yet been reported as started or failed.
+     */
+    int getPendingLaunches() {
+        return _launcherQueue.size() + _inFlight.get();
+    }
+
+    private class LaunchTask implements Runnable {
+        private final Container _container;
+
+        LaunchTask(Container container) {
+            _container = container;
+        }
+
+        @Override
+        public void run() {
+            ContainerId id = _container.getId();
+            if (!_client.supervisorsAreToRun()) {
+                // Do nothing
+                LOG.info("LAUNCHER: Supervisors are not to run, so not launching container id ("+id+")");
+                _inFlight.decrementAndGet();
+                return;
+            }
+            if (!_client.getRegistry().transition(id, SupervisorContainer.State.LAUNCHING)) {
+                LOG.info("LAUNCHER: Container id ("+id+") is no longer to be launched");
+                _inFlight.decrementAndGet();
+                return;
+            }
+            LOG.info("LAUNCHER: Supervisors are to run, so launching container id ("+id+")");
+            try {
+                ContainerLaunchContext launchContext =
+                        _client.createSupervisorLaunchContext(_container);
+                _launching.put(id, _container);
+                _nmClient.startContainerAsync(_container, launchContext);
+            } catch (IOException e) {
+                prepareFailed(id, e);
+            } catch (RuntimeException e) {
+                // would otherwise end the pool thread silently and leave the
+                // container LAUNCHING for good
+                prepareFailed(id, e);
+            }
+        }
+
+        private void prepareFailed(ContainerId id, Exception e) {
+            LOG.error("LAUNCHER: Failed to prepare container id ("+id+")", e);
+            _launching.remove(id);
+            _inFlight.decrementAndGet();
+            _client.getEvents().record(ClusterEventLog.SUPERVISOR_LAUNCH_FAILED, id,
+                    _container.getNodeId().getHost(), 0, e.toString());
+            _client.releaseContainer(id);
+        }
+    }
+
+    @Override
+    public void onContainerStarted(ContainerId containerId,
+            Map<String, ByteBuffer> allServiceResponse) {
+        Container container = _launching.remove(containerId);
+        _inFlight.decrementAndGet();
+        _client.getRegistry().transition(containerId, SupervisorContainer.State.RUNNING);
+        _client.getEvents().record(ClusterEventLog.SUPERVISOR_LAUNCHED, containerId,
+                container == null ? null : container.getNodeId().getHost(), 0, null);
+        LOG.info("LAUNCHER: Started supervisor in container id ("+containerId+")");
+        try {
+            String userShortName = UserGroupInformation.getCurrentUser().getShortUserName();
+            if (container != null && userShortName != null)
+                LOG.info("Supervisor log: http://" + container.getNodeHttpAddress() + "/node/containerlogs/"
+                        + containerId.toString() + "/" + userShortName + "/supervisor.log");
+        } catch (IOException e) {
+            LOG.debug("Unable to get current user", e);
+        }
+    }
+
+    @Override
+    public void onStartContainerError(ContainerId containerId, Throwable t) {
+        Container container = _launching.remove(containerId);
+        _client.getEvents().record(ClusterEventLog.SUPERVISOR_LAUNCH_FAILED, containerId,
+                container == null ? null : container.getNodeId().getHost(), 0, t.toString());
+        _inFlight.decrementAndGet();
+        LOG.error("LAUNCHER: Failed to start supervisor in container id ("+containerId+")", t);
+        _client.launchFailed(containerId);
+    }
+
+    @Override
+    public void onContainerStatusReceived(ContainerId containerId,
+            ContainerStatus containerStatus) {
+        LOG.debug("Container status of " + containerId + ": " + containerStatus);
+    }
+
+    @Override
+    public void onContainerStopped(ContainerId containerId) {
+        LOG.info("Container id ("+containerId+") stopped");
+    }
+
+    @Override
+    public void onGetContainerStatusError(ContainerId containerId, Throwable t) {
+        LOG.warn("Failed to query the status of container id ("+containerId+")", t);
+    }
+
+    @Override
+    public void onStopContainerError(ContainerId containerId, Throwable t) {
+        LOG.warn("Failed to stop container id ("+containerId+")", t);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Map;
+
+/**
+ * Decides where supervisor containers should be requested and whether an
+ * allocated container is acceptable.  Implementations are selected with
+ * master.placement.policy, either by the name of a built-in strategy or by
+ * class name, and must have a public no-argument constructor.
+ */
+public interface SupervisorPlacementPolicy {
+
+    /**
+     * Invoked once immediately after construction
+     * @param storm_conf Storm configuration
+     */
+    void prepare(@SuppressWarnings("rawtypes") Map storm_conf);
+
+    /**
+     * @param view the supervisors currently held by the application
+     * @return locality hints for the next supervisor container request
+     */
+    Placement nextPlacement(View view);
+
+    /**
+     * @param host the host the container was allocated on
+     * @param rack the rack of that host
+     * @param view the supervisors currently held by the application, not
+     * including the container in question
+     * @return false to give the container back and ask for another one
+     */
+    boolean accept(String host, String rack, View view);
+
+    /**
+     * Locality hints of a container request.  A null array places no
+     * constraint at that level.  Requests always allow the RM to relax
+     * locality, so hints are preferences rather than guarantees.
+     */
+    public static class Placement {
+        public static final Placement ANYWHERE = new Placement(null, null);
+
+        private final String[] _nodes;
+        private final String[] _racks;
+
+        public Placement(String[] nodes, String[] racks) {
+            _nodes = nodes;
+            _racks = racks;
+        }
+
+        public String[] getNodes() {
+            return _nodes;
+        }
+
+        public String[] getRacks() {
+            return _racks;
+        }
+    }
+
+    /**
+     * Read-only view of where the application's supervisors currently run.
+     */
+    public interface View {
+        int supervisorsOnHost(String host);
+
+        int supervisorsOnRack(String rack);
+
+        /**
+         * @return the number of supervisors per rack, for racks holding at
+         * least one supervisor
+         */
+        Map<String, Integer> supervisorsPerRack();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.hadoop.yarn.api.records.Priority;
+import org.apache.hadoop.yarn.api.records.Resource;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * A named shape of supervisor.  A profile is a set of configuration
+ * overrides applied on top of the storm configuration for its supervisors,
+ * e.g. master.supervisor.container.size-mb, master.supervisor.container.vcores,
+ * supervisor.slots.ports, supervisor.childopts, worker.childopts and
+ * master.container.priority.  Profiles are defined in
+ * master.supervisor.profiles; the "default" profile has no overrides.
+ *
+ * The YARN priority identifies the profile of an allocated container, so
+ * every profile must use a distinct priority.
+ */
+class SupervisorProfile {
+    static final String DEFAULT = "default";
+
+    private final String _name;
+    @SuppressWarnings("rawtypes")
+    private final Map _overrides;
+    private final Priority _priority;
+
+    @SuppressWarnings("rawtypes")
+    SupervisorProfile(String name, Map overrides, int priority) {
+        _name = name;
+        _overrides = overrides;
+        _priority = Priority.newInstance(priority);
+    }
+
+    String getName() {
+        return _name;
+    }
+
+    Priority getPriority() {
+        return _priority;
+    }
+
+    /**
+     * @return a copy of storm_conf with the overrides of this profile applied
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    Map getConf(Map storm_conf) {
+        Map conf = new HashMap(storm_conf);
+        conf.putAll(_overrides);
+        return conf;
+    }
+
+    /**
+     * @return the capability of one container of this profile
+     */
+    @SuppressWarnings("rawtypes")
+    Resource getCapability(Map storm_conf, Resource max) {
+        return SupervisorResources.compute(getConf(storm_conf), max);
+    }
+
+    @Override
+    public String toString() {
+        return _name + "(priority " + _priority.getPriority() + ")";
+    }
+
+    /**
+     * @return all profiles of storm_conf by name, including the default one
+     */
+    @SuppressWarnings("rawtypes")
+    static Map<String, SupervisorProfile> fromConf(Map storm_conf) {
+        Map<String, SupervisorProfile> profiles = new LinkedHashMap<String, SupervisorProfile>();
+        Map<Integer, String> byPriority = new HashMap<Integer, String>();
+        int defaultPriority = Utils.getInt(storm_conf.get(Config.MASTER_CONTAINER_PRIORITY));
+        profiles.put(DEFAULT, new SupervisorProfile(DEFAULT, Collections.EMPTY_MAP, defaultPriority));
+        byPriority.put(defaultPriority, DEFAULT);
+
+        Object defined = storm_conf.get(Config.MASTER_SUPERVISOR_PROFILES);
+        if (defined instanceof Map) {
+            for (Object o : ((Map) defined).entrySet()) {
+                Map.Entry e = (Map.Entry) o;
+                String name = e.getKey().toString();
+                Map overrides = e.getValue() instanceof Map ? (Map) e.getValue() : Collections.EMPTY_MAP;
+                if (profiles.containsKey(name)) {
+                    throw new IllegalArgumentException("Supervisor profile " + name + " is defined twice");
+                }
+                Object pri = overrides.get(Config.MASTER_CONTAINER_PRIORITY);
+                if (pri == null) {
+                    throw new IllegalArgumentException("Supervisor profile " + name + " must set "
+                            + Config.MASTER_CONTAINER_PRIORITY);
+                }
+                int priority = Utils.getInt(pri);
+                if (byPriority.containsKey(priority)) {
+                    throw new IllegalArgumentException("Supervisor profiles " + name + " and "
+                            + byPriority.get(priority) + " share priority " + priority);
+                }
+                byPriority.put(priority, name);
+                profiles.put(name, new SupervisorProfile(name, overrides, priority));
+            }
+        }
+        return profiles;
+    }
+}
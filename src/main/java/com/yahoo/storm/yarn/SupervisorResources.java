@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import backtype.storm.utils.Utils;
+
+/**
+ * Computes the size of a supervisor container from the storm configuration:
+ * one worker heap per slot plus a fixed overhead for the supervisor JVM and
+ * the native memory of the workers.  master.supervisor.container.size-mb and
+ * master.supervisor.container.vcores override the computed values.
+ */
+class SupervisorResources {
+    private static final Logger LOG = LoggerFactory.getLogger(SupervisorResources.class);
+    // storm's own default worker.childopts
+    static final int DEFAULT_WORKER_HEAP_MB = 768;
+    private static final Pattern XMX = Pattern.compile("-Xmx(\\d+)([kKmMgG]?)");
+
+    @SuppressWarnings("rawtypes")
+    static int numSlots(Map storm_conf) {
+        Object ports = storm_conf.get(backtype.storm.Config.SUPERVISOR_SLOTS_PORTS);
+        if (ports instanceof List) {
+            return ((List) ports).size();
+        }
+        return 0;
+    }
+
+    /**
+     * @return the -Xmx setting of the given childopts in MB, or -1 if there is none
+     */
+    @SuppressWarnings("rawtypes")
+    static int heapMb(Object childopts) {
+        if (childopts == null) {
+            return -1;
+        }
+        String opts;
+        if (childopts instanceof List) {
+            StringBuilder sb = new StringBuilder();
+            for (Object o : (List) childopts) {
+                sb.append(o).append(' ');
+            }
+            opts = sb.toString();
+        } else {
+            opts = childopts.toString();
+        }
+        long heap = -1;
+        Matcher m = XMX.matcher(opts);
+        // the last -Xmx on a JVM command line wins
+        while (m.find()) {
+            heap = Long.parseLong(m.group(1));
+            String unit = m.group(2).toLowerCase();
+            if (unit.equals("g")) {
+                heap *= 1024;
+            } else if (unit.equals("k")) {
+                heap /= 1024;
+            } else if (unit.length() == 0) {
+                heap /= 1024 * 1024;
+            }
+        }
+        return (int) heap;
+    }
+
+    @SuppressWarnings("rawtypes")
+    static int memoryMb(Map storm_conf) {
+        Object size = storm_conf.get(Config.MASTER_SUPERVISOR_SIZE_MB);
+        if (size != null && Utils.getInt(size) > 0) {
+            return Utils.getInt(size);
+        }
+        int workerHeap = heapMb(storm_conf.get(backtype.storm.Config.WORKER_CHILDOPTS));
+        if (workerHeap < 0) {
+            workerHeap = DEFAULT_WORKER_HEAP_MB;
+        }
+        return numSlots(storm_conf) * workerHeap
+                + Utils.getInt(storm_conf.get(Config.MASTER_SUPERVISOR_OVERHEAD_MB));
+    }
+
+    @SuppressWarnings("rawtypes")
+    static int vcores(Map storm_conf) {
+        Object vcores = storm_conf.get(Config.MASTER_SUPERVISOR_VCORES);
+        if (vcores != null && Utils.getInt(vcores) > 0) {
+            return Utils.getInt(vcores);
+        }
+        return Math.max(1, numSlots(storm_conf));
+    }
+
+    /**
+     * @param max the maximum allocation of the RM; may be null if unknown
+     * @return the capability to request for one supervisor container
+     */
+    @SuppressWarnings("rawtypes")
+    static Resource compute(Map storm_conf, Resource max) {
+        int memory = memoryMb(storm_conf);
+        int vcores = vcores(storm_conf);
+        if (max != null) {
+            if (memory > max.getMemory()) {
+                LOG.warn("Supervisor needs " + memory + " MB, capping to the maximum allocation of "
+                        + max.getMemory() + " MB");
+                memory = max.getMemory();
+            }
+            if (vcores > max.getVirtualCores()) {
+                vcores = max.getVirtualCores();
+            }
+        }
+        return Resource.newInstance(memory, vcores);
+    }
+}
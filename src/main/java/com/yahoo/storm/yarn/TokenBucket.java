@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple token bucket: permits are refilled at a fixed rate up to a
+ * maximum burst, and {@link #acquire()} blocks until one is available.
+ */
+class TokenBucket {
+    private final double _permitsPerNano;
+    private final double _maxPermits;
+    private double _permits;
+    private long _lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond rate at which permits are refilled
+     * @param burst maximum number of permits that can be taken at once
+     */
+    TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("invalid rate " + permitsPerSecond
+                    + "/s with burst " + burst);
+        }
+        _permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        _maxPermits = burst;
+        _permits = burst;
+        _lastRefillNanos = System.nanoTime();
+    }
+
+    private void refill(long now) {
+        _permits = Math.min(_maxPermits,
+                _permits + (now - _lastRefillNanos) * _permitsPerNano);
+        _lastRefillNanos = now;
+    }
+
+    /**
+     * Block until a permit is available and take it.
+     */
+    void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill(System.nanoTime());
+                if (_permits >= 1) {
+                    _permits -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - _permits) / _permitsPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1));
+        }
+    }
+}
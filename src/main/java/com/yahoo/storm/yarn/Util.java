@@ -17,14 +17,18 @@
 package com.yahoo.storm.yarn;
 
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import java.io.OutputStreamWriter;
@@ -35,12 +39,15 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.jar.JarEntry;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
@@ -48,6 +55,8 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.permission.FsAction;
 import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.hadoop.io.IOUtils;
+import org.apache.hadoop.util.StringUtils;
 import org.apache.hadoop.yarn.api.ApplicationConstants;
 import org.apache.hadoop.yarn.api.records.LocalResource;
 import org.apache.hadoop.yarn.api.records.LocalResourceType;
@@ -99,19 +108,37 @@ class Util {
     return version;
   }
 
+  // storm home entries of storm.zip files, by path, length and modification time
+  private static final ConcurrentMap<String, String> STORM_HOME_IN_ZIP =
+      new ConcurrentHashMap<String, String>();
+
   static String getStormHomeInZip(FileSystem fs, Path zip, String stormVersion) throws IOException, RuntimeException {
-    FSDataInputStream fsInputStream = fs.open(zip);
-    ZipInputStream zipInputStream = new ZipInputStream(fsInputStream);
-    ZipEntry entry = zipInputStream.getNextEntry();
-    while (entry != null) {
-      String entryName = entry.getName();
-      if (entryName.matches("^storm(-" + stormVersion + ")?/")) {
-        fsInputStream.close();
+    FileStatus status = fs.getFileStatus(zip);
+    String key = status.getPath() + ":" + status.getLen() + ":" + status.getModificationTime()
+        + ":" + stormVersion;
+    String home = STORM_HOME_IN_ZIP.get(key);
+    if (home == null) {
+      home = findStormHomeInZip(fs, status, stormVersion);
+      STORM_HOME_IN_ZIP.put(key, home);
+    }
+    return home;
+  }
+
+  private static String findStormHomeInZip(FileSystem fs, FileStatus zip, String stormVersion)
+      throws IOException {
+    List<String> entryNames;
+    FSDataInputStream fsInputStream = fs.open(zip.getPath());
+    try {
+      entryNames = ZipCentralDirectory.readEntryNames(fsInputStream, zip.getLen());
+    } finally {
+      fsInputStream.close();
+    }
+    String pattern = "^storm(-" + stormVersion + ")?/";
+    for (String entryName : entryNames) {
+      if (entryName.matches(pattern)) {
         return entryName.replace("/", "");
       }
-      entry = zipInputStream.getNextEntry();
     }
-    fsInputStream.close();
     throw new RuntimeException("Can not find storm home entry in storm zip file.");
   }
 
@@ -139,41 +166,116 @@ class Util {
     }
   }
 
+  /**
+   * @return a config value as a double, also if it was quoted in the yaml,
+   * or defaultValue if it is not set
+   */
+  static double getDouble(Object value, double defaultValue) {
+    if (value == null) {
+      return defaultValue;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    try {
+      return Double.parseDouble(value.toString().trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Not a number: " + value, e);
+    }
+  }
+
+  static Properties loadProperties(File file) throws IOException {
+    Properties props = new Properties();
+    InputStream in = new FileInputStream(file);
+    try {
+      props.load(in);
+    } finally {
+      in.close();
+    }
+    return props;
+  }
+
+  /**
+   * Writes the properties to a private copy next to the file first and
+   * renames it, so that concurrent readers never see a partial file.
+   */
+  static void storeProperties(File file, Properties props, String comment) throws IOException {
+    File dir = file.getAbsoluteFile().getParentFile();
+    File tmp = new File(dir, "." + file.getName() + "." + UUID.randomUUID());
+    try {
+      dir.mkdirs();
+      OutputStream out = new FileOutputStream(tmp);
+      try {
+        props.store(out, comment);
+      } finally {
+        out.close();
+      }
+      if (!tmp.renameTo(file)) {
+        file.delete();
+        if (!tmp.renameTo(file)) {
+          throw new IOException("Failed to rename " + tmp + " to " + file);
+        }
+      }
+    } finally {
+      tmp.delete();
+    }
+  }
+
   @SuppressWarnings("rawtypes")
   static Path createConfigurationFileInFs(FileSystem fs,
           String appHome, Map stormConf, YarnConfiguration yarnConf) 
           throws IOException {
-    // dump stringwriter's content into FS conf/storm.yaml
+    return createConfigurationFileInFs(fs, appHome,
+        toYaml(stormConf), toXml(yarnConf), readLogbackXML());
+  }
+
+  /**
+   * Write already serialized storm.yaml, yarn-site.xml and logback.xml into
+   * the conf directory under appHome.
+   * @return the conf directory
+   */
+  static Path createConfigurationFileInFs(FileSystem fs, String appHome,
+          byte[] stormYaml, byte[] yarnSiteXml, byte[] logbackXml)
+          throws IOException {
     Path confDst = new Path(fs.getHomeDirectory(),
             appHome + Path.SEPARATOR + STORM_CONF_PATH_STRING);
     Path dirDst = confDst.getParent();
     fs.mkdirs(dirDst);
-    
-    //storm.yaml
-    FSDataOutputStream out = fs.create(confDst);
+
+    writeFile(fs, confDst, stormYaml);
+    writeFile(fs, new Path(dirDst, "yarn-site.xml"), yarnSiteXml);
+    writeFile(fs, new Path(dirDst, "logback.xml"), logbackXml);
+
+    return dirDst;
+  }
+
+  private static void writeFile(FileSystem fs, Path path, byte[] content) throws IOException {
+    FSDataOutputStream out = fs.create(path);
+    try {
+      out.write(content);
+    } finally {
+      out.close();
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  static byte[] toYaml(Map stormConf) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
     Yaml yaml = new Yaml();
     OutputStreamWriter writer = new OutputStreamWriter(out);
     rmNulls(stormConf);
     yaml.dump(stormConf, writer);
     writer.close();
-    out.close();
+    return out.toByteArray();
+  }
 
-    //yarn-site.xml
-    Path yarn_site_xml = new Path(dirDst, "yarn-site.xml");
-    out = fs.create(yarn_site_xml);
-    writer = new OutputStreamWriter(out);
-    yarnConf.writeXml(writer);
+  static byte[] toXml(Configuration conf) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    OutputStreamWriter writer = new OutputStreamWriter(out);
+    conf.writeXml(writer);
     writer.close();
-    out.close();
-
-    //logback.xml
-    Path logback_xml = new Path(dirDst, "logback.xml");
-    out = fs.create(logback_xml);
-    CreateLogbackXML(out);
-    out.close();
-
-    return dirDst;
-  } 
+    return out.toByteArray();
+  }
 
   static LocalResource newYarnAppResource(FileSystem fs, Path path)
       throws IOException {
@@ -181,7 +283,7 @@ class Util {
         LocalResourceVisibility.APPLICATION);
   }
 
-  private static void CreateLogbackXML(OutputStream out) throws IOException {
+  static byte[] readLogbackXML() throws IOException {
     Enumeration<URL> logback_xml_urls;
     logback_xml_urls = Thread.currentThread().getContextClassLoader().getResources("logback.xml");
     while (logback_xml_urls.hasMoreElements()) {
@@ -189,37 +291,42 @@ class Util {
       if (logback_xml_url.getProtocol().equals("file")) {
         //Case 1: logback.xml as simple file
         FileInputStream is = new FileInputStream(logback_xml_url.getPath());
-        while (is.available() > 0) {
-          out.write(is.read());
+        try {
+          return readFully(is);
+        } finally {
+          is.close();
         }
-        is.close();
-        return;
       }
       if (logback_xml_url.getProtocol().equals("jar")) {
         //Case 2: logback.xml included in a JAR
         String path = logback_xml_url.getPath();
         String jarFile = path.substring("file:".length(), path.indexOf("!"));
         java.util.jar.JarFile jar = new java.util.jar.JarFile(jarFile);
-        Enumeration<JarEntry> enums = jar.entries();
-        while (enums.hasMoreElements()) {
-          java.util.jar.JarEntry file = enums.nextElement();
-          if (!file.isDirectory() && file.getName().equals("logback.xml")) {
-            InputStream is = jar.getInputStream(file); // get the input stream
-            while (is.available() > 0) {
-              out.write(is.read());
+        try {
+          JarEntry file = jar.getJarEntry("logback.xml");
+          if (file != null && !file.isDirectory()) {
+            InputStream is = jar.getInputStream(file);
+            try {
+              return readFully(is);
+            } finally {
+              is.close();
             }
-            is.close();
-            jar.close();
-            return;
           }
+        } finally {
+          jar.close();
         }
-        jar.close();
       }
     }
 
     throw new IOException("Failed to locate a logback.xml");
   }
 
+  private static byte[] readFully(InputStream is) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    IOUtils.copyBytes(is, out, 4096, false);
+    return out.toByteArray();
+  }
+
   @SuppressWarnings("rawtypes")
   private static List<String> buildCommandPrefix(Map conf, String childOptsKey) 
           throws IOException {
@@ -270,7 +377,7 @@ class Util {
   @SuppressWarnings("rawtypes")
   static List<String> buildSupervisorCommands(Map conf) throws IOException {
       List<String> toRet =
-              buildCommandPrefix(conf, backtype.storm.Config.NIMBUS_CHILDOPTS);
+              buildCommandPrefix(conf, backtype.storm.Config.SUPERVISOR_CHILDOPTS);
 
       toRet.add("-Dworker.logdir="+ ApplicationConstants.LOG_DIR_EXPANSION_VAR);
       toRet.add("-Dlogfile.name=" + ApplicationConstants.LOG_DIR_EXPANSION_VAR + "/supervisor.log");
@@ -341,6 +448,83 @@ class Util {
       return ".storm" + Path.SEPARATOR + id;
   }
 
+  /**
+   * Upload a local file into the content-addressed staging area
+   * .storm/cache/&lt;sha256&gt;/&lt;name&gt;, unless a copy of the same content is
+   * already there.  Identical artifacts of different applications thus share
+   * one path and timestamp, so that NodeManagers can reuse their localized
+   * copy.
+   * @return the staged file
+   */
+  static Path stageInCache(FileSystem fs, File src, String name) throws IOException {
+    String sha256 = sha256Hex(src);
+    Path dir = new Path(fs.getHomeDirectory(),
+        ".storm" + Path.SEPARATOR + "cache" + Path.SEPARATOR + sha256);
+    Path dst = new Path(dir, name);
+    if (fs.exists(dst) && fs.getFileStatus(dst).getLen() == src.length()) {
+      return dst;
+    }
+    // upload under a unique name first, so that concurrent launches never
+    // see a partial artifact
+    Path tmp = new Path(dir, "." + name + "." + UUID.randomUUID());
+    fs.mkdirs(dir);
+    fs.copyFromLocalFile(false, true, new Path(src.getAbsolutePath()), tmp);
+    if (!fs.rename(tmp, dst)) {
+      fs.delete(tmp, false);
+      if (!fs.exists(dst)) {
+        throw new IOException("Failed to stage " + src + " as " + dst);
+      }
+    }
+    return dst;
+  }
+
+  /**
+   * @return a resource for a staged file, PUBLIC if everybody can read it
+   * and PRIVATE otherwise, so that it is localized once per node or once per
+   * user on a node rather than once per application
+   */
+  static LocalResource newCachedResource(FileSystem fs, Path path) throws IOException {
+    LocalResourceVisibility vis = isPublic(fs, path)
+        ? LocalResourceVisibility.PUBLIC : LocalResourceVisibility.PRIVATE;
+    return newYarnAppResource(fs, path, LocalResourceType.FILE, vis);
+  }
+
+  /**
+   * @return the SHA-256 of the parts, one after the other, in hex; the name
+   * of content-addressed artifacts
+   */
+  static String sha256Hex(byte[]... parts) {
+    MessageDigest digest = sha256();
+    for (byte[] part : parts) {
+      digest.update(part);
+    }
+    return StringUtils.byteToHexString(digest.digest());
+  }
+
+  static String sha256Hex(File file) throws IOException {
+    MessageDigest digest = sha256();
+    InputStream in = new FileInputStream(file);
+    try {
+      byte[] buf = new byte[65536];
+      int n;
+      while ((n = in.read(buf)) > 0) {
+        digest.update(buf, 0, n);
+      }
+    } finally {
+      in.close();
+    }
+    return StringUtils.byteToHexString(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every JVM has SHA-256
+      throw new RuntimeException(e);
+    }
+  }
+
     /**
      * Returns a boolean to denote whether a cache file is visible to all(public)
      * or not
@@ -15,6 +15,7 @@
 package com.yahoo.storm.yarn;
 
 import java.io.File;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Map;
 
@@ -47,8 +48,8 @@ class VersionCommand implements ClientCommand {
   }
 
   @Override
-  public void process(CommandLine cl) throws Exception {
+  public void process(CommandLine cl, PrintStream out) throws Exception {
     Version version = Util.getStormVersion();
-    System.out.println(version.toString());
+    out.println(version.toString());
   }
 }
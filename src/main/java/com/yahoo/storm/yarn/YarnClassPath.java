@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the classpath the AppMaster needs to reach the YARN jars.
+ * Running "yarn classpath" starts a JVM, so its output is cached in
+ * ~/.storm-yarn/yarn-classpath.properties, keyed by where the yarn command
+ * lives and when the hadoop configuration last changed, and only resolved
+ * again once that key changes.
+ */
+class YarnClassPath {
+    private static final Logger LOG = LoggerFactory.getLogger(YarnClassPath.class);
+    private static final String KEY = "key";
+    private static final String CLASSPATH = "classpath";
+
+    private final File _cacheFile;
+    private final String _key;
+
+    YarnClassPath(File cacheFile, String key) {
+        _cacheFile = cacheFile;
+        _key = key;
+    }
+
+    /**
+     * @param configured the value of storm.yarn.yarn_classpath, if any
+     * @return the classpath, without running "yarn classpath" if it is
+     * configured or cached
+     */
+    static String resolve(String configured) throws Exception {
+        if (configured != null) {
+            return configured;
+        }
+        File cacheFile = new File(System.getProperty("user.home"),
+                ".storm-yarn" + File.separator + "yarn-classpath.properties");
+        return new YarnClassPath(cacheFile, currentKey()).get(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return runYarnClassPath();
+            }
+        });
+    }
+
+    String get(Callable<String> resolver) throws Exception {
+        Properties cached = read();
+        if (cached != null && _key.equals(cached.getProperty(KEY))) {
+            LOG.info("YARN CLASSPATH (cached in " + _cacheFile + ") = [" + cached.getProperty(CLASSPATH) + "]");
+            return cached.getProperty(CLASSPATH);
+        }
+        String classPath = resolver.call();
+        if (!classPath.isEmpty()) {
+            write(classPath);
+        }
+        return classPath;
+    }
+
+    private Properties read() {
+        if (!_cacheFile.isFile()) {
+            return null;
+        }
+        Properties props;
+        try {
+            props = Util.loadProperties(_cacheFile);
+        } catch (IOException e) {
+            LOG.warn("Ignoring unreadable " + _cacheFile, e);
+            return null;
+        }
+        return props.getProperty(CLASSPATH) == null ? null : props;
+    }
+
+    private void write(String classPath) {
+        Properties props = new Properties();
+        props.setProperty(KEY, _key);
+        props.setProperty(CLASSPATH, classPath);
+        try {
+            Util.storeProperties(_cacheFile, props, "output of yarn classpath");
+        } catch (IOException e) {
+            LOG.warn("Unable to cache the yarn classpath in " + _cacheFile, e);
+        }
+    }
+
+    /**
+     * @return the location of the yarn command and of the hadoop
+     * configuration, with their last modification times
+     */
+    static String currentKey() {
+        StringBuilder key = new StringBuilder();
+        File yarn = findOnPath("yarn");
+        append(key, yarn);
+        String confDir = System.getenv("YARN_CONF_DIR");
+        if (confDir == null) {
+            confDir = System.getenv("HADOOP_CONF_DIR");
+        }
+        if (confDir == null && yarn != null && yarn.getParentFile().getParentFile() != null) {
+            confDir = new File(yarn.getParentFile().getParentFile(), "etc" + File.separator + "hadoop").getPath();
+        }
+        File conf = confDir == null ? null : new File(confDir);
+        append(key, conf);
+        if (conf != null && conf.isDirectory()) {
+            long newest = 0;
+            File[] files = conf.listFiles();
+            for (int i = 0; files != null && i < files.length; i++) {
+                newest = Math.max(newest, files[i].lastModified());
+            }
+            key.append(newest);
+        }
+        return key.toString();
+    }
+
+    private static void append(StringBuilder key, File file) {
+        if (file != null) {
+            key.append(file.getAbsolutePath()).append('@').append(file.lastModified());
+        }
+        key.append(File.pathSeparatorChar);
+    }
+
+    private static File findOnPath(String command) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            File file = new File(dir, command);
+            if (file.isFile()) {
+                try {
+                    return file.getCanonicalFile();
+                } catch (IOException e) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String runYarnClassPath() throws IOException, InterruptedException {
+        List<String> yarn_classpath_cmd = Arrays.asList("yarn", "classpath");
+        ProcessBuilder pb = new ProcessBuilder(yarn_classpath_cmd);
+        LOG.info("YARN CLASSPATH COMMAND = [" + yarn_classpath_cmd + "]");
+        pb.environment().putAll(System.getenv());
+        Process proc = pb.start();
+        Util.redirectStreamAsync(proc.getErrorStream(), System.err);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(proc.getInputStream(), "UTF-8"));
+        StringBuilder yarn_class_path_builder = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            yarn_class_path_builder.append(line);
+        }
+        String yarn_class_path = yarn_class_path_builder.toString();
+        LOG.info("YARN CLASSPATH = [" + yarn_class_path + "]");
+        proc.waitFor();
+        reader.close();
+        return yarn_class_path;
+    }
+}
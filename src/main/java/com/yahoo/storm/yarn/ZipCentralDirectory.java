@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+/**
+ * Lists the entries of a zip file from its central directory, using
+ * positional reads only.  Only the end of central directory record and the
+ * central directory itself are read, so the cost does not depend on the
+ * size of the archive's content.
+ */
+class ZipCentralDirectory {
+    private static final int EOCD_SIG = 0x06054b50;
+    private static final int EOCD_LEN = 22;
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+    private static final int ZIP64_LOCATOR_LEN = 20;
+    private static final int ZIP64_EOCD_SIG = 0x06064b50;
+    private static final int ZIP64_EOCD_LEN = 56;
+    private static final int CEN_SIG = 0x02014b50;
+    private static final int CEN_LEN = 46;
+    private static final int MAX_COMMENT_LEN = 0xffff;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private ZipCentralDirectory() {
+    }
+
+    /**
+     * @param in the zip file
+     * @param length the length of the zip file
+     * @return the names of the entries, in central directory order
+     * @throws IOException if the file cannot be read or is not a zip file
+     */
+    static List<String> readEntryNames(FSDataInputStream in, long length) throws IOException {
+        // the EOCD record is followed by a comment of at most 64K
+        int tailLen = (int) Math.min(length, EOCD_LEN + MAX_COMMENT_LEN);
+        long tailStart = length - tailLen;
+        byte[] tail = new byte[tailLen];
+        in.readFully(tailStart, tail);
+
+        int eocd = -1;
+        for (int i = tailLen - EOCD_LEN; i >= 0; i--) {
+            if (getInt(tail, i) == EOCD_SIG) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd < 0) {
+            throw new IOException("No end of central directory record, not a zip file");
+        }
+        long entries = getShort(tail, eocd + 10);
+        long cenSize = getUnsignedInt(tail, eocd + 12);
+        long cenOffset = getUnsignedInt(tail, eocd + 16);
+
+        if (entries == 0xffff || cenSize == 0xffffffffL || cenOffset == 0xffffffffL) {
+            long locator = tailStart + eocd - ZIP64_LOCATOR_LEN;
+            if (locator < 0) {
+                throw new IOException("Truncated zip64 end of central directory locator");
+            }
+            byte[] loc = new byte[ZIP64_LOCATOR_LEN];
+            in.readFully(locator, loc);
+            if (getInt(loc, 0) != ZIP64_LOCATOR_SIG) {
+                throw new IOException("Missing zip64 end of central directory locator");
+            }
+            byte[] eocd64 = new byte[ZIP64_EOCD_LEN];
+            in.readFully(getLong(loc, 8), eocd64);
+            if (getInt(eocd64, 0) != ZIP64_EOCD_SIG) {
+                throw new IOException("Missing zip64 end of central directory record");
+            }
+            entries = getLong(eocd64, 32);
+            cenSize = getLong(eocd64, 40);
+            cenOffset = getLong(eocd64, 48);
+        }
+        if (cenSize > Integer.MAX_VALUE || cenOffset + cenSize > length) {
+            throw new IOException("Invalid central directory of " + cenSize + " bytes at " + cenOffset);
+        }
+
+        byte[] cen = new byte[(int) cenSize];
+        in.readFully(cenOffset, cen);
+        List<String> names = new ArrayList<String>();
+        int pos = 0;
+        while (pos + CEN_LEN <= cen.length && names.size() < entries) {
+            if (getInt(cen, pos) != CEN_SIG) {
+                throw new IOException("Invalid central directory header at " + (cenOffset + pos));
+            }
+            int nameLen = getShort(cen, pos + 28);
+            int extraLen = getShort(cen, pos + 30);
+            int commentLen = getShort(cen, pos + 32);
+            names.add(new String(cen, pos + CEN_LEN, nameLen, UTF8));
+            pos += CEN_LEN + nameLen + extraLen + commentLen;
+        }
+        return names;
+    }
+
+    private static int getShort(byte[] b, int off) {
+        return (b[off] & 0xff) | ((b[off + 1] & 0xff) << 8);
+    }
+
+    private static int getInt(byte[] b, int off) {
+        return getShort(b, off) | (getShort(b, off + 2) << 16);
+    }
+
+    private static long getUnsignedInt(byte[] b, int off) {
+        return getInt(b, off) & 0xffffffffL;
+    }
+
+    private static long getLong(byte[] b, int off) {
+        return getUnsignedInt(b, off) | (getUnsignedInt(b, off + 4) << 32);
+    }
+}
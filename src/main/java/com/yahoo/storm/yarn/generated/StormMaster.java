@@ -25,12 +25,30 @@ public class StormMaster {
 
   public interface Iface {
 
+    public String getAppAttemptId() throws org.apache.thrift7.TException;
+
     public String getStormConf() throws org.apache.thrift7.TException;
 
     public void setStormConf(String storm_conf) throws org.apache.thrift7.TException;
 
     public void addSupervisors(int number) throws org.apache.thrift7.TException;
 
+    public void addProfileSupervisors(String profile, int number) throws org.apache.thrift7.TException;
+
+    public void setSupervisorCount(int number) throws org.apache.thrift7.TException;
+
+    public void setProfileSupervisorCount(String profile, int number) throws org.apache.thrift7.TException;
+
+    public List<NodeHealth> getNodeHealth() throws org.apache.thrift7.TException;
+
+    public int getRegisteredSupervisors() throws org.apache.thrift7.TException;
+
+    public List<CommandResult> executeBatch(List<MasterCommand> commands) throws org.apache.thrift7.TException;
+
+    public ClusterEvents watchEvents(long since_seq, int timeout_ms) throws org.apache.thrift7.TException;
+
+    public ClusterState getClusterState() throws org.apache.thrift7.TException;
+
     public void startNimbus() throws org.apache.thrift7.TException;
 
     public void stopNimbus() throws org.apache.thrift7.TException;
@@ -49,12 +67,30 @@ public class StormMaster {
 
   public interface AsyncIface {
 
+    public void getAppAttemptId(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.getAppAttemptId_call> resultHandler) throws org.apache.thrift7.TException;
+
     public void getStormConf(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.getStormConf_call> resultHandler) throws org.apache.thrift7.TException;
 
     public void setStormConf(String storm_conf, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.setStormConf_call> resultHandler) throws org.apache.thrift7.TException;
 
     public void addSupervisors(int number, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.addSupervisors_call> resultHandler) throws org.apache.thrift7.TException;
 
+    public void addProfileSupervisors(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.addProfileSupervisors_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void setSupervisorCount(int number, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.setSupervisorCount_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void setProfileSupervisorCount(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.setProfileSupervisorCount_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void getNodeHealth(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.getNodeHealth_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void getRegisteredSupervisors(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.getRegisteredSupervisors_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void executeBatch(List<MasterCommand> commands, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.executeBatch_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void watchEvents(long since_seq, int timeout_ms, org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.watchEvents_call> resultHandler) throws org.apache.thrift7.TException;
+
+    public void getClusterState(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.getClusterState_call> resultHandler) throws org.apache.thrift7.TException;
+
     public void startNimbus(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.startNimbus_call> resultHandler) throws org.apache.thrift7.TException;
 
     public void stopNimbus(org.apache.thrift7.async.AsyncMethodCallback<AsyncClient.stopNimbus_call> resultHandler) throws org.apache.thrift7.TException;
@@ -91,6 +127,28 @@ public class StormMaster {
       super(iprot, oprot);
     }
 
+    public String getAppAttemptId() throws org.apache.thrift7.TException
+    {
+      send_getAppAttemptId();
+      return recv_getAppAttemptId();
+    }
+
+    public void send_getAppAttemptId() throws org.apache.thrift7.TException
+    {
+      getAppAttemptId_args args = new getAppAttemptId_args();
+      sendBase("getAppAttemptId", args);
+    }
+
+    public String recv_getAppAttemptId() throws org.apache.thrift7.TException
+    {
+      getAppAttemptId_result result = new getAppAttemptId_result();
+      receiveBase(result, "getAppAttemptId");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "getAppAttemptId failed: unknown result");
+    }
+
     public String getStormConf() throws org.apache.thrift7.TException
     {
       send_getStormConf();
@@ -153,6 +211,181 @@ public class StormMaster {
       return;
     }
 
+    public void addProfileSupervisors(String profile, int number) throws org.apache.thrift7.TException
+    {
+      send_addProfileSupervisors(profile, number);
+      recv_addProfileSupervisors();
+    }
+
+    public void send_addProfileSupervisors(String profile, int number) throws org.apache.thrift7.TException
+    {
+      addProfileSupervisors_args args = new addProfileSupervisors_args();
+      args.set_profile(profile);
+      args.set_number(number);
+      sendBase("addProfileSupervisors", args);
+    }
+
+    public void recv_addProfileSupervisors() throws org.apache.thrift7.TException
+    {
+      addProfileSupervisors_result result = new addProfileSupervisors_result();
+      receiveBase(result, "addProfileSupervisors");
+      return;
+    }
+
+    public void setSupervisorCount(int number) throws org.apache.thrift7.TException
+    {
+      send_setSupervisorCount(number);
+      recv_setSupervisorCount();
+    }
+
+    public void send_setSupervisorCount(int number) throws org.apache.thrift7.TException
+    {
+      setSupervisorCount_args args = new setSupervisorCount_args();
+      args.set_number(number);
+      sendBase("setSupervisorCount", args);
+    }
+
+    public void recv_setSupervisorCount() throws org.apache.thrift7.TException
+    {
+      setSupervisorCount_result result = new setSupervisorCount_result();
+      receiveBase(result, "setSupervisorCount");
+      return;
+    }
+
+    public void setProfileSupervisorCount(String profile, int number) throws org.apache.thrift7.TException
+    {
+      send_setProfileSupervisorCount(profile, number);
+      recv_setProfileSupervisorCount();
+    }
+
+    public void send_setProfileSupervisorCount(String profile, int number) throws org.apache.thrift7.TException
+    {
+      setProfileSupervisorCount_args args = new setProfileSupervisorCount_args();
+      args.set_profile(profile);
+      args.set_number(number);
+      sendBase("setProfileSupervisorCount", args);
+    }
+
+    public void recv_setProfileSupervisorCount() throws org.apache.thrift7.TException
+    {
+      setProfileSupervisorCount_result result = new setProfileSupervisorCount_result();
+      receiveBase(result, "setProfileSupervisorCount");
+      return;
+    }
+
+    public List<NodeHealth> getNodeHealth() throws org.apache.thrift7.TException
+    {
+      send_getNodeHealth();
+      return recv_getNodeHealth();
+    }
+
+    public void send_getNodeHealth() throws org.apache.thrift7.TException
+    {
+      getNodeHealth_args args = new getNodeHealth_args();
+      sendBase("getNodeHealth", args);
+    }
+
+    public List<NodeHealth> recv_getNodeHealth() throws org.apache.thrift7.TException
+    {
+      getNodeHealth_result result = new getNodeHealth_result();
+      receiveBase(result, "getNodeHealth");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "getNodeHealth failed: unknown result");
+    }
+
+    public int getRegisteredSupervisors() throws org.apache.thrift7.TException
+    {
+      send_getRegisteredSupervisors();
+      return recv_getRegisteredSupervisors();
+    }
+
+    public void send_getRegisteredSupervisors() throws org.apache.thrift7.TException
+    {
+      getRegisteredSupervisors_args args = new getRegisteredSupervisors_args();
+      sendBase("getRegisteredSupervisors", args);
+    }
+
+    public int recv_getRegisteredSupervisors() throws org.apache.thrift7.TException
+    {
+      getRegisteredSupervisors_result result = new getRegisteredSupervisors_result();
+      receiveBase(result, "getRegisteredSupervisors");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "getRegisteredSupervisors failed: unknown result");
+    }
+
+    public List<CommandResult> executeBatch(List<MasterCommand> commands) throws org.apache.thrift7.TException
+    {
+      send_executeBatch(commands);
+      return recv_executeBatch();
+    }
+
+    public void send_executeBatch(List<MasterCommand> commands) throws org.apache.thrift7.TException
+    {
+      executeBatch_args args = new executeBatch_args();
+      args.set_commands(commands);
+      sendBase("executeBatch", args);
+    }
+
+    public List<CommandResult> recv_executeBatch() throws org.apache.thrift7.TException
+    {
+      executeBatch_result result = new executeBatch_result();
+      receiveBase(result, "executeBatch");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "executeBatch failed: unknown result");
+    }
+
+    public ClusterEvents watchEvents(long since_seq, int timeout_ms) throws org.apache.thrift7.TException
+    {
+      send_watchEvents(since_seq, timeout_ms);
+      return recv_watchEvents();
+    }
+
+    public void send_watchEvents(long since_seq, int timeout_ms) throws org.apache.thrift7.TException
+    {
+      watchEvents_args args = new watchEvents_args();
+      args.set_since_seq(since_seq);
+      args.set_timeout_ms(timeout_ms);
+      sendBase("watchEvents", args);
+    }
+
+    public ClusterEvents recv_watchEvents() throws org.apache.thrift7.TException
+    {
+      watchEvents_result result = new watchEvents_result();
+      receiveBase(result, "watchEvents");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "watchEvents failed: unknown result");
+    }
+
+    public ClusterState getClusterState() throws org.apache.thrift7.TException
+    {
+      send_getClusterState();
+      return recv_getClusterState();
+    }
+
+    public void send_getClusterState() throws org.apache.thrift7.TException
+    {
+      getClusterState_args args = new getClusterState_args();
+      sendBase("getClusterState", args);
+    }
+
+    public ClusterState recv_getClusterState() throws org.apache.thrift7.TException
+    {
+      getClusterState_result result = new getClusterState_result();
+      receiveBase(result, "getClusterState");
+      if (result.is_set_success()) {
+        return result.success;
+      }
+      throw new org.apache.thrift7.TApplicationException(org.apache.thrift7.TApplicationException.MISSING_RESULT, "getClusterState failed: unknown result");
+    }
+
     public void startNimbus() throws org.apache.thrift7.TException
     {
       send_startNimbus();
@@ -304,6 +537,35 @@ public class StormMaster {
       super(protocolFactory, clientManager, transport);
     }
 
+    public void getAppAttemptId(org.apache.thrift7.async.AsyncMethodCallback<getAppAttemptId_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      getAppAttemptId_call method_call = new getAppAttemptId_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getAppAttemptId_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public getAppAttemptId_call(org.apache.thrift7.async.AsyncMethodCallback<getAppAttemptId_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("getAppAttemptId", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        getAppAttemptId_args args = new getAppAttemptId_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getAppAttemptId();
+      }
+    }
+
     public void getStormConf(org.apache.thrift7.async.AsyncMethodCallback<getStormConf_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
       getStormConf_call method_call = new getStormConf_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -397,21 +659,27 @@ public class StormMaster {
       }
     }
 
-    public void startNimbus(org.apache.thrift7.async.AsyncMethodCallback<startNimbus_call> resultHandler) throws org.apache.thrift7.TException {
+    public void addProfileSupervisors(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<addProfileSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      startNimbus_call method_call = new startNimbus_call(resultHandler, this, ___protocolFactory, ___transport);
+      addProfileSupervisors_call method_call = new addProfileSupervisors_call(profile, number, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class startNimbus_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public startNimbus_call(org.apache.thrift7.async.AsyncMethodCallback<startNimbus_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class addProfileSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      private String profile;
+      private int number;
+      public addProfileSupervisors_call(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<addProfileSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.profile = profile;
+        this.number = number;
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startNimbus", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        startNimbus_args args = new startNimbus_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("addProfileSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        addProfileSupervisors_args args = new addProfileSupervisors_args();
+        args.set_profile(profile);
+        args.set_number(number);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -422,25 +690,28 @@ public class StormMaster {
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_startNimbus();
+        (new Client(prot)).recv_addProfileSupervisors();
       }
     }
 
-    public void stopNimbus(org.apache.thrift7.async.AsyncMethodCallback<stopNimbus_call> resultHandler) throws org.apache.thrift7.TException {
+    public void setSupervisorCount(int number, org.apache.thrift7.async.AsyncMethodCallback<setSupervisorCount_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      stopNimbus_call method_call = new stopNimbus_call(resultHandler, this, ___protocolFactory, ___transport);
+      setSupervisorCount_call method_call = new setSupervisorCount_call(number, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class stopNimbus_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public stopNimbus_call(org.apache.thrift7.async.AsyncMethodCallback<stopNimbus_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class setSupervisorCount_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      private int number;
+      public setSupervisorCount_call(int number, org.apache.thrift7.async.AsyncMethodCallback<setSupervisorCount_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.number = number;
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopNimbus", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        stopNimbus_args args = new stopNimbus_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("setSupervisorCount", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        setSupervisorCount_args args = new setSupervisorCount_args();
+        args.set_number(number);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -451,25 +722,31 @@ public class StormMaster {
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_stopNimbus();
+        (new Client(prot)).recv_setSupervisorCount();
       }
     }
 
-    public void startUI(org.apache.thrift7.async.AsyncMethodCallback<startUI_call> resultHandler) throws org.apache.thrift7.TException {
+    public void setProfileSupervisorCount(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<setProfileSupervisorCount_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      startUI_call method_call = new startUI_call(resultHandler, this, ___protocolFactory, ___transport);
+      setProfileSupervisorCount_call method_call = new setProfileSupervisorCount_call(profile, number, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class startUI_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public startUI_call(org.apache.thrift7.async.AsyncMethodCallback<startUI_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class setProfileSupervisorCount_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      private String profile;
+      private int number;
+      public setProfileSupervisorCount_call(String profile, int number, org.apache.thrift7.async.AsyncMethodCallback<setProfileSupervisorCount_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.profile = profile;
+        this.number = number;
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startUI", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        startUI_args args = new startUI_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("setProfileSupervisorCount", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        setProfileSupervisorCount_args args = new setProfileSupervisorCount_args();
+        args.set_profile(profile);
+        args.set_number(number);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -480,322 +757,5463 @@ public class StormMaster {
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_startUI();
+        (new Client(prot)).recv_setProfileSupervisorCount();
       }
     }
 
-    public void stopUI(org.apache.thrift7.async.AsyncMethodCallback<stopUI_call> resultHandler) throws org.apache.thrift7.TException {
+    public void getNodeHealth(org.apache.thrift7.async.AsyncMethodCallback<getNodeHealth_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      stopUI_call method_call = new stopUI_call(resultHandler, this, ___protocolFactory, ___transport);
+      getNodeHealth_call method_call = new getNodeHealth_call(resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class stopUI_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public stopUI_call(org.apache.thrift7.async.AsyncMethodCallback<stopUI_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class getNodeHealth_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public getNodeHealth_call(org.apache.thrift7.async.AsyncMethodCallback<getNodeHealth_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopUI", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        stopUI_args args = new stopUI_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("getNodeHealth", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        getNodeHealth_args args = new getNodeHealth_args();
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws org.apache.thrift7.TException {
+      public List<NodeHealth> getResult() throws org.apache.thrift7.TException {
         if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_stopUI();
+        return (new Client(prot)).recv_getNodeHealth();
       }
     }
 
-    public void startSupervisors(org.apache.thrift7.async.AsyncMethodCallback<startSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
+    public void getRegisteredSupervisors(org.apache.thrift7.async.AsyncMethodCallback<getRegisteredSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      startSupervisors_call method_call = new startSupervisors_call(resultHandler, this, ___protocolFactory, ___transport);
+      getRegisteredSupervisors_call method_call = new getRegisteredSupervisors_call(resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class startSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public startSupervisors_call(org.apache.thrift7.async.AsyncMethodCallback<startSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class getRegisteredSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public getRegisteredSupervisors_call(org.apache.thrift7.async.AsyncMethodCallback<getRegisteredSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        startSupervisors_args args = new startSupervisors_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("getRegisteredSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        getRegisteredSupervisors_args args = new getRegisteredSupervisors_args();
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws org.apache.thrift7.TException {
+      public int getResult() throws org.apache.thrift7.TException {
         if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_startSupervisors();
+        return (new Client(prot)).recv_getRegisteredSupervisors();
       }
     }
 
-    public void stopSupervisors(org.apache.thrift7.async.AsyncMethodCallback<stopSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
+    public void executeBatch(List<MasterCommand> commands, org.apache.thrift7.async.AsyncMethodCallback<executeBatch_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      stopSupervisors_call method_call = new stopSupervisors_call(resultHandler, this, ___protocolFactory, ___transport);
+      executeBatch_call method_call = new executeBatch_call(commands, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class stopSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public stopSupervisors_call(org.apache.thrift7.async.AsyncMethodCallback<stopSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class executeBatch_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      private List<MasterCommand> commands;
+      public executeBatch_call(List<MasterCommand> commands, org.apache.thrift7.async.AsyncMethodCallback<executeBatch_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.commands = commands;
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        stopSupervisors_args args = new stopSupervisors_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("executeBatch", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        executeBatch_args args = new executeBatch_args();
+        args.set_commands(commands);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws org.apache.thrift7.TException {
+      public List<CommandResult> getResult() throws org.apache.thrift7.TException {
         if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_stopSupervisors();
+        return (new Client(prot)).recv_executeBatch();
       }
     }
 
-    public void shutdown(org.apache.thrift7.async.AsyncMethodCallback<shutdown_call> resultHandler) throws org.apache.thrift7.TException {
+    public void watchEvents(long since_seq, int timeout_ms, org.apache.thrift7.async.AsyncMethodCallback<watchEvents_call> resultHandler) throws org.apache.thrift7.TException {
       checkReady();
-      shutdown_call method_call = new shutdown_call(resultHandler, this, ___protocolFactory, ___transport);
+      watchEvents_call method_call = new watchEvents_call(since_seq, timeout_ms, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class shutdown_call extends org.apache.thrift7.async.TAsyncMethodCall {
-      public shutdown_call(org.apache.thrift7.async.AsyncMethodCallback<shutdown_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+    public static class watchEvents_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      private long since_seq;
+      private int timeout_ms;
+      public watchEvents_call(long since_seq, int timeout_ms, org.apache.thrift7.async.AsyncMethodCallback<watchEvents_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
         super(client, protocolFactory, transport, resultHandler, false);
+        this.since_seq = since_seq;
+        this.timeout_ms = timeout_ms;
       }
 
       public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
-        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("shutdown", org.apache.thrift7.protocol.TMessageType.CALL, 0));
-        shutdown_args args = new shutdown_args();
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("watchEvents", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        watchEvents_args args = new watchEvents_args();
+        args.set_since_seq(since_seq);
+        args.set_timeout_ms(timeout_ms);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws org.apache.thrift7.TException {
+      public ClusterEvents getResult() throws org.apache.thrift7.TException {
         if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_shutdown();
+        return (new Client(prot)).recv_watchEvents();
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift7.TBaseProcessor implements org.apache.thrift7.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift7.ProcessFunction<I, ? extends org.apache.thrift7.TBase>>()));
-    }
-
-    protected Processor(I iface, Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> getProcessMap(Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> processMap) {
-      processMap.put("getStormConf", new getStormConf());
-      processMap.put("setStormConf", new setStormConf());
-      processMap.put("addSupervisors", new addSupervisors());
-      processMap.put("startNimbus", new startNimbus());
-      processMap.put("stopNimbus", new stopNimbus());
-      processMap.put("startUI", new startUI());
-      processMap.put("stopUI", new stopUI());
-      processMap.put("startSupervisors", new startSupervisors());
-      processMap.put("stopSupervisors", new stopSupervisors());
-      processMap.put("shutdown", new shutdown());
-      return processMap;
+    public void getClusterState(org.apache.thrift7.async.AsyncMethodCallback<getClusterState_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      getClusterState_call method_call = new getClusterState_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    private static class getStormConf<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getStormConf_args> {
-      public getStormConf() {
-        super("getStormConf");
+    public static class getClusterState_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public getClusterState_call(org.apache.thrift7.async.AsyncMethodCallback<getClusterState_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
       }
 
-      protected getStormConf_args getEmptyArgsInstance() {
-        return new getStormConf_args();
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("getClusterState", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        getClusterState_args args = new getClusterState_args();
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected getStormConf_result getResult(I iface, getStormConf_args args) throws org.apache.thrift7.TException {
-        getStormConf_result result = new getStormConf_result();
-        result.success = iface.getStormConf();
-        return result;
+      public ClusterState getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getClusterState();
       }
     }
 
-    private static class setStormConf<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, setStormConf_args> {
-      public setStormConf() {
-        super("setStormConf");
-      }
+    public void startNimbus(org.apache.thrift7.async.AsyncMethodCallback<startNimbus_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      startNimbus_call method_call = new startNimbus_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class startNimbus_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public startNimbus_call(org.apache.thrift7.async.AsyncMethodCallback<startNimbus_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startNimbus", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        startNimbus_args args = new startNimbus_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_startNimbus();
+      }
+    }
+
+    public void stopNimbus(org.apache.thrift7.async.AsyncMethodCallback<stopNimbus_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      stopNimbus_call method_call = new stopNimbus_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stopNimbus_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public stopNimbus_call(org.apache.thrift7.async.AsyncMethodCallback<stopNimbus_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopNimbus", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        stopNimbus_args args = new stopNimbus_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_stopNimbus();
+      }
+    }
+
+    public void startUI(org.apache.thrift7.async.AsyncMethodCallback<startUI_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      startUI_call method_call = new startUI_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class startUI_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public startUI_call(org.apache.thrift7.async.AsyncMethodCallback<startUI_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startUI", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        startUI_args args = new startUI_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_startUI();
+      }
+    }
+
+    public void stopUI(org.apache.thrift7.async.AsyncMethodCallback<stopUI_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      stopUI_call method_call = new stopUI_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stopUI_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public stopUI_call(org.apache.thrift7.async.AsyncMethodCallback<stopUI_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopUI", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        stopUI_args args = new stopUI_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_stopUI();
+      }
+    }
+
+    public void startSupervisors(org.apache.thrift7.async.AsyncMethodCallback<startSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      startSupervisors_call method_call = new startSupervisors_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class startSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public startSupervisors_call(org.apache.thrift7.async.AsyncMethodCallback<startSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("startSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        startSupervisors_args args = new startSupervisors_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_startSupervisors();
+      }
+    }
+
+    public void stopSupervisors(org.apache.thrift7.async.AsyncMethodCallback<stopSupervisors_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      stopSupervisors_call method_call = new stopSupervisors_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class stopSupervisors_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public stopSupervisors_call(org.apache.thrift7.async.AsyncMethodCallback<stopSupervisors_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("stopSupervisors", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        stopSupervisors_args args = new stopSupervisors_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_stopSupervisors();
+      }
+    }
+
+    public void shutdown(org.apache.thrift7.async.AsyncMethodCallback<shutdown_call> resultHandler) throws org.apache.thrift7.TException {
+      checkReady();
+      shutdown_call method_call = new shutdown_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class shutdown_call extends org.apache.thrift7.async.TAsyncMethodCall {
+      public shutdown_call(org.apache.thrift7.async.AsyncMethodCallback<shutdown_call> resultHandler, org.apache.thrift7.async.TAsyncClient client, org.apache.thrift7.protocol.TProtocolFactory protocolFactory, org.apache.thrift7.transport.TNonblockingTransport transport) throws org.apache.thrift7.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift7.protocol.TProtocol prot) throws org.apache.thrift7.TException {
+        prot.writeMessageBegin(new org.apache.thrift7.protocol.TMessage("shutdown", org.apache.thrift7.protocol.TMessageType.CALL, 0));
+        shutdown_args args = new shutdown_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift7.TException {
+        if (getState() != org.apache.thrift7.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift7.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift7.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift7.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_shutdown();
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift7.TBaseProcessor implements org.apache.thrift7.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift7.ProcessFunction<I, ? extends org.apache.thrift7.TBase>>()));
+    }
+
+    protected Processor(I iface, Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> getProcessMap(Map<String,  org.apache.thrift7.ProcessFunction<I, ? extends  org.apache.thrift7.TBase>> processMap) {
+      processMap.put("getAppAttemptId", new getAppAttemptId());
+      processMap.put("getStormConf", new getStormConf());
+      processMap.put("setStormConf", new setStormConf());
+      processMap.put("addSupervisors", new addSupervisors());
+      processMap.put("addProfileSupervisors", new addProfileSupervisors());
+      processMap.put("setSupervisorCount", new setSupervisorCount());
+      processMap.put("setProfileSupervisorCount", new setProfileSupervisorCount());
+      processMap.put("getNodeHealth", new getNodeHealth());
+      processMap.put("getRegisteredSupervisors", new getRegisteredSupervisors());
+      processMap.put("executeBatch", new executeBatch());
+      processMap.put("watchEvents", new watchEvents());
+      processMap.put("getClusterState", new getClusterState());
+      processMap.put("startNimbus", new startNimbus());
+      processMap.put("stopNimbus", new stopNimbus());
+      processMap.put("startUI", new startUI());
+      processMap.put("stopUI", new stopUI());
+      processMap.put("startSupervisors", new startSupervisors());
+      processMap.put("stopSupervisors", new stopSupervisors());
+      processMap.put("shutdown", new shutdown());
+      return processMap;
+    }
+
+    private static class getAppAttemptId<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getAppAttemptId_args> {
+      public getAppAttemptId() {
+        super("getAppAttemptId");
+      }
+
+      protected getAppAttemptId_args getEmptyArgsInstance() {
+        return new getAppAttemptId_args();
+      }
+
+      protected getAppAttemptId_result getResult(I iface, getAppAttemptId_args args) throws org.apache.thrift7.TException {
+        getAppAttemptId_result result = new getAppAttemptId_result();
+        result.success = iface.getAppAttemptId();
+        return result;
+      }
+    }
+
+    private static class getStormConf<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getStormConf_args> {
+      public getStormConf() {
+        super("getStormConf");
+      }
+
+      protected getStormConf_args getEmptyArgsInstance() {
+        return new getStormConf_args();
+      }
+
+      protected getStormConf_result getResult(I iface, getStormConf_args args) throws org.apache.thrift7.TException {
+        getStormConf_result result = new getStormConf_result();
+        result.success = iface.getStormConf();
+        return result;
+      }
+    }
+
+    private static class setStormConf<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, setStormConf_args> {
+      public setStormConf() {
+        super("setStormConf");
+      }
+
+      protected setStormConf_args getEmptyArgsInstance() {
+        return new setStormConf_args();
+      }
+
+      protected setStormConf_result getResult(I iface, setStormConf_args args) throws org.apache.thrift7.TException {
+        setStormConf_result result = new setStormConf_result();
+        iface.setStormConf(args.storm_conf);
+        return result;
+      }
+    }
+
+    private static class addSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, addSupervisors_args> {
+      public addSupervisors() {
+        super("addSupervisors");
+      }
+
+      protected addSupervisors_args getEmptyArgsInstance() {
+        return new addSupervisors_args();
+      }
+
+      protected addSupervisors_result getResult(I iface, addSupervisors_args args) throws org.apache.thrift7.TException {
+        addSupervisors_result result = new addSupervisors_result();
+        iface.addSupervisors(args.number);
+        return result;
+      }
+    }
+
+    private static class addProfileSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, addProfileSupervisors_args> {
+      public addProfileSupervisors() {
+        super("addProfileSupervisors");
+      }
+
+      protected addProfileSupervisors_args getEmptyArgsInstance() {
+        return new addProfileSupervisors_args();
+      }
+
+      protected addProfileSupervisors_result getResult(I iface, addProfileSupervisors_args args) throws org.apache.thrift7.TException {
+        addProfileSupervisors_result result = new addProfileSupervisors_result();
+        iface.addProfileSupervisors(args.profile, args.number);
+        return result;
+      }
+    }
+
+    private static class setSupervisorCount<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, setSupervisorCount_args> {
+      public setSupervisorCount() {
+        super("setSupervisorCount");
+      }
+
+      protected setSupervisorCount_args getEmptyArgsInstance() {
+        return new setSupervisorCount_args();
+      }
+
+      protected setSupervisorCount_result getResult(I iface, setSupervisorCount_args args) throws org.apache.thrift7.TException {
+        setSupervisorCount_result result = new setSupervisorCount_result();
+        iface.setSupervisorCount(args.number);
+        return result;
+      }
+    }
+
+    private static class setProfileSupervisorCount<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, setProfileSupervisorCount_args> {
+      public setProfileSupervisorCount() {
+        super("setProfileSupervisorCount");
+      }
+
+      protected setProfileSupervisorCount_args getEmptyArgsInstance() {
+        return new setProfileSupervisorCount_args();
+      }
+
+      protected setProfileSupervisorCount_result getResult(I iface, setProfileSupervisorCount_args args) throws org.apache.thrift7.TException {
+        setProfileSupervisorCount_result result = new setProfileSupervisorCount_result();
+        iface.setProfileSupervisorCount(args.profile, args.number);
+        return result;
+      }
+    }
+
+    private static class getNodeHealth<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getNodeHealth_args> {
+      public getNodeHealth() {
+        super("getNodeHealth");
+      }
+
+      protected getNodeHealth_args getEmptyArgsInstance() {
+        return new getNodeHealth_args();
+      }
+
+      protected getNodeHealth_result getResult(I iface, getNodeHealth_args args) throws org.apache.thrift7.TException {
+        getNodeHealth_result result = new getNodeHealth_result();
+        result.success = iface.getNodeHealth();
+        return result;
+      }
+    }
+
+    private static class getRegisteredSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getRegisteredSupervisors_args> {
+      public getRegisteredSupervisors() {
+        super("getRegisteredSupervisors");
+      }
+
+      protected getRegisteredSupervisors_args getEmptyArgsInstance() {
+        return new getRegisteredSupervisors_args();
+      }
+
+      protected getRegisteredSupervisors_result getResult(I iface, getRegisteredSupervisors_args args) throws org.apache.thrift7.TException {
+        getRegisteredSupervisors_result result = new getRegisteredSupervisors_result();
+        result.success = iface.getRegisteredSupervisors();
+        result.set_success_isSet(true);
+        return result;
+      }
+    }
+
+    private static class executeBatch<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, executeBatch_args> {
+      public executeBatch() {
+        super("executeBatch");
+      }
+
+      protected executeBatch_args getEmptyArgsInstance() {
+        return new executeBatch_args();
+      }
+
+      protected executeBatch_result getResult(I iface, executeBatch_args args) throws org.apache.thrift7.TException {
+        executeBatch_result result = new executeBatch_result();
+        result.success = iface.executeBatch(args.commands);
+        return result;
+      }
+    }
+
+    private static class watchEvents<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, watchEvents_args> {
+      public watchEvents() {
+        super("watchEvents");
+      }
+
+      protected watchEvents_args getEmptyArgsInstance() {
+        return new watchEvents_args();
+      }
+
+      protected watchEvents_result getResult(I iface, watchEvents_args args) throws org.apache.thrift7.TException {
+        watchEvents_result result = new watchEvents_result();
+        result.success = iface.watchEvents(args.since_seq, args.timeout_ms);
+        return result;
+      }
+    }
+
+    private static class getClusterState<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, getClusterState_args> {
+      public getClusterState() {
+        super("getClusterState");
+      }
+
+      protected getClusterState_args getEmptyArgsInstance() {
+        return new getClusterState_args();
+      }
+
+      protected getClusterState_result getResult(I iface, getClusterState_args args) throws org.apache.thrift7.TException {
+        getClusterState_result result = new getClusterState_result();
+        result.success = iface.getClusterState();
+        return result;
+      }
+    }
+
+    private static class startNimbus<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startNimbus_args> {
+      public startNimbus() {
+        super("startNimbus");
+      }
+
+      protected startNimbus_args getEmptyArgsInstance() {
+        return new startNimbus_args();
+      }
+
+      protected startNimbus_result getResult(I iface, startNimbus_args args) throws org.apache.thrift7.TException {
+        startNimbus_result result = new startNimbus_result();
+        iface.startNimbus();
+        return result;
+      }
+    }
+
+    private static class stopNimbus<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopNimbus_args> {
+      public stopNimbus() {
+        super("stopNimbus");
+      }
+
+      protected stopNimbus_args getEmptyArgsInstance() {
+        return new stopNimbus_args();
+      }
+
+      protected stopNimbus_result getResult(I iface, stopNimbus_args args) throws org.apache.thrift7.TException {
+        stopNimbus_result result = new stopNimbus_result();
+        iface.stopNimbus();
+        return result;
+      }
+    }
+
+    private static class startUI<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startUI_args> {
+      public startUI() {
+        super("startUI");
+      }
+
+      protected startUI_args getEmptyArgsInstance() {
+        return new startUI_args();
+      }
+
+      protected startUI_result getResult(I iface, startUI_args args) throws org.apache.thrift7.TException {
+        startUI_result result = new startUI_result();
+        iface.startUI();
+        return result;
+      }
+    }
+
+    private static class stopUI<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopUI_args> {
+      public stopUI() {
+        super("stopUI");
+      }
+
+      protected stopUI_args getEmptyArgsInstance() {
+        return new stopUI_args();
+      }
+
+      protected stopUI_result getResult(I iface, stopUI_args args) throws org.apache.thrift7.TException {
+        stopUI_result result = new stopUI_result();
+        iface.stopUI();
+        return result;
+      }
+    }
+
+    private static class startSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startSupervisors_args> {
+      public startSupervisors() {
+        super("startSupervisors");
+      }
+
+      protected startSupervisors_args getEmptyArgsInstance() {
+        return new startSupervisors_args();
+      }
+
+      protected startSupervisors_result getResult(I iface, startSupervisors_args args) throws org.apache.thrift7.TException {
+        startSupervisors_result result = new startSupervisors_result();
+        iface.startSupervisors();
+        return result;
+      }
+    }
+
+    private static class stopSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopSupervisors_args> {
+      public stopSupervisors() {
+        super("stopSupervisors");
+      }
+
+      protected stopSupervisors_args getEmptyArgsInstance() {
+        return new stopSupervisors_args();
+      }
+
+      protected stopSupervisors_result getResult(I iface, stopSupervisors_args args) throws org.apache.thrift7.TException {
+        stopSupervisors_result result = new stopSupervisors_result();
+        iface.stopSupervisors();
+        return result;
+      }
+    }
+
+    private static class shutdown<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, shutdown_args> {
+      public shutdown() {
+        super("shutdown");
+      }
+
+      protected shutdown_args getEmptyArgsInstance() {
+        return new shutdown_args();
+      }
+
+      protected shutdown_result getResult(I iface, shutdown_args args) throws org.apache.thrift7.TException {
+        shutdown_result result = new shutdown_result();
+        iface.shutdown();
+        return result;
+      }
+    }
+
+  }
+
+  public static class getAppAttemptId_args implements org.apache.thrift7.TBase<getAppAttemptId_args, getAppAttemptId_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getAppAttemptId_args");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getAppAttemptId_args.class, metaDataMap);
+    }
+
+    public getAppAttemptId_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAppAttemptId_args(getAppAttemptId_args other) {
+    }
+
+    public getAppAttemptId_args deepCopy() {
+      return new getAppAttemptId_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getAppAttemptId_args)
+        return this.equals((getAppAttemptId_args)that);
+      return false;
+    }
+
+    public boolean equals(getAppAttemptId_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getAppAttemptId_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getAppAttemptId_args typedOther = (getAppAttemptId_args)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getAppAttemptId_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getAppAttemptId_result implements org.apache.thrift7.TBase<getAppAttemptId_result, getAppAttemptId_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getAppAttemptId_result");
+
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.STRING, (short)0);
+
+    private String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getAppAttemptId_result.class, metaDataMap);
+    }
+
+    public getAppAttemptId_result() {
+    }
+
+    public getAppAttemptId_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getAppAttemptId_result(getAppAttemptId_result other) {
+      if (other.is_set_success()) {
+        this.success = other.success;
+      }
+    }
+
+    public getAppAttemptId_result deepCopy() {
+      return new getAppAttemptId_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String get_success() {
+      return this.success;
+    }
+
+    public void set_success(String success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getAppAttemptId_result)
+        return this.equals((getAppAttemptId_result)that);
+      return false;
+    }
+
+    public boolean equals(getAppAttemptId_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getAppAttemptId_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getAppAttemptId_result typedOther = (getAppAttemptId_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
+              this.success = iprot.readString();
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeString(this.success);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getAppAttemptId_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getStormConf_args implements org.apache.thrift7.TBase<getStormConf_args, getStormConf_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getStormConf_args");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getStormConf_args.class, metaDataMap);
+    }
+
+    public getStormConf_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStormConf_args(getStormConf_args other) {
+    }
+
+    public getStormConf_args deepCopy() {
+      return new getStormConf_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStormConf_args)
+        return this.equals((getStormConf_args)that);
+      return false;
+    }
+
+    public boolean equals(getStormConf_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getStormConf_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getStormConf_args typedOther = (getStormConf_args)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStormConf_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getStormConf_result implements org.apache.thrift7.TBase<getStormConf_result, getStormConf_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getStormConf_result");
+
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.STRING, (short)0);
+
+    private String success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getStormConf_result.class, metaDataMap);
+    }
+
+    public getStormConf_result() {
+    }
+
+    public getStormConf_result(
+      String success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStormConf_result(getStormConf_result other) {
+      if (other.is_set_success()) {
+        this.success = other.success;
+      }
+    }
+
+    public getStormConf_result deepCopy() {
+      return new getStormConf_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public String get_success() {
+      return this.success;
+    }
+
+    public void set_success(String success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStormConf_result)
+        return this.equals((getStormConf_result)that);
+      return false;
+    }
+
+    public boolean equals(getStormConf_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getStormConf_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getStormConf_result typedOther = (getStormConf_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
+              this.success = iprot.readString();
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeString(this.success);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStormConf_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setStormConf_args implements org.apache.thrift7.TBase<setStormConf_args, setStormConf_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setStormConf_args");
+
+    private static final org.apache.thrift7.protocol.TField STORM_CONF_FIELD_DESC = new org.apache.thrift7.protocol.TField("storm_conf", org.apache.thrift7.protocol.TType.STRING, (short)1);
+
+    private String storm_conf; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      STORM_CONF((short)1, "storm_conf");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // STORM_CONF
+            return STORM_CONF;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.STORM_CONF, new org.apache.thrift7.meta_data.FieldMetaData("storm_conf", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setStormConf_args.class, metaDataMap);
+    }
+
+    public setStormConf_args() {
+    }
+
+    public setStormConf_args(
+      String storm_conf)
+    {
+      this();
+      this.storm_conf = storm_conf;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setStormConf_args(setStormConf_args other) {
+      if (other.is_set_storm_conf()) {
+        this.storm_conf = other.storm_conf;
+      }
+    }
+
+    public setStormConf_args deepCopy() {
+      return new setStormConf_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.storm_conf = null;
+    }
+
+    public String get_storm_conf() {
+      return this.storm_conf;
+    }
+
+    public void set_storm_conf(String storm_conf) {
+      this.storm_conf = storm_conf;
+    }
+
+    public void unset_storm_conf() {
+      this.storm_conf = null;
+    }
+
+    /** Returns true if field storm_conf is set (has been assigned a value) and false otherwise */
+    public boolean is_set_storm_conf() {
+      return this.storm_conf != null;
+    }
+
+    public void set_storm_conf_isSet(boolean value) {
+      if (!value) {
+        this.storm_conf = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case STORM_CONF:
+        if (value == null) {
+          unset_storm_conf();
+        } else {
+          set_storm_conf((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case STORM_CONF:
+        return get_storm_conf();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case STORM_CONF:
+        return is_set_storm_conf();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setStormConf_args)
+        return this.equals((setStormConf_args)that);
+      return false;
+    }
+
+    public boolean equals(setStormConf_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_storm_conf = true && this.is_set_storm_conf();
+      boolean that_present_storm_conf = true && that.is_set_storm_conf();
+      if (this_present_storm_conf || that_present_storm_conf) {
+        if (!(this_present_storm_conf && that_present_storm_conf))
+          return false;
+        if (!this.storm_conf.equals(that.storm_conf))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_storm_conf = true && (is_set_storm_conf());
+      builder.append(present_storm_conf);
+      if (present_storm_conf)
+        builder.append(storm_conf);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setStormConf_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setStormConf_args typedOther = (setStormConf_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_storm_conf()).compareTo(typedOther.is_set_storm_conf());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_storm_conf()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.storm_conf, typedOther.storm_conf);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // STORM_CONF
+            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
+              this.storm_conf = iprot.readString();
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (this.storm_conf != null) {
+        oprot.writeFieldBegin(STORM_CONF_FIELD_DESC);
+        oprot.writeString(this.storm_conf);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setStormConf_args(");
+      boolean first = true;
+
+      sb.append("storm_conf:");
+      if (this.storm_conf == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.storm_conf);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setStormConf_result implements org.apache.thrift7.TBase<setStormConf_result, setStormConf_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setStormConf_result");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setStormConf_result.class, metaDataMap);
+    }
+
+    public setStormConf_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setStormConf_result(setStormConf_result other) {
+    }
+
+    public setStormConf_result deepCopy() {
+      return new setStormConf_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setStormConf_result)
+        return this.equals((setStormConf_result)that);
+      return false;
+    }
+
+    public boolean equals(setStormConf_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setStormConf_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setStormConf_result typedOther = (setStormConf_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setStormConf_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class addSupervisors_args implements org.apache.thrift7.TBase<addSupervisors_args, addSupervisors_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addSupervisors_args");
+
+    private static final org.apache.thrift7.protocol.TField NUMBER_FIELD_DESC = new org.apache.thrift7.protocol.TField("number", org.apache.thrift7.protocol.TType.I32, (short)1);
+
+    private int number; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      NUMBER((short)1, "number");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NUMBER
+            return NUMBER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __NUMBER_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NUMBER, new org.apache.thrift7.meta_data.FieldMetaData("number", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addSupervisors_args.class, metaDataMap);
+    }
+
+    public addSupervisors_args() {
+    }
+
+    public addSupervisors_args(
+      int number)
+    {
+      this();
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addSupervisors_args(addSupervisors_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.number = other.number;
+    }
+
+    public addSupervisors_args deepCopy() {
+      return new addSupervisors_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_number_isSet(false);
+      this.number = 0;
+    }
+
+    public int get_number() {
+      return this.number;
+    }
+
+    public void set_number(int number) {
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    public void unset_number() {
+      __isset_bit_vector.clear(__NUMBER_ISSET_ID);
+    }
+
+    /** Returns true if field number is set (has been assigned a value) and false otherwise */
+    public boolean is_set_number() {
+      return __isset_bit_vector.get(__NUMBER_ISSET_ID);
+    }
+
+    public void set_number_isSet(boolean value) {
+      __isset_bit_vector.set(__NUMBER_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NUMBER:
+        if (value == null) {
+          unset_number();
+        } else {
+          set_number((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NUMBER:
+        return Integer.valueOf(get_number());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NUMBER:
+        return is_set_number();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addSupervisors_args)
+        return this.equals((addSupervisors_args)that);
+      return false;
+    }
+
+    public boolean equals(addSupervisors_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_number = true;
+      boolean that_present_number = true;
+      if (this_present_number || that_present_number) {
+        if (!(this_present_number && that_present_number))
+          return false;
+        if (this.number != that.number)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_number = true;
+      builder.append(present_number);
+      if (present_number)
+        builder.append(number);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(addSupervisors_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      addSupervisors_args typedOther = (addSupervisors_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_number()).compareTo(typedOther.is_set_number());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_number()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.number, typedOther.number);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // NUMBER
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.number = iprot.readI32();
+              set_number_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldBegin(NUMBER_FIELD_DESC);
+      oprot.writeI32(this.number);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addSupervisors_args(");
+      boolean first = true;
+
+      sb.append("number:");
+      sb.append(this.number);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class addSupervisors_result implements org.apache.thrift7.TBase<addSupervisors_result, addSupervisors_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addSupervisors_result");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addSupervisors_result.class, metaDataMap);
+    }
+
+    public addSupervisors_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addSupervisors_result(addSupervisors_result other) {
+    }
+
+    public addSupervisors_result deepCopy() {
+      return new addSupervisors_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addSupervisors_result)
+        return this.equals((addSupervisors_result)that);
+      return false;
+    }
+
+    public boolean equals(addSupervisors_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(addSupervisors_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      addSupervisors_result typedOther = (addSupervisors_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addSupervisors_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class addProfileSupervisors_args implements org.apache.thrift7.TBase<addProfileSupervisors_args, addProfileSupervisors_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addProfileSupervisors_args");
+
+    private static final org.apache.thrift7.protocol.TField PROFILE_FIELD_DESC = new org.apache.thrift7.protocol.TField("profile", org.apache.thrift7.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift7.protocol.TField NUMBER_FIELD_DESC = new org.apache.thrift7.protocol.TField("number", org.apache.thrift7.protocol.TType.I32, (short)2);
+
+    private String profile; // required
+    private int number; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      PROFILE((short)1, "profile"),
+      NUMBER((short)2, "number");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROFILE
+            return PROFILE;
+          case 2: // NUMBER
+            return NUMBER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __NUMBER_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROFILE, new org.apache.thrift7.meta_data.FieldMetaData("profile", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NUMBER, new org.apache.thrift7.meta_data.FieldMetaData("number", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addProfileSupervisors_args.class, metaDataMap);
+    }
+
+    public addProfileSupervisors_args() {
+    }
+
+    public addProfileSupervisors_args(
+      String profile,
+      int number)
+    {
+      this();
+      this.profile = profile;
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addProfileSupervisors_args(addProfileSupervisors_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.is_set_profile()) {
+        this.profile = other.profile;
+      }
+      this.number = other.number;
+    }
+
+    public addProfileSupervisors_args deepCopy() {
+      return new addProfileSupervisors_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.profile = null;
+      set_number_isSet(false);
+      this.number = 0;
+    }
+
+    public String get_profile() {
+      return this.profile;
+    }
+
+    public void set_profile(String profile) {
+      this.profile = profile;
+    }
+
+    public void unset_profile() {
+      this.profile = null;
+    }
+
+    /** Returns true if field profile is set (has been assigned a value) and false otherwise */
+    public boolean is_set_profile() {
+      return this.profile != null;
+    }
+
+    public void set_profile_isSet(boolean value) {
+      if (!value) {
+        this.profile = null;
+      }
+    }
+
+    public int get_number() {
+      return this.number;
+    }
+
+    public void set_number(int number) {
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    public void unset_number() {
+      __isset_bit_vector.clear(__NUMBER_ISSET_ID);
+    }
+
+    /** Returns true if field number is set (has been assigned a value) and false otherwise */
+    public boolean is_set_number() {
+      return __isset_bit_vector.get(__NUMBER_ISSET_ID);
+    }
+
+    public void set_number_isSet(boolean value) {
+      __isset_bit_vector.set(__NUMBER_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROFILE:
+        if (value == null) {
+          unset_profile();
+        } else {
+          set_profile((String)value);
+        }
+        break;
+
+      case NUMBER:
+        if (value == null) {
+          unset_number();
+        } else {
+          set_number((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROFILE:
+        return get_profile();
+
+      case NUMBER:
+        return Integer.valueOf(get_number());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROFILE:
+        return is_set_profile();
+      case NUMBER:
+        return is_set_number();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addProfileSupervisors_args)
+        return this.equals((addProfileSupervisors_args)that);
+      return false;
+    }
+
+    public boolean equals(addProfileSupervisors_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_profile = true && this.is_set_profile();
+      boolean that_present_profile = true && that.is_set_profile();
+      if (this_present_profile || that_present_profile) {
+        if (!(this_present_profile && that_present_profile))
+          return false;
+        if (!this.profile.equals(that.profile))
+          return false;
+      }
+
+      boolean this_present_number = true;
+      boolean that_present_number = true;
+      if (this_present_number || that_present_number) {
+        if (!(this_present_number && that_present_number))
+          return false;
+        if (this.number != that.number)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_profile = true && (is_set_profile());
+      builder.append(present_profile);
+      if (present_profile)
+        builder.append(profile);
+
+      boolean present_number = true;
+      builder.append(present_number);
+      if (present_number)
+        builder.append(number);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(addProfileSupervisors_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      addProfileSupervisors_args typedOther = (addProfileSupervisors_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_profile()).compareTo(typedOther.is_set_profile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_profile()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.profile, typedOther.profile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_number()).compareTo(typedOther.is_set_number());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_number()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.number, typedOther.number);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // PROFILE
+            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
+              this.profile = iprot.readString();
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // NUMBER
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.number = iprot.readI32();
+              set_number_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (this.profile != null) {
+        oprot.writeFieldBegin(PROFILE_FIELD_DESC);
+        oprot.writeString(this.profile);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldBegin(NUMBER_FIELD_DESC);
+      oprot.writeI32(this.number);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addProfileSupervisors_args(");
+      boolean first = true;
+
+      sb.append("profile:");
+      if (this.profile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.profile);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("number:");
+      sb.append(this.number);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class addProfileSupervisors_result implements org.apache.thrift7.TBase<addProfileSupervisors_result, addProfileSupervisors_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addProfileSupervisors_result");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addProfileSupervisors_result.class, metaDataMap);
+    }
+
+    public addProfileSupervisors_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addProfileSupervisors_result(addProfileSupervisors_result other) {
+    }
+
+    public addProfileSupervisors_result deepCopy() {
+      return new addProfileSupervisors_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addProfileSupervisors_result)
+        return this.equals((addProfileSupervisors_result)that);
+      return false;
+    }
+
+    public boolean equals(addProfileSupervisors_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(addProfileSupervisors_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      addProfileSupervisors_result typedOther = (addProfileSupervisors_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addProfileSupervisors_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setSupervisorCount_args implements org.apache.thrift7.TBase<setSupervisorCount_args, setSupervisorCount_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setSupervisorCount_args");
+
+    private static final org.apache.thrift7.protocol.TField NUMBER_FIELD_DESC = new org.apache.thrift7.protocol.TField("number", org.apache.thrift7.protocol.TType.I32, (short)1);
+
+    private int number; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      NUMBER((short)1, "number");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NUMBER
+            return NUMBER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __NUMBER_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NUMBER, new org.apache.thrift7.meta_data.FieldMetaData("number", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setSupervisorCount_args.class, metaDataMap);
+    }
+
+    public setSupervisorCount_args() {
+    }
+
+    public setSupervisorCount_args(
+      int number)
+    {
+      this();
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setSupervisorCount_args(setSupervisorCount_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.number = other.number;
+    }
+
+    public setSupervisorCount_args deepCopy() {
+      return new setSupervisorCount_args(this);
+    }
+
+    @Override
+    public void clear() {
+      set_number_isSet(false);
+      this.number = 0;
+    }
+
+    public int get_number() {
+      return this.number;
+    }
+
+    public void set_number(int number) {
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    public void unset_number() {
+      __isset_bit_vector.clear(__NUMBER_ISSET_ID);
+    }
+
+    /** Returns true if field number is set (has been assigned a value) and false otherwise */
+    public boolean is_set_number() {
+      return __isset_bit_vector.get(__NUMBER_ISSET_ID);
+    }
+
+    public void set_number_isSet(boolean value) {
+      __isset_bit_vector.set(__NUMBER_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NUMBER:
+        if (value == null) {
+          unset_number();
+        } else {
+          set_number((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NUMBER:
+        return Integer.valueOf(get_number());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NUMBER:
+        return is_set_number();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setSupervisorCount_args)
+        return this.equals((setSupervisorCount_args)that);
+      return false;
+    }
+
+    public boolean equals(setSupervisorCount_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_number = true;
+      boolean that_present_number = true;
+      if (this_present_number || that_present_number) {
+        if (!(this_present_number && that_present_number))
+          return false;
+        if (this.number != that.number)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_number = true;
+      builder.append(present_number);
+      if (present_number)
+        builder.append(number);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setSupervisorCount_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setSupervisorCount_args typedOther = (setSupervisorCount_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_number()).compareTo(typedOther.is_set_number());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_number()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.number, typedOther.number);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // NUMBER
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.number = iprot.readI32();
+              set_number_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldBegin(NUMBER_FIELD_DESC);
+      oprot.writeI32(this.number);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setSupervisorCount_args(");
+      boolean first = true;
+
+      sb.append("number:");
+      sb.append(this.number);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setSupervisorCount_result implements org.apache.thrift7.TBase<setSupervisorCount_result, setSupervisorCount_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setSupervisorCount_result");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setSupervisorCount_result.class, metaDataMap);
+    }
+
+    public setSupervisorCount_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setSupervisorCount_result(setSupervisorCount_result other) {
+    }
+
+    public setSupervisorCount_result deepCopy() {
+      return new setSupervisorCount_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setSupervisorCount_result)
+        return this.equals((setSupervisorCount_result)that);
+      return false;
+    }
+
+    public boolean equals(setSupervisorCount_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setSupervisorCount_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setSupervisorCount_result typedOther = (setSupervisorCount_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setSupervisorCount_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setProfileSupervisorCount_args implements org.apache.thrift7.TBase<setProfileSupervisorCount_args, setProfileSupervisorCount_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setProfileSupervisorCount_args");
+
+    private static final org.apache.thrift7.protocol.TField PROFILE_FIELD_DESC = new org.apache.thrift7.protocol.TField("profile", org.apache.thrift7.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift7.protocol.TField NUMBER_FIELD_DESC = new org.apache.thrift7.protocol.TField("number", org.apache.thrift7.protocol.TType.I32, (short)2);
+
+    private String profile; // required
+    private int number; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      PROFILE((short)1, "profile"),
+      NUMBER((short)2, "number");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PROFILE
+            return PROFILE;
+          case 2: // NUMBER
+            return NUMBER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __NUMBER_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PROFILE, new org.apache.thrift7.meta_data.FieldMetaData("profile", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NUMBER, new org.apache.thrift7.meta_data.FieldMetaData("number", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setProfileSupervisorCount_args.class, metaDataMap);
+    }
+
+    public setProfileSupervisorCount_args() {
+    }
+
+    public setProfileSupervisorCount_args(
+      String profile,
+      int number)
+    {
+      this();
+      this.profile = profile;
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setProfileSupervisorCount_args(setProfileSupervisorCount_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      if (other.is_set_profile()) {
+        this.profile = other.profile;
+      }
+      this.number = other.number;
+    }
+
+    public setProfileSupervisorCount_args deepCopy() {
+      return new setProfileSupervisorCount_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.profile = null;
+      set_number_isSet(false);
+      this.number = 0;
+    }
+
+    public String get_profile() {
+      return this.profile;
+    }
+
+    public void set_profile(String profile) {
+      this.profile = profile;
+    }
+
+    public void unset_profile() {
+      this.profile = null;
+    }
+
+    /** Returns true if field profile is set (has been assigned a value) and false otherwise */
+    public boolean is_set_profile() {
+      return this.profile != null;
+    }
+
+    public void set_profile_isSet(boolean value) {
+      if (!value) {
+        this.profile = null;
+      }
+    }
+
+    public int get_number() {
+      return this.number;
+    }
+
+    public void set_number(int number) {
+      this.number = number;
+      set_number_isSet(true);
+    }
+
+    public void unset_number() {
+      __isset_bit_vector.clear(__NUMBER_ISSET_ID);
+    }
+
+    /** Returns true if field number is set (has been assigned a value) and false otherwise */
+    public boolean is_set_number() {
+      return __isset_bit_vector.get(__NUMBER_ISSET_ID);
+    }
+
+    public void set_number_isSet(boolean value) {
+      __isset_bit_vector.set(__NUMBER_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PROFILE:
+        if (value == null) {
+          unset_profile();
+        } else {
+          set_profile((String)value);
+        }
+        break;
+
+      case NUMBER:
+        if (value == null) {
+          unset_number();
+        } else {
+          set_number((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PROFILE:
+        return get_profile();
+
+      case NUMBER:
+        return Integer.valueOf(get_number());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PROFILE:
+        return is_set_profile();
+      case NUMBER:
+        return is_set_number();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setProfileSupervisorCount_args)
+        return this.equals((setProfileSupervisorCount_args)that);
+      return false;
+    }
+
+    public boolean equals(setProfileSupervisorCount_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_profile = true && this.is_set_profile();
+      boolean that_present_profile = true && that.is_set_profile();
+      if (this_present_profile || that_present_profile) {
+        if (!(this_present_profile && that_present_profile))
+          return false;
+        if (!this.profile.equals(that.profile))
+          return false;
+      }
+
+      boolean this_present_number = true;
+      boolean that_present_number = true;
+      if (this_present_number || that_present_number) {
+        if (!(this_present_number && that_present_number))
+          return false;
+        if (this.number != that.number)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_profile = true && (is_set_profile());
+      builder.append(present_profile);
+      if (present_profile)
+        builder.append(profile);
+
+      boolean present_number = true;
+      builder.append(present_number);
+      if (present_number)
+        builder.append(number);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setProfileSupervisorCount_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setProfileSupervisorCount_args typedOther = (setProfileSupervisorCount_args)other;
+
+      lastComparison = Boolean.valueOf(is_set_profile()).compareTo(typedOther.is_set_profile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_profile()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.profile, typedOther.profile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_number()).compareTo(typedOther.is_set_number());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_number()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.number, typedOther.number);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 1: // PROFILE
+            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
+              this.profile = iprot.readString();
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // NUMBER
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.number = iprot.readI32();
+              set_number_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      if (this.profile != null) {
+        oprot.writeFieldBegin(PROFILE_FIELD_DESC);
+        oprot.writeString(this.profile);
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldBegin(NUMBER_FIELD_DESC);
+      oprot.writeI32(this.number);
+      oprot.writeFieldEnd();
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setProfileSupervisorCount_args(");
+      boolean first = true;
+
+      sb.append("profile:");
+      if (this.profile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.profile);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("number:");
+      sb.append(this.number);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class setProfileSupervisorCount_result implements org.apache.thrift7.TBase<setProfileSupervisorCount_result, setProfileSupervisorCount_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setProfileSupervisorCount_result");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setProfileSupervisorCount_result.class, metaDataMap);
+    }
+
+    public setProfileSupervisorCount_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public setProfileSupervisorCount_result(setProfileSupervisorCount_result other) {
+    }
+
+    public setProfileSupervisorCount_result deepCopy() {
+      return new setProfileSupervisorCount_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof setProfileSupervisorCount_result)
+        return this.equals((setProfileSupervisorCount_result)that);
+      return false;
+    }
+
+    public boolean equals(setProfileSupervisorCount_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(setProfileSupervisorCount_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      setProfileSupervisorCount_result typedOther = (setProfileSupervisorCount_result)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("setProfileSupervisorCount_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getNodeHealth_args implements org.apache.thrift7.TBase<getNodeHealth_args, getNodeHealth_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getNodeHealth_args");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getNodeHealth_args.class, metaDataMap);
+    }
+
+    public getNodeHealth_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getNodeHealth_args(getNodeHealth_args other) {
+    }
+
+    public getNodeHealth_args deepCopy() {
+      return new getNodeHealth_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getNodeHealth_args)
+        return this.equals((getNodeHealth_args)that);
+      return false;
+    }
+
+    public boolean equals(getNodeHealth_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getNodeHealth_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getNodeHealth_args typedOther = (getNodeHealth_args)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getNodeHealth_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getNodeHealth_result implements org.apache.thrift7.TBase<getNodeHealth_result, getNodeHealth_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getNodeHealth_result");
+
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.LIST, (short)0);
+
+    private List<NodeHealth> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.ListMetaData(org.apache.thrift7.protocol.TType.LIST, 
+              new org.apache.thrift7.meta_data.StructMetaData(org.apache.thrift7.protocol.TType.STRUCT, NodeHealth.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getNodeHealth_result.class, metaDataMap);
+    }
+
+    public getNodeHealth_result() {
+    }
+
+    public getNodeHealth_result(
+      List<NodeHealth> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getNodeHealth_result(getNodeHealth_result other) {
+      if (other.is_set_success()) {
+        List<NodeHealth> __this__success = new ArrayList<NodeHealth>();
+        for (NodeHealth other_element : other.success) {
+          __this__success.add(new NodeHealth(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public getNodeHealth_result deepCopy() {
+      return new getNodeHealth_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int get_success_size() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<NodeHealth> get_success_iterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void add_to_success(NodeHealth elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<NodeHealth>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<NodeHealth> get_success() {
+      return this.success;
+    }
+
+    public void set_success(List<NodeHealth> success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((List<NodeHealth>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return get_success();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getNodeHealth_result)
+        return this.equals((getNodeHealth_result)that);
+      return false;
+    }
+
+    public boolean equals(getNodeHealth_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getNodeHealth_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getNodeHealth_result typedOther = (getNodeHealth_result)other;
+
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.LIST) {
+              {
+                org.apache.thrift7.protocol.TList _list20 = iprot.readListBegin();
+                this.success = new ArrayList<NodeHealth>(_list20.size);
+                for (int _i21 = 0; _i21 < _list20.size; ++_i21)
+                {
+                  NodeHealth _elem22; // required
+                  _elem22 = new NodeHealth();
+                  _elem22.read(iprot);
+                  this.success.add(_elem22);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new org.apache.thrift7.protocol.TList(org.apache.thrift7.protocol.TType.STRUCT, this.success.size()));
+          for (NodeHealth _iter23 : this.success)
+          {
+            _iter23.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getNodeHealth_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getRegisteredSupervisors_args implements org.apache.thrift7.TBase<getRegisteredSupervisors_args, getRegisteredSupervisors_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getRegisteredSupervisors_args");
+
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getRegisteredSupervisors_args.class, metaDataMap);
+    }
+
+    public getRegisteredSupervisors_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRegisteredSupervisors_args(getRegisteredSupervisors_args other) {
+    }
+
+    public getRegisteredSupervisors_args deepCopy() {
+      return new getRegisteredSupervisors_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRegisteredSupervisors_args)
+        return this.equals((getRegisteredSupervisors_args)that);
+      return false;
+    }
+
+    public boolean equals(getRegisteredSupervisors_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
+
+      return builder.toHashCode();
+    }
+
+    public int compareTo(getRegisteredSupervisors_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+      getRegisteredSupervisors_args typedOther = (getRegisteredSupervisors_args)other;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
+      }
+      iprot.readStructEnd();
+      validate();
+    }
+
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      validate();
+
+      oprot.writeStructBegin(STRUCT_DESC);
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRegisteredSupervisors_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+  }
+
+  public static class getRegisteredSupervisors_result implements org.apache.thrift7.TBase<getRegisteredSupervisors_result, getRegisteredSupervisors_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getRegisteredSupervisors_result");
+
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.I32, (short)0);
+
+    private int success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private BitSet __isset_bit_vector = new BitSet(1);
+
+    public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getRegisteredSupervisors_result.class, metaDataMap);
+    }
+
+    public getRegisteredSupervisors_result() {
+    }
+
+    public getRegisteredSupervisors_result(
+      int success)
+    {
+      this();
+      this.success = success;
+      set_success_isSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getRegisteredSupervisors_result(getRegisteredSupervisors_result other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.success = other.success;
+    }
+
+    public getRegisteredSupervisors_result deepCopy() {
+      return new getRegisteredSupervisors_result(this);
+    }
 
-      protected setStormConf_args getEmptyArgsInstance() {
-        return new setStormConf_args();
-      }
+    @Override
+    public void clear() {
+      set_success_isSet(false);
+      this.success = 0;
+    }
 
-      protected setStormConf_result getResult(I iface, setStormConf_args args) throws org.apache.thrift7.TException {
-        setStormConf_result result = new setStormConf_result();
-        iface.setStormConf(args.storm_conf);
-        return result;
-      }
+    public int get_success() {
+      return this.success;
     }
 
-    private static class addSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, addSupervisors_args> {
-      public addSupervisors() {
-        super("addSupervisors");
-      }
+    public void set_success(int success) {
+      this.success = success;
+      set_success_isSet(true);
+    }
 
-      protected addSupervisors_args getEmptyArgsInstance() {
-        return new addSupervisors_args();
-      }
+    public void unset_success() {
+      __isset_bit_vector.clear(__SUCCESS_ISSET_ID);
+    }
 
-      protected addSupervisors_result getResult(I iface, addSupervisors_args args) throws org.apache.thrift7.TException {
-        addSupervisors_result result = new addSupervisors_result();
-        iface.addSupervisors(args.number);
-        return result;
-      }
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return __isset_bit_vector.get(__SUCCESS_ISSET_ID);
     }
 
-    private static class startNimbus<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startNimbus_args> {
-      public startNimbus() {
-        super("startNimbus");
-      }
+    public void set_success_isSet(boolean value) {
+      __isset_bit_vector.set(__SUCCESS_ISSET_ID, value);
+    }
 
-      protected startNimbus_args getEmptyArgsInstance() {
-        return new startNimbus_args();
-      }
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((Integer)value);
+        }
+        break;
 
-      protected startNimbus_result getResult(I iface, startNimbus_args args) throws org.apache.thrift7.TException {
-        startNimbus_result result = new startNimbus_result();
-        iface.startNimbus();
-        return result;
       }
     }
 
-    private static class stopNimbus<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopNimbus_args> {
-      public stopNimbus() {
-        super("stopNimbus");
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(get_success());
+
       }
+      throw new IllegalStateException();
+    }
 
-      protected stopNimbus_args getEmptyArgsInstance() {
-        return new stopNimbus_args();
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
       }
 
-      protected stopNimbus_result getResult(I iface, stopNimbus_args args) throws org.apache.thrift7.TException {
-        stopNimbus_result result = new stopNimbus_result();
-        iface.stopNimbus();
-        return result;
+      switch (field) {
+      case SUCCESS:
+        return is_set_success();
       }
+      throw new IllegalStateException();
     }
 
-    private static class startUI<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startUI_args> {
-      public startUI() {
-        super("startUI");
-      }
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getRegisteredSupervisors_result)
+        return this.equals((getRegisteredSupervisors_result)that);
+      return false;
+    }
 
-      protected startUI_args getEmptyArgsInstance() {
-        return new startUI_args();
-      }
+    public boolean equals(getRegisteredSupervisors_result that) {
+      if (that == null)
+        return false;
 
-      protected startUI_result getResult(I iface, startUI_args args) throws org.apache.thrift7.TException {
-        startUI_result result = new startUI_result();
-        iface.startUI();
-        return result;
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
       }
+
+      return true;
     }
 
-    private static class stopUI<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopUI_args> {
-      public stopUI() {
-        super("stopUI");
-      }
+    @Override
+    public int hashCode() {
+      HashCodeBuilder builder = new HashCodeBuilder();
 
-      protected stopUI_args getEmptyArgsInstance() {
-        return new stopUI_args();
-      }
+      boolean present_success = true;
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
 
-      protected stopUI_result getResult(I iface, stopUI_args args) throws org.apache.thrift7.TException {
-        stopUI_result result = new stopUI_result();
-        iface.stopUI();
-        return result;
-      }
+      return builder.toHashCode();
     }
 
-    private static class startSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, startSupervisors_args> {
-      public startSupervisors() {
-        super("startSupervisors");
+    public int compareTo(getRegisteredSupervisors_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
 
-      protected startSupervisors_args getEmptyArgsInstance() {
-        return new startSupervisors_args();
-      }
+      int lastComparison = 0;
+      getRegisteredSupervisors_result typedOther = (getRegisteredSupervisors_result)other;
 
-      protected startSupervisors_result getResult(I iface, startSupervisors_args args) throws org.apache.thrift7.TException {
-        startSupervisors_result result = new startSupervisors_result();
-        iface.startSupervisors();
-        return result;
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
       }
+      return 0;
     }
 
-    private static class stopSupervisors<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, stopSupervisors_args> {
-      public stopSupervisors() {
-        super("stopSupervisors");
-      }
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
 
-      protected stopSupervisors_args getEmptyArgsInstance() {
-        return new stopSupervisors_args();
+    public void read(org.apache.thrift7.protocol.TProtocol iprot) throws org.apache.thrift7.TException {
+      org.apache.thrift7.protocol.TField field;
+      iprot.readStructBegin();
+      while (true)
+      {
+        field = iprot.readFieldBegin();
+        if (field.type == org.apache.thrift7.protocol.TType.STOP) { 
+          break;
+        }
+        switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.success = iprot.readI32();
+              set_success_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          default:
+            org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+        }
+        iprot.readFieldEnd();
       }
+      iprot.readStructEnd();
+      validate();
+    }
 
-      protected stopSupervisors_result getResult(I iface, stopSupervisors_args args) throws org.apache.thrift7.TException {
-        stopSupervisors_result result = new stopSupervisors_result();
-        iface.stopSupervisors();
-        return result;
+    public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
+      oprot.writeStructBegin(STRUCT_DESC);
+
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI32(this.success);
+        oprot.writeFieldEnd();
       }
+      oprot.writeFieldStop();
+      oprot.writeStructEnd();
     }
 
-    private static class shutdown<I extends Iface> extends org.apache.thrift7.ProcessFunction<I, shutdown_args> {
-      public shutdown() {
-        super("shutdown");
-      }
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getRegisteredSupervisors_result(");
+      boolean first = true;
 
-      protected shutdown_args getEmptyArgsInstance() {
-        return new shutdown_args();
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift7.TException {
+      // check for required fields
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
       }
+    }
 
-      protected shutdown_result getResult(I iface, shutdown_args args) throws org.apache.thrift7.TException {
-        shutdown_result result = new shutdown_result();
-        iface.shutdown();
-        return result;
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(1);
+        read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift7.TException te) {
+        throw new java.io.IOException(te);
       }
     }
 
   }
 
-  public static class getStormConf_args implements org.apache.thrift7.TBase<getStormConf_args, getStormConf_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getStormConf_args");
+  public static class executeBatch_args implements org.apache.thrift7.TBase<executeBatch_args, executeBatch_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("executeBatch_args");
 
+    private static final org.apache.thrift7.protocol.TField COMMANDS_FIELD_DESC = new org.apache.thrift7.protocol.TField("commands", org.apache.thrift7.protocol.TType.LIST, (short)1);
 
+    private List<MasterCommand> commands; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
-;
+      COMMANDS((short)1, "commands");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -810,6 +6228,8 @@ public class StormMaster {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // COMMANDS
+            return COMMANDS;
           default:
             return null;
         }
@@ -848,37 +6268,107 @@ public class StormMaster {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+
     public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.COMMANDS, new org.apache.thrift7.meta_data.FieldMetaData("commands", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.ListMetaData(org.apache.thrift7.protocol.TType.LIST, 
+              new org.apache.thrift7.meta_data.StructMetaData(org.apache.thrift7.protocol.TType.STRUCT, MasterCommand.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getStormConf_args.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(executeBatch_args.class, metaDataMap);
+    }
+
+    public executeBatch_args() {
+    }
+
+    public executeBatch_args(
+      List<MasterCommand> commands)
+    {
+      this();
+      this.commands = commands;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public executeBatch_args(executeBatch_args other) {
+      if (other.is_set_commands()) {
+        List<MasterCommand> __this__commands = new ArrayList<MasterCommand>();
+        for (MasterCommand other_element : other.commands) {
+          __this__commands.add(new MasterCommand(other_element));
+        }
+        this.commands = __this__commands;
+      }
+    }
+
+    public executeBatch_args deepCopy() {
+      return new executeBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.commands = null;
+    }
+
+    public int get_commands_size() {
+      return (this.commands == null) ? 0 : this.commands.size();
+    }
+
+    public java.util.Iterator<MasterCommand> get_commands_iterator() {
+      return (this.commands == null) ? null : this.commands.iterator();
+    }
+
+    public void add_to_commands(MasterCommand elem) {
+      if (this.commands == null) {
+        this.commands = new ArrayList<MasterCommand>();
+      }
+      this.commands.add(elem);
+    }
+
+    public List<MasterCommand> get_commands() {
+      return this.commands;
     }
 
-    public getStormConf_args() {
+    public void set_commands(List<MasterCommand> commands) {
+      this.commands = commands;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public getStormConf_args(getStormConf_args other) {
+    public void unset_commands() {
+      this.commands = null;
     }
 
-    public getStormConf_args deepCopy() {
-      return new getStormConf_args(this);
+    /** Returns true if field commands is set (has been assigned a value) and false otherwise */
+    public boolean is_set_commands() {
+      return this.commands != null;
     }
 
-    @Override
-    public void clear() {
+    public void set_commands_isSet(boolean value) {
+      if (!value) {
+        this.commands = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case COMMANDS:
+        if (value == null) {
+          unset_commands();
+        } else {
+          set_commands((List<MasterCommand>)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case COMMANDS:
+        return get_commands();
+
       }
       throw new IllegalStateException();
     }
@@ -890,6 +6380,8 @@ public class StormMaster {
       }
 
       switch (field) {
+      case COMMANDS:
+        return is_set_commands();
       }
       throw new IllegalStateException();
     }
@@ -898,15 +6390,24 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStormConf_args)
-        return this.equals((getStormConf_args)that);
+      if (that instanceof executeBatch_args)
+        return this.equals((executeBatch_args)that);
       return false;
     }
 
-    public boolean equals(getStormConf_args that) {
+    public boolean equals(executeBatch_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_commands = true && this.is_set_commands();
+      boolean that_present_commands = true && that.is_set_commands();
+      if (this_present_commands || that_present_commands) {
+        if (!(this_present_commands && that_present_commands))
+          return false;
+        if (!this.commands.equals(that.commands))
+          return false;
+      }
+
       return true;
     }
 
@@ -914,17 +6415,32 @@ public class StormMaster {
     public int hashCode() {
       HashCodeBuilder builder = new HashCodeBuilder();
 
+      boolean present_commands = true && (is_set_commands());
+      builder.append(present_commands);
+      if (present_commands)
+        builder.append(commands);
+
       return builder.toHashCode();
     }
 
-    public int compareTo(getStormConf_args other) {
+    public int compareTo(executeBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getStormConf_args typedOther = (getStormConf_args)other;
+      executeBatch_args typedOther = (executeBatch_args)other;
 
+      lastComparison = Boolean.valueOf(is_set_commands()).compareTo(typedOther.is_set_commands());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_commands()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.commands, typedOther.commands);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -942,6 +6458,24 @@ public class StormMaster {
           break;
         }
         switch (field.id) {
+          case 1: // COMMANDS
+            if (field.type == org.apache.thrift7.protocol.TType.LIST) {
+              {
+                org.apache.thrift7.protocol.TList _list24 = iprot.readListBegin();
+                this.commands = new ArrayList<MasterCommand>(_list24.size);
+                for (int _i25 = 0; _i25 < _list24.size; ++_i25)
+                {
+                  MasterCommand _elem26; // required
+                  _elem26 = new MasterCommand();
+                  _elem26.read(iprot);
+                  this.commands.add(_elem26);
+                }
+                iprot.readListEnd();
+              }
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
         }
@@ -955,15 +6489,34 @@ public class StormMaster {
       validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (this.commands != null) {
+        oprot.writeFieldBegin(COMMANDS_FIELD_DESC);
+        {
+          oprot.writeListBegin(new org.apache.thrift7.protocol.TList(org.apache.thrift7.protocol.TType.STRUCT, this.commands.size()));
+          for (MasterCommand _iter27 : this.commands)
+          {
+            _iter27.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStormConf_args(");
+      StringBuilder sb = new StringBuilder("executeBatch_args(");
       boolean first = true;
 
+      sb.append("commands:");
+      if (this.commands == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.commands);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -990,12 +6543,12 @@ public class StormMaster {
 
   }
 
-  public static class getStormConf_result implements org.apache.thrift7.TBase<getStormConf_result, getStormConf_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getStormConf_result");
+  public static class executeBatch_result implements org.apache.thrift7.TBase<executeBatch_result, executeBatch_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("executeBatch_result");
 
-    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.LIST, (short)0);
 
-    private String success; // required
+    private List<CommandResult> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
@@ -1061,16 +6614,17 @@ public class StormMaster {
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+          new org.apache.thrift7.meta_data.ListMetaData(org.apache.thrift7.protocol.TType.LIST, 
+              new org.apache.thrift7.meta_data.StructMetaData(org.apache.thrift7.protocol.TType.STRUCT, CommandResult.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getStormConf_result.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(executeBatch_result.class, metaDataMap);
     }
 
-    public getStormConf_result() {
+    public executeBatch_result() {
     }
 
-    public getStormConf_result(
-      String success)
+    public executeBatch_result(
+      List<CommandResult> success)
     {
       this();
       this.success = success;
@@ -1079,14 +6633,18 @@ public class StormMaster {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStormConf_result(getStormConf_result other) {
+    public executeBatch_result(executeBatch_result other) {
       if (other.is_set_success()) {
-        this.success = other.success;
+        List<CommandResult> __this__success = new ArrayList<CommandResult>();
+        for (CommandResult other_element : other.success) {
+          __this__success.add(new CommandResult(other_element));
+        }
+        this.success = __this__success;
       }
     }
 
-    public getStormConf_result deepCopy() {
-      return new getStormConf_result(this);
+    public executeBatch_result deepCopy() {
+      return new executeBatch_result(this);
     }
 
     @Override
@@ -1094,11 +6652,26 @@ public class StormMaster {
       this.success = null;
     }
 
-    public String get_success() {
+    public int get_success_size() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<CommandResult> get_success_iterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void add_to_success(CommandResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<CommandResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<CommandResult> get_success() {
       return this.success;
     }
 
-    public void set_success(String success) {
+    public void set_success(List<CommandResult> success) {
       this.success = success;
     }
 
@@ -1123,7 +6696,7 @@ public class StormMaster {
         if (value == null) {
           unset_success();
         } else {
-          set_success((String)value);
+          set_success((List<CommandResult>)value);
         }
         break;
 
@@ -1156,12 +6729,12 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStormConf_result)
-        return this.equals((getStormConf_result)that);
+      if (that instanceof executeBatch_result)
+        return this.equals((executeBatch_result)that);
       return false;
     }
 
-    public boolean equals(getStormConf_result that) {
+    public boolean equals(executeBatch_result that) {
       if (that == null)
         return false;
 
@@ -1189,13 +6762,13 @@ public class StormMaster {
       return builder.toHashCode();
     }
 
-    public int compareTo(getStormConf_result other) {
+    public int compareTo(executeBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      getStormConf_result typedOther = (getStormConf_result)other;
+      executeBatch_result typedOther = (executeBatch_result)other;
 
       lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
       if (lastComparison != 0) {
@@ -1225,8 +6798,19 @@ public class StormMaster {
         }
         switch (field.id) {
           case 0: // SUCCESS
-            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
-              this.success = iprot.readString();
+            if (field.type == org.apache.thrift7.protocol.TType.LIST) {
+              {
+                org.apache.thrift7.protocol.TList _list28 = iprot.readListBegin();
+                this.success = new ArrayList<CommandResult>(_list28.size);
+                for (int _i29 = 0; _i29 < _list28.size; ++_i29)
+                {
+                  CommandResult _elem30; // required
+                  _elem30 = new CommandResult();
+                  _elem30.read(iprot);
+                  this.success.add(_elem30);
+                }
+                iprot.readListEnd();
+              }
             } else { 
               org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
             }
@@ -1245,7 +6829,14 @@ public class StormMaster {
 
       if (this.is_set_success()) {
         oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-        oprot.writeString(this.success);
+        {
+          oprot.writeListBegin(new org.apache.thrift7.protocol.TList(org.apache.thrift7.protocol.TType.STRUCT, this.success.size()));
+          for (CommandResult _iter31 : this.success)
+          {
+            _iter31.write(oprot);
+          }
+          oprot.writeListEnd();
+        }
         oprot.writeFieldEnd();
       }
       oprot.writeFieldStop();
@@ -1254,7 +6845,7 @@ public class StormMaster {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStormConf_result(");
+      StringBuilder sb = new StringBuilder("executeBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1290,16 +6881,19 @@ public class StormMaster {
 
   }
 
-  public static class setStormConf_args implements org.apache.thrift7.TBase<setStormConf_args, setStormConf_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setStormConf_args");
+  public static class watchEvents_args implements org.apache.thrift7.TBase<watchEvents_args, watchEvents_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("watchEvents_args");
 
-    private static final org.apache.thrift7.protocol.TField STORM_CONF_FIELD_DESC = new org.apache.thrift7.protocol.TField("storm_conf", org.apache.thrift7.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift7.protocol.TField SINCE_SEQ_FIELD_DESC = new org.apache.thrift7.protocol.TField("since_seq", org.apache.thrift7.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift7.protocol.TField TIMEOUT_MS_FIELD_DESC = new org.apache.thrift7.protocol.TField("timeout_ms", org.apache.thrift7.protocol.TType.I32, (short)2);
 
-    private String storm_conf; // required
+    private long since_seq; // required
+    private int timeout_ms; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
-      STORM_CONF((short)1, "storm_conf");
+      SINCE_SEQ((short)1, "since_seq"),
+      TIMEOUT_MS((short)2, "timeout_ms");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1314,8 +6908,10 @@ public class StormMaster {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // STORM_CONF
-            return STORM_CONF;
+          case 1: // SINCE_SEQ
+            return SINCE_SEQ;
+          case 2: // TIMEOUT_MS
+            return TIMEOUT_MS;
           default:
             return null;
         }
@@ -1356,74 +6952,116 @@ public class StormMaster {
     }
 
     // isset id assignments
+    private static final int __SINCE_SEQ_ISSET_ID = 0;
+    private static final int __TIMEOUT_MS_ISSET_ID = 1;
+    private BitSet __isset_bit_vector = new BitSet(2);
 
     public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.STORM_CONF, new org.apache.thrift7.meta_data.FieldMetaData("storm_conf", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SINCE_SEQ, new org.apache.thrift7.meta_data.FieldMetaData("since_seq", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I64)));
+      tmpMap.put(_Fields.TIMEOUT_MS, new org.apache.thrift7.meta_data.FieldMetaData("timeout_ms", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setStormConf_args.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(watchEvents_args.class, metaDataMap);
     }
 
-    public setStormConf_args() {
+    public watchEvents_args() {
     }
 
-    public setStormConf_args(
-      String storm_conf)
+    public watchEvents_args(
+      long since_seq,
+      int timeout_ms)
     {
       this();
-      this.storm_conf = storm_conf;
+      this.since_seq = since_seq;
+      set_since_seq_isSet(true);
+      this.timeout_ms = timeout_ms;
+      set_timeout_ms_isSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setStormConf_args(setStormConf_args other) {
-      if (other.is_set_storm_conf()) {
-        this.storm_conf = other.storm_conf;
-      }
+    public watchEvents_args(watchEvents_args other) {
+      __isset_bit_vector.clear();
+      __isset_bit_vector.or(other.__isset_bit_vector);
+      this.since_seq = other.since_seq;
+      this.timeout_ms = other.timeout_ms;
     }
 
-    public setStormConf_args deepCopy() {
-      return new setStormConf_args(this);
+    public watchEvents_args deepCopy() {
+      return new watchEvents_args(this);
     }
 
     @Override
     public void clear() {
-      this.storm_conf = null;
+      set_since_seq_isSet(false);
+      this.since_seq = 0;
+      set_timeout_ms_isSet(false);
+      this.timeout_ms = 0;
     }
 
-    public String get_storm_conf() {
-      return this.storm_conf;
+    public long get_since_seq() {
+      return this.since_seq;
     }
 
-    public void set_storm_conf(String storm_conf) {
-      this.storm_conf = storm_conf;
+    public void set_since_seq(long since_seq) {
+      this.since_seq = since_seq;
+      set_since_seq_isSet(true);
     }
 
-    public void unset_storm_conf() {
-      this.storm_conf = null;
+    public void unset_since_seq() {
+      __isset_bit_vector.clear(__SINCE_SEQ_ISSET_ID);
     }
 
-    /** Returns true if field storm_conf is set (has been assigned a value) and false otherwise */
-    public boolean is_set_storm_conf() {
-      return this.storm_conf != null;
+    /** Returns true if field since_seq is set (has been assigned a value) and false otherwise */
+    public boolean is_set_since_seq() {
+      return __isset_bit_vector.get(__SINCE_SEQ_ISSET_ID);
     }
 
-    public void set_storm_conf_isSet(boolean value) {
-      if (!value) {
-        this.storm_conf = null;
-      }
+    public void set_since_seq_isSet(boolean value) {
+      __isset_bit_vector.set(__SINCE_SEQ_ISSET_ID, value);
+    }
+
+    public int get_timeout_ms() {
+      return this.timeout_ms;
+    }
+
+    public void set_timeout_ms(int timeout_ms) {
+      this.timeout_ms = timeout_ms;
+      set_timeout_ms_isSet(true);
+    }
+
+    public void unset_timeout_ms() {
+      __isset_bit_vector.clear(__TIMEOUT_MS_ISSET_ID);
+    }
+
+    /** Returns true if field timeout_ms is set (has been assigned a value) and false otherwise */
+    public boolean is_set_timeout_ms() {
+      return __isset_bit_vector.get(__TIMEOUT_MS_ISSET_ID);
+    }
+
+    public void set_timeout_ms_isSet(boolean value) {
+      __isset_bit_vector.set(__TIMEOUT_MS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case STORM_CONF:
+      case SINCE_SEQ:
         if (value == null) {
-          unset_storm_conf();
+          unset_since_seq();
         } else {
-          set_storm_conf((String)value);
+          set_since_seq((Long)value);
+        }
+        break;
+
+      case TIMEOUT_MS:
+        if (value == null) {
+          unset_timeout_ms();
+        } else {
+          set_timeout_ms((Integer)value);
         }
         break;
 
@@ -1432,8 +7070,11 @@ public class StormMaster {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case STORM_CONF:
-        return get_storm_conf();
+      case SINCE_SEQ:
+        return Long.valueOf(get_since_seq());
+
+      case TIMEOUT_MS:
+        return Integer.valueOf(get_timeout_ms());
 
       }
       throw new IllegalStateException();
@@ -1446,8 +7087,10 @@ public class StormMaster {
       }
 
       switch (field) {
-      case STORM_CONF:
-        return is_set_storm_conf();
+      case SINCE_SEQ:
+        return is_set_since_seq();
+      case TIMEOUT_MS:
+        return is_set_timeout_ms();
       }
       throw new IllegalStateException();
     }
@@ -1456,21 +7099,30 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setStormConf_args)
-        return this.equals((setStormConf_args)that);
+      if (that instanceof watchEvents_args)
+        return this.equals((watchEvents_args)that);
       return false;
     }
 
-    public boolean equals(setStormConf_args that) {
+    public boolean equals(watchEvents_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_storm_conf = true && this.is_set_storm_conf();
-      boolean that_present_storm_conf = true && that.is_set_storm_conf();
-      if (this_present_storm_conf || that_present_storm_conf) {
-        if (!(this_present_storm_conf && that_present_storm_conf))
+      boolean this_present_since_seq = true;
+      boolean that_present_since_seq = true;
+      if (this_present_since_seq || that_present_since_seq) {
+        if (!(this_present_since_seq && that_present_since_seq))
           return false;
-        if (!this.storm_conf.equals(that.storm_conf))
+        if (this.since_seq != that.since_seq)
+          return false;
+      }
+
+      boolean this_present_timeout_ms = true;
+      boolean that_present_timeout_ms = true;
+      if (this_present_timeout_ms || that_present_timeout_ms) {
+        if (!(this_present_timeout_ms && that_present_timeout_ms))
+          return false;
+        if (this.timeout_ms != that.timeout_ms)
           return false;
       }
 
@@ -1481,28 +7133,43 @@ public class StormMaster {
     public int hashCode() {
       HashCodeBuilder builder = new HashCodeBuilder();
 
-      boolean present_storm_conf = true && (is_set_storm_conf());
-      builder.append(present_storm_conf);
-      if (present_storm_conf)
-        builder.append(storm_conf);
+      boolean present_since_seq = true;
+      builder.append(present_since_seq);
+      if (present_since_seq)
+        builder.append(since_seq);
+
+      boolean present_timeout_ms = true;
+      builder.append(present_timeout_ms);
+      if (present_timeout_ms)
+        builder.append(timeout_ms);
 
       return builder.toHashCode();
     }
 
-    public int compareTo(setStormConf_args other) {
+    public int compareTo(watchEvents_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      setStormConf_args typedOther = (setStormConf_args)other;
+      watchEvents_args typedOther = (watchEvents_args)other;
 
-      lastComparison = Boolean.valueOf(is_set_storm_conf()).compareTo(typedOther.is_set_storm_conf());
+      lastComparison = Boolean.valueOf(is_set_since_seq()).compareTo(typedOther.is_set_since_seq());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (is_set_storm_conf()) {
-        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.storm_conf, typedOther.storm_conf);
+      if (is_set_since_seq()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.since_seq, typedOther.since_seq);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(is_set_timeout_ms()).compareTo(typedOther.is_set_timeout_ms());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_timeout_ms()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.timeout_ms, typedOther.timeout_ms);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1524,9 +7191,18 @@ public class StormMaster {
           break;
         }
         switch (field.id) {
-          case 1: // STORM_CONF
-            if (field.type == org.apache.thrift7.protocol.TType.STRING) {
-              this.storm_conf = iprot.readString();
+          case 1: // SINCE_SEQ
+            if (field.type == org.apache.thrift7.protocol.TType.I64) {
+              this.since_seq = iprot.readI64();
+              set_since_seq_isSet(true);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
+          case 2: // TIMEOUT_MS
+            if (field.type == org.apache.thrift7.protocol.TType.I32) {
+              this.timeout_ms = iprot.readI32();
+              set_timeout_ms_isSet(true);
             } else { 
               org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
             }
@@ -1544,26 +7220,27 @@ public class StormMaster {
       validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
-      if (this.storm_conf != null) {
-        oprot.writeFieldBegin(STORM_CONF_FIELD_DESC);
-        oprot.writeString(this.storm_conf);
-        oprot.writeFieldEnd();
-      }
+      oprot.writeFieldBegin(SINCE_SEQ_FIELD_DESC);
+      oprot.writeI64(this.since_seq);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(TIMEOUT_MS_FIELD_DESC);
+      oprot.writeI32(this.timeout_ms);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setStormConf_args(");
+      StringBuilder sb = new StringBuilder("watchEvents_args(");
       boolean first = true;
 
-      sb.append("storm_conf:");
-      if (this.storm_conf == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.storm_conf);
-      }
+      sb.append("since_seq:");
+      sb.append(this.since_seq);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeout_ms:");
+      sb.append(this.timeout_ms);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1583,6 +7260,8 @@ public class StormMaster {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bit_vector = new BitSet(2);
         read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift7.TException te) {
         throw new java.io.IOException(te);
@@ -1591,14 +7270,16 @@ public class StormMaster {
 
   }
 
-  public static class setStormConf_result implements org.apache.thrift7.TBase<setStormConf_result, setStormConf_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("setStormConf_result");
+  public static class watchEvents_result implements org.apache.thrift7.TBase<watchEvents_result, watchEvents_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("watchEvents_result");
 
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.STRUCT, (short)0);
 
+    private ClusterEvents success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1613,6 +7294,8 @@ public class StormMaster {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -1651,37 +7334,87 @@ public class StormMaster {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+
     public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.StructMetaData(org.apache.thrift7.protocol.TType.STRUCT, ClusterEvents.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(setStormConf_result.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(watchEvents_result.class, metaDataMap);
     }
 
-    public setStormConf_result() {
+    public watchEvents_result() {
+    }
+
+    public watchEvents_result(
+      ClusterEvents success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setStormConf_result(setStormConf_result other) {
+    public watchEvents_result(watchEvents_result other) {
+      if (other.is_set_success()) {
+        this.success = new ClusterEvents(other.success);
+      }
     }
 
-    public setStormConf_result deepCopy() {
-      return new setStormConf_result(this);
+    public watchEvents_result deepCopy() {
+      return new watchEvents_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public ClusterEvents get_success() {
+      return this.success;
+    }
+
+    public void set_success(ClusterEvents success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((ClusterEvents)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return get_success();
+
       }
       throw new IllegalStateException();
     }
@@ -1693,6 +7426,8 @@ public class StormMaster {
       }
 
       switch (field) {
+      case SUCCESS:
+        return is_set_success();
       }
       throw new IllegalStateException();
     }
@@ -1701,15 +7436,24 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof setStormConf_result)
-        return this.equals((setStormConf_result)that);
+      if (that instanceof watchEvents_result)
+        return this.equals((watchEvents_result)that);
       return false;
     }
 
-    public boolean equals(setStormConf_result that) {
+    public boolean equals(watchEvents_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -1717,17 +7461,32 @@ public class StormMaster {
     public int hashCode() {
       HashCodeBuilder builder = new HashCodeBuilder();
 
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
       return builder.toHashCode();
     }
 
-    public int compareTo(setStormConf_result other) {
+    public int compareTo(watchEvents_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      setStormConf_result typedOther = (setStormConf_result)other;
+      watchEvents_result typedOther = (watchEvents_result)other;
 
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1745,6 +7504,14 @@ public class StormMaster {
           break;
         }
         switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.STRUCT) {
+              this.success = new ClusterEvents();
+              this.success.read(iprot);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
         }
@@ -1757,15 +7524,27 @@ public class StormMaster {
     public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
       oprot.writeStructBegin(STRUCT_DESC);
 
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        this.success.write(oprot);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("setStormConf_result(");
+      StringBuilder sb = new StringBuilder("watchEvents_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1792,16 +7571,14 @@ public class StormMaster {
 
   }
 
-  public static class addSupervisors_args implements org.apache.thrift7.TBase<addSupervisors_args, addSupervisors_args._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addSupervisors_args");
+  public static class getClusterState_args implements org.apache.thrift7.TBase<getClusterState_args, getClusterState_args._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getClusterState_args");
 
-    private static final org.apache.thrift7.protocol.TField NUMBER_FIELD_DESC = new org.apache.thrift7.protocol.TField("number", org.apache.thrift7.protocol.TType.I32, (short)1);
 
-    private int number; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
-      NUMBER((short)1, "number");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1816,8 +7593,6 @@ public class StormMaster {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NUMBER
-            return NUMBER;
           default:
             return null;
         }
@@ -1856,90 +7631,37 @@ public class StormMaster {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __NUMBER_ISSET_ID = 0;
-    private BitSet __isset_bit_vector = new BitSet(1);
-
     public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NUMBER, new org.apache.thrift7.meta_data.FieldMetaData("number", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift7.meta_data.FieldValueMetaData(org.apache.thrift7.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addSupervisors_args.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getClusterState_args.class, metaDataMap);
     }
 
-    public addSupervisors_args() {
-    }
-
-    public addSupervisors_args(
-      int number)
-    {
-      this();
-      this.number = number;
-      set_number_isSet(true);
+    public getClusterState_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addSupervisors_args(addSupervisors_args other) {
-      __isset_bit_vector.clear();
-      __isset_bit_vector.or(other.__isset_bit_vector);
-      this.number = other.number;
+    public getClusterState_args(getClusterState_args other) {
     }
 
-    public addSupervisors_args deepCopy() {
-      return new addSupervisors_args(this);
+    public getClusterState_args deepCopy() {
+      return new getClusterState_args(this);
     }
 
     @Override
     public void clear() {
-      set_number_isSet(false);
-      this.number = 0;
-    }
-
-    public int get_number() {
-      return this.number;
-    }
-
-    public void set_number(int number) {
-      this.number = number;
-      set_number_isSet(true);
-    }
-
-    public void unset_number() {
-      __isset_bit_vector.clear(__NUMBER_ISSET_ID);
-    }
-
-    /** Returns true if field number is set (has been assigned a value) and false otherwise */
-    public boolean is_set_number() {
-      return __isset_bit_vector.get(__NUMBER_ISSET_ID);
-    }
-
-    public void set_number_isSet(boolean value) {
-      __isset_bit_vector.set(__NUMBER_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case NUMBER:
-        if (value == null) {
-          unset_number();
-        } else {
-          set_number((Integer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case NUMBER:
-        return Integer.valueOf(get_number());
-
       }
       throw new IllegalStateException();
     }
@@ -1951,8 +7673,6 @@ public class StormMaster {
       }
 
       switch (field) {
-      case NUMBER:
-        return is_set_number();
       }
       throw new IllegalStateException();
     }
@@ -1961,24 +7681,15 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addSupervisors_args)
-        return this.equals((addSupervisors_args)that);
+      if (that instanceof getClusterState_args)
+        return this.equals((getClusterState_args)that);
       return false;
     }
 
-    public boolean equals(addSupervisors_args that) {
+    public boolean equals(getClusterState_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_number = true;
-      boolean that_present_number = true;
-      if (this_present_number || that_present_number) {
-        if (!(this_present_number && that_present_number))
-          return false;
-        if (this.number != that.number)
-          return false;
-      }
-
       return true;
     }
 
@@ -1986,32 +7697,17 @@ public class StormMaster {
     public int hashCode() {
       HashCodeBuilder builder = new HashCodeBuilder();
 
-      boolean present_number = true;
-      builder.append(present_number);
-      if (present_number)
-        builder.append(number);
-
       return builder.toHashCode();
     }
 
-    public int compareTo(addSupervisors_args other) {
+    public int compareTo(getClusterState_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      addSupervisors_args typedOther = (addSupervisors_args)other;
+      getClusterState_args typedOther = (getClusterState_args)other;
 
-      lastComparison = Boolean.valueOf(is_set_number()).compareTo(typedOther.is_set_number());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (is_set_number()) {
-        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.number, typedOther.number);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -2029,14 +7725,6 @@ public class StormMaster {
           break;
         }
         switch (field.id) {
-          case 1: // NUMBER
-            if (field.type == org.apache.thrift7.protocol.TType.I32) {
-              this.number = iprot.readI32();
-              set_number_isSet(true);
-            } else { 
-              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
-            }
-            break;
           default:
             org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
         }
@@ -2050,21 +7738,15 @@ public class StormMaster {
       validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
-      oprot.writeFieldBegin(NUMBER_FIELD_DESC);
-      oprot.writeI32(this.number);
-      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addSupervisors_args(");
+      StringBuilder sb = new StringBuilder("getClusterState_args(");
       boolean first = true;
 
-      sb.append("number:");
-      sb.append(this.number);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -2083,8 +7765,6 @@ public class StormMaster {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bit_vector = new BitSet(1);
         read(new org.apache.thrift7.protocol.TCompactProtocol(new org.apache.thrift7.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift7.TException te) {
         throw new java.io.IOException(te);
@@ -2093,14 +7773,16 @@ public class StormMaster {
 
   }
 
-  public static class addSupervisors_result implements org.apache.thrift7.TBase<addSupervisors_result, addSupervisors_result._Fields>, java.io.Serializable, Cloneable   {
-    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("addSupervisors_result");
+  public static class getClusterState_result implements org.apache.thrift7.TBase<getClusterState_result, getClusterState_result._Fields>, java.io.Serializable, Cloneable   {
+    private static final org.apache.thrift7.protocol.TStruct STRUCT_DESC = new org.apache.thrift7.protocol.TStruct("getClusterState_result");
 
+    private static final org.apache.thrift7.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift7.protocol.TField("success", org.apache.thrift7.protocol.TType.STRUCT, (short)0);
 
+    private ClusterState success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift7.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2115,6 +7797,8 @@ public class StormMaster {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -2153,37 +7837,87 @@ public class StormMaster {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+
     public static final Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift7.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift7.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift7.meta_data.FieldMetaData("success", org.apache.thrift7.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift7.meta_data.StructMetaData(org.apache.thrift7.protocol.TType.STRUCT, ClusterState.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(addSupervisors_result.class, metaDataMap);
+      org.apache.thrift7.meta_data.FieldMetaData.addStructMetaDataMap(getClusterState_result.class, metaDataMap);
     }
 
-    public addSupervisors_result() {
+    public getClusterState_result() {
+    }
+
+    public getClusterState_result(
+      ClusterState success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addSupervisors_result(addSupervisors_result other) {
+    public getClusterState_result(getClusterState_result other) {
+      if (other.is_set_success()) {
+        this.success = new ClusterState(other.success);
+      }
     }
 
-    public addSupervisors_result deepCopy() {
-      return new addSupervisors_result(this);
+    public getClusterState_result deepCopy() {
+      return new getClusterState_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public ClusterState get_success() {
+      return this.success;
+    }
+
+    public void set_success(ClusterState success) {
+      this.success = success;
+    }
+
+    public void unset_success() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean is_set_success() {
+      return this.success != null;
+    }
+
+    public void set_success_isSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unset_success();
+        } else {
+          set_success((ClusterState)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return get_success();
+
       }
       throw new IllegalStateException();
     }
@@ -2195,6 +7929,8 @@ public class StormMaster {
       }
 
       switch (field) {
+      case SUCCESS:
+        return is_set_success();
       }
       throw new IllegalStateException();
     }
@@ -2203,15 +7939,24 @@ public class StormMaster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addSupervisors_result)
-        return this.equals((addSupervisors_result)that);
+      if (that instanceof getClusterState_result)
+        return this.equals((getClusterState_result)that);
       return false;
     }
 
-    public boolean equals(addSupervisors_result that) {
+    public boolean equals(getClusterState_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.is_set_success();
+      boolean that_present_success = true && that.is_set_success();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -2219,17 +7964,32 @@ public class StormMaster {
     public int hashCode() {
       HashCodeBuilder builder = new HashCodeBuilder();
 
+      boolean present_success = true && (is_set_success());
+      builder.append(present_success);
+      if (present_success)
+        builder.append(success);
+
       return builder.toHashCode();
     }
 
-    public int compareTo(addSupervisors_result other) {
+    public int compareTo(getClusterState_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
-      addSupervisors_result typedOther = (addSupervisors_result)other;
+      getClusterState_result typedOther = (getClusterState_result)other;
 
+      lastComparison = Boolean.valueOf(is_set_success()).compareTo(typedOther.is_set_success());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (is_set_success()) {
+        lastComparison = org.apache.thrift7.TBaseHelper.compareTo(this.success, typedOther.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -2247,6 +8007,14 @@ public class StormMaster {
           break;
         }
         switch (field.id) {
+          case 0: // SUCCESS
+            if (field.type == org.apache.thrift7.protocol.TType.STRUCT) {
+              this.success = new ClusterState();
+              this.success.read(iprot);
+            } else { 
+              org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
+            }
+            break;
           default:
             org.apache.thrift7.protocol.TProtocolUtil.skip(iprot, field.type);
         }
@@ -2259,15 +8027,27 @@ public class StormMaster {
     public void write(org.apache.thrift7.protocol.TProtocol oprot) throws org.apache.thrift7.TException {
       oprot.writeStructBegin(STRUCT_DESC);
 
+      if (this.is_set_success()) {
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        this.success.write(oprot);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addSupervisors_result(");
+      StringBuilder sb = new StringBuilder("getClusterState_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
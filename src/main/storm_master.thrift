@@ -16,14 +16,137 @@
 
 namespace java com.yahoo.storm.yarn.generated
 
+struct NodeHealth {
+  1: string host;
+  2: i32 recent_failures;
+  3: bool blacklisted;
+  4: i64 blacklisted_until_ms;
+}
+
+// one operation of executeBatch, named like the StormMaster method it runs;
+// an empty profile means the default supervisors
+struct MasterCommand {
+  1: string command;
+  2: i32 number;
+  3: string profile;
+  4: string storm_conf;
+}
+
+struct CommandResult {
+  1: string command;
+  2: bool ok;
+  3: string message;
+  4: i64 millis;
+}
+
+// something that happened in the cluster, see ClusterEventLog for the types
+struct ClusterEvent {
+  1: i64 seq;
+  2: i64 timestamp_ms;
+  3: string type;
+  4: string container_id;
+  5: string host;
+  6: i32 exit_status;
+  7: string message;
+}
+
+struct ClusterEvents {
+  1: list<ClusterEvent> events;
+  // pass as since_seq to get the events that follow
+  2: i64 next_seq;
+  // events after since_seq were dropped from the buffer, or the master restarted
+  3: bool truncated;
+}
+
+// supervisors of a profile; allocated, launching and running count the
+// containers that hold, or are about to hold, a supervisor
+struct ProfileState {
+  1: string profile;
+  2: i32 desired;
+  // container requests the RM has not satisfied yet
+  3: i32 pending;
+  4: i32 allocated;
+  5: i32 launching;
+  6: i32 running;
+  // supervisors that exited or could not be launched since the master started
+  7: i32 failed;
+}
+
+struct NodeState {
+  1: string host;
+  2: i32 allocated;
+  3: i32 launching;
+  4: i32 running;
+  // failures within master.blacklist.window.secs
+  5: i32 recent_failures;
+  6: bool blacklisted;
+}
+
+struct ContainerState {
+  1: string container_id;
+  2: string host;
+  3: string profile;
+  4: string state;
+  5: i64 state_since_ms;
+}
+
+// nimbus or ui; pid is -1 when it cannot be determined
+struct DaemonState {
+  1: string name;
+  2: bool running;
+  3: i64 pid;
+  4: i64 started_ms;
+  5: i64 uptime_ms;
+}
+
+struct ClusterState {
+  1: i64 timestamp_ms;
+  2: string app_attempt_id;
+  3: bool supervisors_to_run;
+  4: list<ProfileState> profiles;
+  5: list<NodeState> nodes;
+  6: list<ContainerState> containers;
+  7: list<DaemonState> daemons;
+  // when the RM last answered a heartbeat, 0 if it has not yet
+  8: i64 last_heartbeat_ms;
+  // -1 until the RM answered a heartbeat
+  9: i64 last_heartbeat_latency_ms;
+  10: i32 replacements;
+  11: i32 warm_replacements;
+  // pass to watchEvents to follow the cluster from this snapshot on
+  12: i64 last_event_seq;
+}
+
 service StormMaster {
+  // the application attempt this master belongs to
+  string getAppAttemptId();
+
   // Storm configuration
   string getStormConf();
   void setStormConf(1: string storm_conf);
 
   // supervisors
   void addSupervisors(1: i32 number);
+  void addProfileSupervisors(1: string profile, 2: i32 number);
+  void setSupervisorCount(1: i32 number);
+  void setProfileSupervisorCount(1: string profile, 2: i32 number);
   
+  // supervisor failures per node and the current blacklist
+  list<NodeHealth> getNodeHealth();
+
+  // supervisors registered with nimbus, or -1 while nimbus is not reachable
+  i32 getRegisteredSupervisors();
+
+  // run commands in order, as one operation, until one fails
+  list<CommandResult> executeBatch(1: list<MasterCommand> commands);
+
+  // events after since_seq, waiting up to timeout_ms for one to happen;
+  // a negative since_seq returns no events but the next_seq to start from
+  ClusterEvents watchEvents(1: i64 since_seq, 2: i32 timeout_ms);
+
+  // what the master holds and runs right now
+  ClusterState getClusterState();
+
   // start/stop nimber
   void startNimbus();
   void stopNimbus();
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestAdaptiveHeartbeat {
+
+    @Test
+    public void testBacksOffToCeilingWhenIdle() {
+        AdaptiveHeartbeat heartbeat = new AdaptiveHeartbeat(100, 1000, 100);
+        Assert.assertEquals(200, heartbeat.nextInterval(false));
+        Assert.assertEquals(400, heartbeat.nextInterval(false));
+        Assert.assertEquals(800, heartbeat.nextInterval(false));
+        Assert.assertEquals(1000, heartbeat.nextInterval(false));
+        Assert.assertEquals(1000, heartbeat.nextInterval(false));
+    }
+
+    @Test
+    public void testPollsFastWhileBusy() {
+        AdaptiveHeartbeat heartbeat = new AdaptiveHeartbeat(50, 10000, 10000);
+        Assert.assertEquals(50, heartbeat.nextInterval(true));
+        Assert.assertEquals(50, heartbeat.nextInterval(true));
+        Assert.assertEquals(100, heartbeat.nextInterval(false));
+        Assert.assertEquals(50, heartbeat.nextInterval(true));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testDisabledByDefault() {
+        Map storm_conf = new HashMap();
+        Assert.assertNull(AdaptiveHeartbeat.fromConf(storm_conf));
+        storm_conf.put(Config.MASTER_HEARTBEAT_ADAPTIVE, true);
+        storm_conf.put(Config.MASTER_HEARTBEAT_MIN_INTERVAL_MILLIS, 100);
+        storm_conf.put(Config.MASTER_HEARTBEAT_MAX_INTERVAL_MILLIS, 5000);
+        storm_conf.put(Config.MASTER_HEARTBEAT_INTERVAL_MILLIS, 1000);
+        Assert.assertEquals(1000, AdaptiveHeartbeat.fromConf(storm_conf).currentInterval());
+    }
+}
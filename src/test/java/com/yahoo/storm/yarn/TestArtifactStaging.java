@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestArtifactStaging {
+    private String userHome;
+    private File home;
+    private FileSystem fs;
+
+    @Before
+    public void setup() throws Exception {
+        home = File.createTempFile("home", "");
+        home.delete();
+        home.mkdirs();
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", home.getAbsolutePath());
+        fs = FileSystem.getLocal(new YarnConfiguration());
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        System.setProperty("user.home", userHome);
+        fs.delete(new Path(home.getAbsolutePath()), true);
+    }
+
+    private File jar(String content) throws IOException {
+        File jar = File.createTempFile("AppMaster", ".jar");
+        jar.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(jar);
+        out.write(content.getBytes("UTF-8"));
+        out.close();
+        return jar;
+    }
+
+    @Test
+    public void testStagesEachContentOnce() throws Exception {
+        Path first = Util.stageInCache(fs, jar("v1"), "AppMaster.jar");
+        long staged = fs.getFileStatus(first).getModificationTime();
+        Assert.assertEquals("AppMaster.jar", first.getName());
+        Assert.assertEquals(Util.sha256Hex(jar("v1")), first.getParent().getName());
+
+        Thread.sleep(1000);
+        Path again = Util.stageInCache(fs, jar("v1"), "AppMaster.jar");
+        Assert.assertEquals(first, again);
+        Assert.assertEquals(staged, fs.getFileStatus(again).getModificationTime());
+
+        Path other = Util.stageInCache(fs, jar("v2"), "AppMaster.jar");
+        Assert.assertFalse(first.equals(other));
+        Assert.assertTrue(fs.exists(first));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.Assert;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestClientDaemon {
+    private static final String SECRET = "secret";
+
+    private ServerSocket server;
+    private Thread daemon;
+    private final AtomicInteger executed = new AtomicInteger();
+    // both requests are in execute at the same time, or neither gets on
+    private final CyclicBarrier together = new CyclicBarrier(2);
+
+    /**
+     * Prints its first argument a few times, while the other request runs
+     * too, and exits with its second argument.
+     */
+    private final Client client = new Client() {
+        @Override
+        public int execute(String[] args, PrintStream out) throws Exception {
+            executed.incrementAndGet();
+            together.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 20; i++) {
+                out.println(args[0]);
+                // must not reach any requester
+                System.out.println("global " + args[0]);
+                Thread.sleep(5);
+            }
+            return Integer.parseInt(args[1]);
+        }
+    };
+
+    @Before
+    public void setup() throws Exception {
+        server = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        daemon = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    ClientDaemon.serve(server, client, SECRET);
+                } catch (IOException e) {
+                    // the server socket was closed
+                }
+            }
+        };
+        daemon.start();
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        server.close();
+        daemon.join();
+    }
+
+    private static class Request extends Thread {
+        private final int _port;
+        private final String[] _lines;
+        final List<String> output = new ArrayList<String>();
+        volatile Exception failure;
+
+        Request(int port, String... lines) {
+            _port = port;
+            _lines = lines;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Socket socket = new Socket("127.0.0.1", _port);
+                try {
+                    PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF-8");
+                    for (String line : _lines) {
+                        out.println(line);
+                    }
+                    out.println();
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        output.add(line);
+                    }
+                } finally {
+                    socket.close();
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        Request first = new Request(server.getLocalPort(), SECRET, "first", "3");
+        Request second = new Request(server.getLocalPort(), SECRET, "second", "0");
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+        Assert.assertNull(first.failure);
+        Assert.assertNull(second.failure);
+
+        Assert.assertEquals(21, first.output.size());
+        for (String line : first.output.subList(0, 20)) {
+            Assert.assertEquals("first", line);
+        }
+        Assert.assertEquals(ClientDaemon.EXIT_MARKER + " 3", first.output.get(20));
+
+        Assert.assertEquals(21, second.output.size());
+        for (String line : second.output.subList(0, 20)) {
+            Assert.assertEquals("second", line);
+        }
+        Assert.assertEquals(ClientDaemon.EXIT_MARKER + " 0", second.output.get(20));
+    }
+
+    @Test
+    public void testWrongSecret() throws Exception {
+        Request request = new Request(server.getLocalPort(), "guess", "first", "0");
+        request.run();
+        Assert.assertNull(request.failure);
+        Assert.assertEquals(1, request.output.size());
+        Assert.assertEquals(ClientDaemon.EXIT_MARKER + " 1", request.output.get(0));
+        Assert.assertEquals(0, executed.get());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+import com.yahoo.storm.yarn.generated.ClusterEvents;
+
+public class TestClusterEventLog {
+
+    @Test
+    public void testRingBuffer() throws Exception {
+        ClusterEventLog log = new ClusterEventLog(3, 1000, 1);
+        Assert.assertEquals(0, log.since(-1, 0).get_next_seq());
+
+        log.record(ClusterEventLog.DAEMON_STARTED, "nimbus");
+        log.record(ClusterEventLog.CONTAINER_COMPLETED, "container_1", "host1", 143, "killed");
+        ClusterEvents events = log.since(0, 0);
+        Assert.assertFalse(events.is_truncated());
+        Assert.assertEquals(2, events.get_events_size());
+        Assert.assertEquals(2, events.get_next_seq());
+        Assert.assertEquals("nimbus", events.get_events().get(0).get_message());
+        Assert.assertEquals(143, events.get_events().get(1).get_exit_status());
+        Assert.assertEquals("host1", events.get_events().get(1).get_host());
+
+        Assert.assertEquals(0, log.since(2, 0).get_events_size());
+
+        log.record(ClusterEventLog.CONF_CHANGED, null);
+        log.record(ClusterEventLog.DAEMON_STOPPED, "ui");
+        log.record(ClusterEventLog.DAEMON_STARTED, "ui");
+        events = log.since(1, 0);
+        Assert.assertTrue(events.is_truncated());
+        Assert.assertEquals(3, events.get_events_size());
+        Assert.assertEquals(3, events.get_events().get(0).get_seq());
+
+        // the master restarted and numbers events from 1 again
+        events = log.since(42, 0);
+        Assert.assertTrue(events.is_truncated());
+        Assert.assertEquals(5, events.get_next_seq());
+    }
+
+    @Test
+    public void testWatcherWakesUp() throws Exception {
+        final ClusterEventLog log = new ClusterEventLog(10, 60000, 1);
+        Thread recorder = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                log.record(ClusterEventLog.SUPERVISORS_WANTED, "3 default");
+            }
+        };
+        long start = System.currentTimeMillis();
+        recorder.start();
+        ClusterEvents events = log.since(0, 30000);
+        Assert.assertEquals(1, events.get_events_size());
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+
+        start = System.currentTimeMillis();
+        Assert.assertEquals(0, log.since(1, 300).get_events_size());
+        Assert.assertTrue(System.currentTimeMillis() - start >= 250);
+        recorder.join();
+    }
+
+    @Test
+    public void testWatcherLimit() throws Exception {
+        final ClusterEventLog log = new ClusterEventLog(10, 60000, 1);
+        final AtomicReference<ClusterEvents> seen = new AtomicReference<ClusterEvents>();
+        Thread watcher = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    seen.set(log.since(0, 30000));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        };
+        watcher.start();
+        while (log.watchers() == 0) {
+            Thread.sleep(10);
+        }
+
+        // the second watcher is answered at once
+        long start = System.currentTimeMillis();
+        ClusterEvents events = log.since(0, 30000);
+        Assert.assertEquals(0, events.get_events_size());
+        Assert.assertEquals(0, events.get_next_seq());
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+
+        log.record(ClusterEventLog.CONF_CHANGED, null);
+        watcher.join();
+        Assert.assertEquals(1, seen.get().get_events_size());
+        Assert.assertEquals(0, log.watchers());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testLimitsFromConf() throws Exception {
+        Map conf = new HashMap();
+        conf.put(Config.MASTER_EVENTS_CAPACITY, 10);
+        conf.put(Config.MASTER_EVENTS_MAX_WAIT_MILLIS, 30000);
+        conf.put(Config.MASTER_EVENTS_MAX_WATCHERS, 8);
+        conf.put(Config.MASTER_THRIFT_SERVER, "nonblocking");
+        long start = System.currentTimeMillis();
+        Assert.assertEquals(0, ClusterEventLog.fromConf(conf).since(0, 30000).get_events_size());
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+
+        // no more than a quarter of the workers wait
+        conf.put(Config.MASTER_THRIFT_SERVER, "hsha");
+        conf.put(Config.MASTER_THRIFT_WORKER_THREADS, 3);
+        start = System.currentTimeMillis();
+        Assert.assertEquals(0, ClusterEventLog.fromConf(conf).since(0, 30000).get_events_size());
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.apache.thrift7.TException;
+import org.apache.thrift7.protocol.TBinaryProtocol;
+import org.apache.thrift7.server.THsHaServer;
+import org.apache.thrift7.server.TServer;
+import org.apache.thrift7.transport.TNonblockingServerSocket;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+public class TestClusterFanOut {
+
+    @Test
+    public void testFanOut() throws Exception {
+        StormMaster.Iface master = Mockito.mock(StormMaster.Iface.class);
+        Mockito.doThrow(new TException("rejected")).when(master).setSupervisorCount(7);
+
+        ServerSocket probe = new ServerSocket(0);
+        final int port = probe.getLocalPort();
+        probe.close();
+        THsHaServer.Args args = new THsHaServer.Args(new TNonblockingServerSocket(port));
+        args.processor(new StormMaster.Processor<StormMaster.Iface>(master));
+        args.protocolFactory(new TBinaryProtocol.Factory());
+        final TServer server = new THsHaServer(args);
+        Thread serving = new Thread() {
+            @Override
+            public void run() {
+                server.serve();
+            }
+        };
+        serving.start();
+        try {
+            ClusterFanOut fanOut = new ClusterFanOut(new HashMap<Object, Object>(), 2, 10000) {
+                @Override
+                EndpointCache.Endpoint lookup(String appId) {
+                    if (appId.endsWith("3")) {
+                        return null;
+                    }
+                    return new EndpointCache.Endpoint("localhost", port, appId);
+                }
+            };
+            List<ClusterFanOut.Result> results = fanOut.run(Arrays.asList("app_1", "app_2", "app_3"),
+                    new ClusterFanOut.Operation() {
+                        @Override
+                        public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) throws TException {
+                            client.setSupervisorCount(appId.endsWith("2") ? 7 : 5,
+                                    new ClusterFanOut.Reply<StormMaster.AsyncClient.setSupervisorCount_call>(done) {
+                                @Override
+                                String result(StormMaster.AsyncClient.setSupervisorCount_call call) throws Exception {
+                                    call.getResult();
+                                    return "set";
+                                }
+                            });
+                        }
+                    });
+
+            Assert.assertEquals(3, results.size());
+            Assert.assertEquals("app_1", results.get(0).appId);
+            Assert.assertTrue(results.get(0).isOk());
+            Assert.assertEquals("set", results.get(0).getDetail());
+            Assert.assertFalse(results.get(1).isOk());
+            Assert.assertFalse(results.get(2).isOk());
+            Mockito.verify(master).setSupervisorCount(5);
+            Mockito.verify(master).setSupervisorCount(7);
+        } finally {
+            server.stop();
+            serving.join(10000);
+        }
+    }
+
+    @Test
+    public void testHungLookupTimesOut() throws Exception {
+        ClusterFanOut fanOut = new ClusterFanOut(new HashMap<Object, Object>(), 2, 200) {
+            @Override
+            EndpointCache.Endpoint lookup(String appId) throws Exception {
+                Thread.sleep(60000);
+                return null;
+            }
+        };
+        long start = System.currentTimeMillis();
+        List<ClusterFanOut.Result> results = fanOut.run(Arrays.asList("app_1"),
+                new ClusterFanOut.Operation() {
+                    @Override
+                    public void start(String appId, StormMaster.AsyncClient client, ClusterFanOut.Completion done) {
+                        done.succeeded("unexpected");
+                    }
+                });
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000);
+        Assert.assertFalse(results.get(0).isOk());
+        Assert.assertEquals("no answer within 400 ms", results.get(0).getDetail());
+    }
+}
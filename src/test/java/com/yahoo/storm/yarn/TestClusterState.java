@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerStatus;
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.apache.hadoop.yarn.util.RackResolver;
+import org.junit.Test;
+
+import com.yahoo.storm.yarn.generated.ClusterState;
+import com.yahoo.storm.yarn.generated.DaemonState;
+import com.yahoo.storm.yarn.generated.NodeState;
+import com.yahoo.storm.yarn.generated.ProfileState;
+
+public class TestClusterState {
+
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void testSnapshot() throws Exception {
+        YarnConfiguration hadoopConf = new YarnConfiguration();
+        RackResolver.init(hadoopConf);
+        Map storm_conf = Config.readStormConfig("src/main/resources/master_defaults.yaml");
+        StormAMRMClient client = new StormAMRMClient(TestContainerRegistry.ATTEMPT, storm_conf, hadoopConf);
+        client.setMaxResource(Resource.newInstance(16384, 16));
+        StormMasterServerHandler handler = new StormMasterServerHandler(storm_conf, client);
+
+        client.setSupervisorCount(3);
+        client.startAllSupervisors();
+        List<Container> containers = new ArrayList<Container>();
+        containers.add(TestContainerRegistry.container(2, "node1"));
+        containers.add(TestContainerRegistry.container(3, "node2"));
+        client.addAllocatedContainers(containers);
+        client.getRegistry().transition(containers.get(0).getId(), SupervisorContainer.State.LAUNCHING);
+        client.getRegistry().transition(containers.get(0).getId(), SupervisorContainer.State.RUNNING);
+        client.removeCompletedContainers(Arrays.asList(ContainerStatus.newInstance(containers.get(1).getId(),
+                org.apache.hadoop.yarn.api.records.ContainerState.COMPLETE, "failed", 1)));
+
+        ClusterState state = handler.getClusterState();
+        Assert.assertTrue(state.is_supervisors_to_run());
+        Assert.assertEquals(-1, state.get_last_heartbeat_latency_ms());
+        Assert.assertTrue(state.get_last_event_seq() > 0);
+
+        ProfileState profile = state.get_profiles().get(0);
+        Assert.assertEquals(SupervisorProfile.DEFAULT, profile.get_profile());
+        Assert.assertEquals(3, profile.get_desired());
+        Assert.assertEquals(1, profile.get_running());
+        Assert.assertEquals(0, profile.get_allocated());
+        Assert.assertEquals(1, profile.get_failed());
+        // the failed supervisor is only requested again on reconciliation
+        Assert.assertEquals(1, profile.get_pending());
+
+        Assert.assertEquals(2, state.get_nodes_size());
+        NodeState node1 = state.get_nodes().get(0);
+        Assert.assertEquals("node1", node1.get_host());
+        Assert.assertEquals(1, node1.get_running());
+        NodeState node2 = state.get_nodes().get(1);
+        Assert.assertEquals("node2", node2.get_host());
+        Assert.assertEquals(0, node2.get_running());
+        Assert.assertEquals(1, node2.get_recent_failures());
+
+        Assert.assertEquals(1, state.get_containers_size());
+        Assert.assertEquals(containers.get(0).getId().toString(), state.get_containers().get(0).get_container_id());
+        Assert.assertEquals("RUNNING", state.get_containers().get(0).get_state());
+
+        for (DaemonState daemon : state.get_daemons()) {
+            Assert.assertFalse(daemon.get_name(), daemon.is_running());
+            Assert.assertEquals(-1, daemon.get_pid());
+        }
+    }
+}
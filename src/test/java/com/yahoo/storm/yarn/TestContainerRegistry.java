@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Collections;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.ApplicationAttemptId;
+import org.apache.hadoop.yarn.api.records.ApplicationId;
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerId;
+import org.apache.hadoop.yarn.api.records.NodeId;
+import org.apache.hadoop.yarn.api.records.Priority;
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.junit.Test;
+
+import com.yahoo.storm.yarn.SupervisorContainer.State;
+
+public class TestContainerRegistry {
+    static final ApplicationAttemptId ATTEMPT =
+            ApplicationAttemptId.newInstance(ApplicationId.newInstance(1234L, 1), 1);
+    static final SupervisorProfile PROFILE =
+            new SupervisorProfile(SupervisorProfile.DEFAULT, Collections.EMPTY_MAP, 0);
+
+    static Container container(int id, String host) {
+        return Container.newInstance(ContainerId.newInstance(ATTEMPT, id),
+                NodeId.newInstance(host, 45454), host + ":8042",
+                Resource.newInstance(1024, 1), Priority.newInstance(0), null);
+    }
+
+    @Test
+    public void testLifecycle() {
+        ContainerRegistry registry = new ContainerRegistry();
+        Container c = container(2, "node1");
+        registry.add(c, PROFILE, "/rack1");
+        Assert.assertEquals(State.ALLOCATED, registry.get(c.getId()).getState());
+        Assert.assertFalse(registry.transition(c.getId(), State.RUNNING));
+        Assert.assertTrue(registry.transition(c.getId(), State.LAUNCHING));
+        Assert.assertTrue(registry.transition(c.getId(), State.RUNNING));
+        Assert.assertEquals(1, registry.live().size());
+        Assert.assertTrue(registry.transition(c.getId(), State.RELEASED));
+        Assert.assertFalse(registry.transition(c.getId(), State.LAUNCHING));
+        Assert.assertEquals(0, registry.live().size());
+
+        SupervisorContainer completed = registry.complete(c.getId());
+        Assert.assertEquals(State.COMPLETED, completed.getState());
+        Assert.assertNull(registry.get(c.getId()));
+        Assert.assertEquals(0, registry.size());
+        Assert.assertNull(registry.complete(c.getId()));
+    }
+
+    @Test
+    public void testCounts() {
+        ContainerRegistry registry = new ContainerRegistry();
+        Container a = container(2, "node1");
+        Container b = container(3, "node1");
+        registry.add(a, PROFILE, "/rack1");
+        registry.add(b, PROFILE, "/rack1");
+        registry.add(b, PROFILE, "/rack1");
+        registry.transition(a.getId(), State.LAUNCHING);
+        registry.transition(a.getId(), State.RUNNING);
+        Assert.assertEquals(1, registry.count(State.ALLOCATED));
+        Assert.assertEquals(1, registry.count(State.RUNNING));
+        Assert.assertEquals(0, registry.count(State.LAUNCHING));
+        Assert.assertEquals(1, registry.countsPerHost().get("node1").get(State.RUNNING));
+        Assert.assertEquals(1, registry.countsPerProfile().get(SupervisorProfile.DEFAULT).get(State.ALLOCATED));
+
+        registry.complete(a.getId());
+        Assert.assertEquals(0, registry.count(State.RUNNING));
+        Assert.assertEquals(1, registry.count(State.COMPLETED));
+        Assert.assertEquals(0, registry.countsPerHost().get("node1").get(State.RUNNING));
+
+        registry.complete(b.getId());
+        Assert.assertEquals(2, registry.count(State.COMPLETED));
+        Assert.assertNull(registry.countsPerHost().get("node1"));
+        Assert.assertTrue(registry.countsPerHost().isEmpty());
+    }
+
+    @Test
+    public void testUnknownContainer() {
+        ContainerRegistry registry = new ContainerRegistry();
+        Assert.assertFalse(registry.transition(container(3, "node1").getId(), State.LAUNCHING));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestEndpointCache {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        File dir = File.createTempFile("apps", "");
+        dir.delete();
+        EndpointCache cache = new EndpointCache(dir);
+        String appId = "application_1377000000000_0001";
+        Assert.assertNull(cache.get(appId));
+
+        cache.put(appId, new EndpointCache.Endpoint("am-host", 9000, "appattempt_1377000000000_0001_000001"));
+        EndpointCache.Endpoint endpoint = cache.get(appId);
+        Assert.assertEquals("am-host", endpoint.host);
+        Assert.assertEquals(9000, endpoint.port);
+        Assert.assertEquals("appattempt_1377000000000_0001_000001", endpoint.appAttemptId);
+
+        cache.put(appId, new EndpointCache.Endpoint("other-host", 9001, "appattempt_1377000000000_0001_000002"));
+        Assert.assertEquals("other-host", cache.get(appId).host);
+        Assert.assertEquals(1, dir.list().length);
+
+        cache.remove(appId);
+        Assert.assertNull(cache.get(appId));
+        dir.delete();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.Assert;
+
+import org.apache.thrift7.TException;
+import org.json.simple.JSONValue;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.yahoo.storm.yarn.generated.CommandResult;
+import com.yahoo.storm.yarn.generated.MasterCommand;
+
+public class TestMasterBatch {
+
+    @Test
+    public void testOneRestartForSeveralConfChanges() throws Exception {
+        StormMasterServerHandler handler = Mockito.mock(StormMasterServerHandler.class);
+        List<CommandResult> results = new MasterBatch(handler).execute(Arrays.asList(
+                BatchCommand.parse(new String[] { "setStormConfig" }),
+                BatchCommand.parse(new String[] { "stopUI" }),
+                BatchCommand.parse(new String[] { "addSupervisors", "20", "large" }),
+                BatchCommand.parse(new String[] { "setStormConfig" })));
+
+        Assert.assertEquals(4, results.size());
+        for (CommandResult result : results) {
+            Assert.assertTrue(result.get_command(), result.is_ok());
+        }
+        InOrder order = Mockito.inOrder(handler);
+        order.verify(handler).stopNimbus();
+        order.verify(handler).applyStormConf(Mockito.anyString());
+        order.verify(handler).addProfileSupervisors("large", 20);
+        order.verify(handler).applyStormConf(Mockito.anyString());
+        order.verify(handler).startNimbus();
+        order.verify(handler).startSupervisors();
+        Mockito.verify(handler, Mockito.times(1)).stopNimbus();
+        Mockito.verify(handler, Mockito.times(1)).stopUI();
+        Mockito.verify(handler, Mockito.never()).startUI();
+    }
+
+    @Test
+    public void testSkipAfterFailure() throws Exception {
+        StormMasterServerHandler handler = Mockito.mock(StormMasterServerHandler.class);
+        Mockito.doThrow(new TException("no such profile")).when(handler).setProfileSupervisorCount("tiny", 2);
+        MasterCommand unknown = BatchCommand.parse(new String[] { "stopUI" });
+        unknown.set_command("shutdown");
+        List<CommandResult> results = new MasterBatch(handler).execute(Arrays.asList(
+                BatchCommand.parse(new String[] { "setSupervisors", "2", "tiny" }),
+                BatchCommand.parse(new String[] { "stopNimbus" }),
+                unknown));
+
+        Assert.assertFalse(results.get(0).is_ok());
+        Assert.assertEquals("no such profile", results.get(0).get_message());
+        Assert.assertEquals("skipped", results.get(1).get_message());
+        Assert.assertEquals("skipped", results.get(2).get_message());
+        Mockito.verify(handler, Mockito.never()).stopNimbus();
+
+        results = new MasterBatch(handler).execute(Arrays.asList(unknown));
+        Assert.assertFalse(results.get(0).is_ok());
+    }
+
+    @Test
+    public void testConfChangeDuringBatch() throws Exception {
+        StormAMRMClient client = Mockito.mock(StormAMRMClient.class);
+        final StormMasterServerHandler handler = new StormMasterServerHandler(new HashMap<Object, Object>(), client) {
+            // keep nimbus and the UI from being started for real
+            @Override
+            public void startNimbus() {
+            }
+
+            @Override
+            public void startUI() {
+            }
+        };
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread other = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    while (!done.get()) {
+                        handler.setStormConf(JSONValue.toJSONString(Collections.singletonMap("owner", "other")));
+                        handler.getStormConf();
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }
+        };
+        other.start();
+        try {
+            MasterCommand set = new MasterCommand();
+            set.set_command("setStormConf");
+            set.set_storm_conf(JSONValue.toJSONString(Collections.singletonMap("owner", "batch")));
+            MasterCommand get = new MasterCommand();
+            get.set_command("getStormConf");
+            for (int i = 0; i < 500; i++) {
+                List<CommandResult> results = handler.executeBatch(Arrays.asList(set, get));
+                Map<?, ?> seen = (Map<?, ?>) JSONValue.parse(results.get(1).get_message());
+                Assert.assertEquals("batch", seen.get("owner"));
+            }
+        } finally {
+            done.set(true);
+            other.join();
+        }
+        Assert.assertNull(failure.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadScriptLine() {
+        BatchCommand.parse(new String[] { "addSupervisors" });
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.thrift7.server.TServer;
+import org.apache.thrift7.transport.TTransportException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+public class TestMasterClientPool {
+    private final Map<String, Object> _conf = new HashMap<String, Object>();
+    private StormMaster.Iface _first;
+    private StormMaster.Iface _second;
+    private TServer _firstServer;
+    private TServer _secondServer;
+    private volatile EndpointCache.Endpoint _current;
+    private MasterClientPool _pool;
+
+    @Before
+    public void setup() throws Exception {
+        _conf.put(Config.MASTER_TIMEOUT_SECS, 2000);
+        _first = Mockito.mock(StormMaster.Iface.class);
+        Mockito.when(_first.getAppAttemptId()).thenReturn("attempt_1");
+        Mockito.when(_first.getStormConf()).thenReturn("first");
+        _second = Mockito.mock(StormMaster.Iface.class);
+        Mockito.when(_second.getAppAttemptId()).thenReturn("attempt_2");
+        Mockito.when(_second.getStormConf()).thenReturn("second");
+
+        int firstPort = freePort();
+        _firstServer = serve(_first, firstPort);
+        int secondPort = freePort();
+        _secondServer = serve(_second, secondPort);
+        _current = new EndpointCache.Endpoint("localhost", firstPort, "attempt_1");
+        final EndpointCache.Endpoint failedOver = new EndpointCache.Endpoint("localhost", secondPort, "attempt_2");
+
+        // the RM knows about the failover, the local cache does not
+        MasterClientPool.Resolver resolver = new MasterClientPool.Resolver() {
+            @Override
+            public EndpointCache.Endpoint resolve(String appId, @SuppressWarnings("rawtypes") Map stormConf,
+                    boolean refresh) {
+                if (refresh) {
+                    _current = failedOver;
+                }
+                return _current;
+            }
+        };
+        _pool = new MasterClientPool(resolver, 2, 2, 0, 60000);
+    }
+
+    @After
+    public void teardown() {
+        _pool.closeAll();
+        _firstServer.stop();
+        _secondServer.stop();
+    }
+
+    @Test
+    public void testReconnectAfterFailover() throws Exception {
+        StormMaster.Iface client = _pool.get("app_1", _conf);
+        Assert.assertEquals("first", client.getStormConf());
+        Assert.assertEquals("first", client.getStormConf());
+
+        _firstServer.stop();
+        Assert.assertEquals("second", client.getStormConf());
+        Assert.assertEquals("second", client.getStormConf());
+    }
+
+    @Test
+    public void testNoRetryOfCallsThatMayHaveRun() throws Exception {
+        StormMaster.Iface client = _pool.get("app_1", _conf);
+        Assert.assertEquals("first", client.getStormConf());
+
+        _firstServer.stop();
+        try {
+            client.addSupervisors(2);
+            Assert.fail("addSupervisors was retried");
+        } catch (TTransportException e) {
+            // the master might have added them before the connection broke
+        }
+        Mockito.verify(_second, Mockito.never()).addSupervisors(2);
+
+        // the next call connects to the new attempt, also for addSupervisors
+        client.addSupervisors(2);
+        Mockito.verify(_second).addSupervisors(2);
+    }
+
+    @Test
+    public void testNoRetryOfConfChange() throws Exception {
+        StormMaster.Iface client = _pool.get("app_1", _conf);
+        Assert.assertEquals("first", client.getStormConf());
+
+        _firstServer.stop();
+        try {
+            client.setStormConf("{}");
+            Assert.fail("setStormConf was retried");
+        } catch (TTransportException e) {
+            // applying it twice would restart the daemons twice
+        }
+        Mockito.verify(_second, Mockito.never()).setStormConf("{}");
+    }
+
+    private static int freePort() throws Exception {
+        ServerSocket probe = new ServerSocket(0);
+        int port = probe.getLocalPort();
+        probe.close();
+        return port;
+    }
+
+    private static TServer serve(StormMaster.Iface master, int port) throws Exception {
+        MasterTransportPlugin plugin = new MasterTransportPlugin();
+        plugin.prepare(new HashMap<String, Object>(), null);
+        final TServer server = plugin.getServer(port, new StormMaster.Processor<StormMaster.Iface>(master));
+        new Thread() {
+            @Override
+            public void run() {
+                server.serve();
+            }
+        }.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+        return server;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.thrift7.server.TServer;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import backtype.storm.security.auth.SimpleTransportPlugin;
+
+import com.yahoo.storm.yarn.generated.StormMaster;
+
+public class TestMasterTransportPlugin {
+
+    @Test
+    public void testWithMasterTransport() {
+        Map<String, Object> conf = new HashMap<String, Object>();
+        conf.put(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN, SimpleTransportPlugin.class.getName());
+        Assert.assertEquals(MasterTransportPlugin.class.getName(),
+                MasterTransportPlugin.withMasterTransport(conf).get(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN));
+        Assert.assertEquals(SimpleTransportPlugin.class.getName(),
+                conf.get(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN));
+
+        conf.put(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN, "some.SaslTransportPlugin");
+        Assert.assertSame(conf, MasterTransportPlugin.withMasterTransport(conf));
+    }
+
+    @Test
+    public void testBinaryAndCompactClients() throws Exception {
+        testEngine("hsha");
+        testEngine("nonblocking");
+    }
+
+    private void testEngine(String engine) throws Exception {
+        StormMaster.Iface master = Mockito.mock(StormMaster.Iface.class);
+        Mockito.when(master.getStormConf()).thenReturn("{}");
+
+        ServerSocket probe = new ServerSocket(0);
+        int port = probe.getLocalPort();
+        probe.close();
+        Map<String, Object> conf = new HashMap<String, Object>();
+        conf.put(backtype.storm.Config.STORM_THRIFT_TRANSPORT_PLUGIN, SimpleTransportPlugin.class.getName());
+        conf.put(Config.MASTER_THRIFT_SERVER, engine);
+        conf.put(Config.MASTER_THRIFT_WORKER_THREADS, 2);
+        MasterTransportPlugin plugin = new MasterTransportPlugin();
+        plugin.prepare(conf, null);
+        final TServer server = plugin.getServer(port, new StormMaster.Processor<StormMaster.Iface>(master));
+        Thread serving = new Thread() {
+            @Override
+            public void run() {
+                server.serve();
+            }
+        };
+        serving.start();
+        try {
+            for (String protocol : new String[] { "binary", "compact" }) {
+                conf.put(Config.MASTER_THRIFT_PROTOCOL, protocol);
+                MasterClient client = new MasterClient(conf, "localhost", port, 10000);
+                try {
+                    Assert.assertEquals("{}", client.getClient().getStormConf());
+                } finally {
+                    client.close();
+                }
+            }
+            Mockito.verify(master, Mockito.times(2)).getStormConf();
+        } finally {
+            server.stop();
+            serving.join(10000);
+        }
+    }
+}
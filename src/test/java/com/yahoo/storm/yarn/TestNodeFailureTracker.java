@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestNodeFailureTracker {
+
+    @Test
+    public void testBlacklistsAfterThresholdWithinWindow() {
+        NodeFailureTracker tracker = new NodeFailureTracker(3, 1000, 5000);
+        tracker.recordFailure("h1", 0);
+        tracker.recordFailure("h1", 500);
+        Assert.assertFalse(tracker.isBlacklisted("h1", 600));
+        tracker.recordFailure("h1", 900);
+        Assert.assertTrue(tracker.isBlacklisted("h1", 1000));
+        Assert.assertFalse(tracker.isBlacklisted("h2", 1000));
+        Assert.assertEquals(Long.valueOf(5900), tracker.getBlacklist(1000).get("h1"));
+        Assert.assertFalse(tracker.isBlacklisted("h1", 5900));
+        Assert.assertTrue(tracker.getBlacklist(5900).isEmpty());
+    }
+
+    @Test
+    public void testOldFailuresExpire() {
+        NodeFailureTracker tracker = new NodeFailureTracker(2, 1000, 5000);
+        tracker.recordFailure("h1", 0);
+        tracker.recordFailure("h1", 1500);
+        Assert.assertFalse(tracker.isBlacklisted("h1", 1500));
+        Assert.assertEquals(Integer.valueOf(1), tracker.getRecentFailures(1600).get("h1"));
+        Assert.assertTrue(tracker.getRecentFailures(2500).isEmpty());
+    }
+
+    @Test
+    public void testZeroThresholdDisablesBlacklist() {
+        NodeFailureTracker tracker = new NodeFailureTracker(0, 1000, 5000);
+        for (int i = 0; i < 10; i++) {
+            tracker.recordFailure("h1", i);
+        }
+        Assert.assertFalse(tracker.isBlacklisted("h1", 10));
+    }
+
+    @Test
+    public void testReplacementBackoffDoublesAndResets() {
+        ReplacementBackoff backoff = new ReplacementBackoff(100, 1000);
+        Assert.assertTrue(backoff.mayRequest(0));
+        Assert.assertEquals(100, backoff.failed(0));
+        Assert.assertFalse(backoff.mayRequest(50));
+        Assert.assertTrue(backoff.mayRequest(100));
+        Assert.assertEquals(200, backoff.failed(100));
+        Assert.assertEquals(400, backoff.failed(300));
+        Assert.assertEquals(800, backoff.failed(700));
+        Assert.assertEquals(1000, backoff.failed(1500));
+        // quiet for longer than the maximum delay
+        Assert.assertEquals(100, backoff.failed(5000));
+    }
+}
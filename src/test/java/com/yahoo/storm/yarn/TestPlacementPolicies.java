@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestPlacementPolicies {
+
+    /** host -> rack of every supervisor held */
+    private static SupervisorPlacementPolicy.View view(final String... hostsAndRacks) {
+        final Map<String, Integer> perHost = new HashMap<String, Integer>();
+        final Map<String, Integer> perRack = new HashMap<String, Integer>();
+        for (int i = 0; i < hostsAndRacks.length; i += 2) {
+            Integer h = perHost.get(hostsAndRacks[i]);
+            perHost.put(hostsAndRacks[i], h == null ? 1 : h + 1);
+            Integer r = perRack.get(hostsAndRacks[i + 1]);
+            perRack.put(hostsAndRacks[i + 1], r == null ? 1 : r + 1);
+        }
+        return new SupervisorPlacementPolicy.View() {
+            public int supervisorsOnHost(String host) {
+                return perHost.containsKey(host) ? perHost.get(host) : 0;
+            }
+            public int supervisorsOnRack(String rack) {
+                return perRack.containsKey(rack) ? perRack.get(rack) : 0;
+            }
+            public Map<String, Integer> supervisorsPerRack() {
+                return perRack;
+            }
+        };
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static SupervisorPlacementPolicy policy(String name, Object... kv) {
+        Map storm_conf = new HashMap();
+        storm_conf.put(Config.MASTER_PLACEMENT_POLICY, name);
+        storm_conf.put(Config.MASTER_PLACEMENT_MAX_PER_NODE, 1);
+        for (int i = 0; i < kv.length; i += 2) {
+            storm_conf.put(kv[i], kv[i + 1]);
+        }
+        return PlacementPolicies.fromConf(storm_conf);
+    }
+
+    @Test
+    public void testSpreadAvoidsStacking() {
+        SupervisorPlacementPolicy spread = policy("spread");
+        SupervisorPlacementPolicy.View held = view("h1", "/r1");
+        Assert.assertFalse(spread.accept("h1", "/r1", held));
+        Assert.assertTrue(spread.accept("h2", "/r1", held));
+    }
+
+    @Test
+    public void testPackPrefersFullestRack() {
+        SupervisorPlacementPolicy pack = policy("pack");
+        Assert.assertNull(pack.nextPlacement(view()).getRacks());
+        SupervisorPlacementPolicy.View held = view("h1", "/r1", "h2", "/r2", "h3", "/r2");
+        Assert.assertEquals("/r2", pack.nextPlacement(held).getRacks()[0]);
+        Assert.assertTrue(pack.accept("h4", "/r1", held));
+        Assert.assertFalse(pack.accept("h4", "/r3", held));
+    }
+
+    @Test
+    public void testRackAwareDistributesOverConfiguredRacks() {
+        SupervisorPlacementPolicy rack = policy("rack",
+                Config.MASTER_PLACEMENT_RACKS, Arrays.asList("/r1", "/r2"));
+        SupervisorPlacementPolicy.View held = view("h1", "/r1");
+        Assert.assertEquals("/r2", rack.nextPlacement(held).getRacks()[0]);
+        Assert.assertFalse(rack.accept("h9", "/r9", held));
+    }
+
+    @Test
+    public void testHostFilter() {
+        PlacementPolicies.HostFilter filter = new PlacementPolicies.HostFilter(
+                Arrays.asList("node[0-9]+\\.example\\.com"), Arrays.asList("node13\\..*"));
+        Assert.assertTrue(filter.allows("node1.example.com"));
+        Assert.assertFalse(filter.allows("node13.example.com"));
+        Assert.assertFalse(filter.allows("gateway.example.com"));
+        Assert.assertTrue(new PlacementPolicies.HostFilter(Collections.<String>emptyList(),
+                Collections.<String>emptyList()).allows("anything"));
+    }
+
+    @Test
+    public void testUnknownPolicyClass() {
+        try {
+            policy("com.example.NoSuchPolicy");
+            Assert.fail("an unknown policy was loaded");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(Config.MASTER_PLACEMENT_POLICY));
+        }
+    }
+}
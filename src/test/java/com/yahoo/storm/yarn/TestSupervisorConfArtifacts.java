@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.yarn.api.records.LocalResource;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestSupervisorConfArtifacts {
+    private File appHome;
+    private SupervisorConfArtifacts artifacts;
+
+    @Before
+    public void setup() throws Exception {
+        appHome = File.createTempFile("storm-yarn", "");
+        appHome.delete();
+        YarnConfiguration hadoopConf = new YarnConfiguration();
+        artifacts = new SupervisorConfArtifacts(FileSystem.getLocal(hadoopConf),
+                appHome.getAbsolutePath(), hadoopConf);
+    }
+
+    @After
+    public void cleanup() throws Exception {
+        FileSystem.getLocal(new YarnConfiguration()).delete(new Path(appHome.getAbsolutePath()), true);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testWritesEachConfigurationOnce() throws Exception {
+        SupervisorProfile small = new SupervisorProfile("small", new HashMap(), 1);
+        SupervisorProfile large = new SupervisorProfile("large", new HashMap(), 2);
+        Map conf = new HashMap();
+        conf.put("supervisor.slots.ports", 4);
+
+        LocalResource first = artifacts.get(small, conf);
+        Assert.assertSame(first, artifacts.get(small, conf));
+        // identical content is shared across profiles
+        Assert.assertSame(first, artifacts.get(large, conf));
+        Assert.assertEquals(1, appHome.list().length);
+        Assert.assertTrue(new File(appHome.listFiles()[0], "conf/storm.yaml").exists());
+        Assert.assertTrue(new File(appHome.listFiles()[0], "conf/logback.xml").exists());
+
+        // a changed configuration is only picked up after invalidation
+        conf.put("supervisor.slots.ports", 8);
+        Assert.assertSame(first, artifacts.get(small, conf));
+        artifacts.invalidate();
+        LocalResource second = artifacts.get(small, conf);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, appHome.list().length);
+    }
+}
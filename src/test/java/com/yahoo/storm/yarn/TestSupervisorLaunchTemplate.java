@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.ContainerLaunchContext;
+import org.apache.hadoop.yarn.api.records.LocalResource;
+import org.junit.Test;
+
+public class TestSupervisorLaunchTemplate {
+
+    @Test
+    public void testLaunchContextsDoNotShareState() {
+        Map<String, String> env = new HashMap<String, String>();
+        env.put("STORM_LOG_DIR", "<LOG_DIR>");
+        ByteBuffer tokens = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        SupervisorLaunchTemplate template = new SupervisorLaunchTemplate(tokens, 42,
+                env, Collections.<String, LocalResource>emptyMap(),
+                Arrays.asList("java", "backtype.storm.daemon.supervisor"));
+        // the template does not follow changes to what it was built from
+        env.put("STORM_LOG_DIR", "changed");
+
+        ContainerLaunchContext first = template.newLaunchContext();
+        first.getEnvironment().put("CONTAINER", "1");
+        first.getTokens().get();
+        ContainerLaunchContext second = template.newLaunchContext();
+
+        Assert.assertEquals("<LOG_DIR>", second.getEnvironment().get("STORM_LOG_DIR"));
+        Assert.assertFalse(second.getEnvironment().containsKey("CONTAINER"));
+        Assert.assertEquals(3, second.getTokens().remaining());
+        Assert.assertEquals(Arrays.asList("java", "backtype.storm.daemon.supervisor"),
+                second.getCommands());
+        Assert.assertTrue(template.hasTokens(42));
+        Assert.assertFalse(template.hasTokens(43));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerId;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.yahoo.storm.yarn.generated.ClusterEvents;
+
+public class TestSupervisorLauncher {
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testReleaseWhenPreparingFails() throws Exception {
+        Container container = TestContainerRegistry.container(2, "node1");
+        ContainerId id = container.getId();
+        ContainerRegistry registry = new ContainerRegistry();
+        registry.add(container, TestContainerRegistry.PROFILE, "/rack1");
+        ClusterEventLog events = new ClusterEventLog(10, 0, 0);
+        StormAMRMClient client = Mockito.mock(StormAMRMClient.class);
+        Mockito.when(client.supervisorsAreToRun()).thenReturn(true);
+        Mockito.when(client.getRegistry()).thenReturn(registry);
+        Mockito.when(client.getEvents()).thenReturn(events);
+        Mockito.when(client.createSupervisorLaunchContext(container))
+                .thenThrow(new IllegalStateException("no storm.zip"));
+
+        // the rate, quoted in the yaml, is parsed; the rest are defaults
+        Map conf = new HashMap();
+        conf.put(Config.MASTER_LAUNCHER_RATE_PER_SEC, "10");
+        SupervisorLauncher launcher = new SupervisorLauncher(client, conf, new YarnConfiguration());
+        launcher.start();
+        try {
+            launcher.launch(Arrays.asList(container));
+            long deadline = System.currentTimeMillis() + 10000;
+            while (launcher.getPendingLaunches() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(0, launcher.getPendingLaunches());
+            Mockito.verify(client, Mockito.timeout(10000)).releaseContainer(id);
+        } finally {
+            launcher.stop();
+        }
+        ClusterEvents recorded = events.since(0, 0);
+        Assert.assertEquals(1, recorded.get_events_size());
+        Assert.assertEquals(ClusterEventLog.SUPERVISOR_LAUNCH_FAILED, recorded.get_events().get(0).get_type());
+        Assert.assertEquals("node1", recorded.get_events().get(0).get_host());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.Container;
+import org.apache.hadoop.yarn.api.records.ContainerState;
+import org.apache.hadoop.yarn.api.records.ContainerStatus;
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.apache.hadoop.yarn.client.api.AMRMClient.ContainerRequest;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.apache.hadoop.yarn.util.RackResolver;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.yahoo.storm.yarn.SupervisorContainer.State;
+
+public class TestSupervisorReconciler {
+    private StormAMRMClient client;
+
+    @Before
+    public void setup() {
+        client = newClient(0, 30000);
+    }
+
+    private static StormAMRMClient newClient(int backoffMillis, int stickyTimeoutMillis) {
+        return newClient(backoffMillis, stickyTimeoutMillis, "any");
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static StormAMRMClient newClient(int backoffMillis, int stickyTimeoutMillis, String placementPolicy) {
+        YarnConfiguration hadoopConf = new YarnConfiguration();
+        RackResolver.init(hadoopConf);
+        Map storm_conf = Config.readStormConfig("src/main/resources/master_defaults.yaml");
+        storm_conf.put(Config.MASTER_REPLACEMENT_BACKOFF_INITIAL_MILLIS, backoffMillis);
+        storm_conf.put(Config.MASTER_REPLACEMENT_STICKY_TIMEOUT_MILLIS, stickyTimeoutMillis);
+        storm_conf.put(Config.MASTER_PLACEMENT_POLICY, placementPolicy);
+        StormAMRMClient client = new StormAMRMClient(TestContainerRegistry.ATTEMPT, storm_conf, hadoopConf);
+        client.setMaxResource(Resource.newInstance(16384, 16));
+        return client;
+    }
+
+    private static List<Container> containers(int first, int n) {
+        List<Container> ret = new ArrayList<Container>();
+        for (int i = first; i < first + n; i++) {
+            ret.add(TestContainerRegistry.container(i, "node" + i));
+        }
+        return ret;
+    }
+
+    private int count(State state) {
+        return client.getRegistry().count(state);
+    }
+
+    @Test
+    public void testConvergesOnDesiredCount() {
+        client.setSupervisorCount(3);
+        Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+        client.startAllSupervisors();
+        Assert.assertEquals(3, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+
+        // one allocation too many is given back right away
+        List<Container> accepted = client.addAllocatedContainers(containers(2, 4));
+        Assert.assertEquals(3, accepted.size());
+        Assert.assertEquals(1, count(State.RELEASED));
+        Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+
+        // scaling down releases the surplus
+        client.setSupervisorCount(1);
+        Assert.assertEquals(1, client.getRegistry().live().size());
+        Assert.assertEquals(3, count(State.RELEASED));
+
+        // a lost supervisor is requested again
+        Container lost = client.getRegistry().live().get(0).getContainer();
+        client.removeCompletedContainers(Arrays.asList(
+                ContainerStatus.newInstance(lost.getId(), ContainerState.COMPLETE, "lost", 1)));
+        client.reconcile();
+        Assert.assertEquals(1, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+
+        // and scaling down again cancels the outstanding request
+        client.setSupervisorCount(0);
+        Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+    }
+
+    @Test
+    public void testFailuresDelayReplacementAndBlacklistNode() {
+        client = newClient(60000, 30000);
+        client.setSupervisorCount(1);
+        client.startAllSupervisors();
+        for (int i = 0; i < 3; i++) {
+            Container c = TestContainerRegistry.container(10 + i, "bad");
+            Assert.assertEquals(1, client.addAllocatedContainers(Arrays.asList(c)).size());
+            client.removeCompletedContainers(Arrays.asList(
+                    ContainerStatus.newInstance(c.getId(), ContainerState.COMPLETE, "failed", 1)));
+            // the replacement waits for the backoff to expire
+            client.reconcile();
+            Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+        }
+        Assert.assertTrue(client.getNodeFailures().isBlacklisted("bad"));
+
+        // containers on the blacklisted node are given back
+        Container c = TestContainerRegistry.container(20, "bad");
+        Assert.assertTrue(client.addAllocatedContainers(Arrays.asList(c)).isEmpty());
+        Assert.assertEquals(1, count(State.RELEASED));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    public void testAllocationMatchesRequestOfItsSize() {
+        YarnConfiguration hadoopConf = new YarnConfiguration();
+        RackResolver.init(hadoopConf);
+        Map storm_conf = Config.readStormConfig("src/main/resources/master_defaults.yaml");
+        storm_conf.put(Config.MASTER_SUPERVISOR_SIZE_MB, 2048);
+        storm_conf.put(Config.MASTER_SUPERVISOR_VCORES, 1);
+        client = new StormAMRMClient(TestContainerRegistry.ATTEMPT, storm_conf, hadoopConf);
+        client.setMaxResource(Resource.newInstance(16384, 16));
+        client.setSupervisorCount(1);
+        client.startAllSupervisors();
+        // the supervisor size changes while the first request is outstanding
+        storm_conf.put(Config.MASTER_SUPERVISOR_SIZE_MB, 1024);
+        client.setSupervisorCount(2);
+        Assert.assertEquals(2, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+
+        // a 1024 MB container cannot satisfy the request for 2048 MB
+        client.addAllocatedContainers(Arrays.asList(TestContainerRegistry.container(2, "node2")));
+        List<ContainerRequest> pending = client.getPendingRequests(SupervisorProfile.DEFAULT);
+        Assert.assertEquals(1, pending.size());
+        Assert.assertEquals(2048, pending.get(0).getCapability().getMemory());
+    }
+
+    @Test
+    public void testSpreadPolicyOnAllocation() {
+        client = newClient(0, 30000, "spread");
+        client.setSupervisorCount(2);
+        client.startAllSupervisors();
+        // the container asked about does not count against its own node
+        Assert.assertEquals(1, client.addAllocatedContainers(
+                Arrays.asList(TestContainerRegistry.container(2, "node1"))).size());
+        // but a second one on the same node is over master.placement.max-per-node
+        Assert.assertTrue(client.addAllocatedContainers(
+                Arrays.asList(TestContainerRegistry.container(3, "node1"))).isEmpty());
+        Assert.assertEquals(1, count(State.RELEASED));
+        Assert.assertEquals(1, client.addAllocatedContainers(
+                Arrays.asList(TestContainerRegistry.container(4, "node2"))).size());
+        Assert.assertEquals(2, client.getRegistry().live().size());
+    }
+
+    @Test
+    public void testBlacklistRejectionDelaysNextRequest() {
+        client = newClient(60000, 30000);
+        for (int i = 0; i < 3; i++) {
+            client.getNodeFailures().recordFailure("bad");
+        }
+        Assert.assertTrue(client.getNodeFailures().isBlacklisted("bad"));
+        client.setSupervisorCount(1);
+        client.startAllSupervisors();
+        Assert.assertEquals(1, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+
+        Assert.assertTrue(client.addAllocatedContainers(
+                Arrays.asList(TestContainerRegistry.container(2, "bad"))).isEmpty());
+        // the ask is not sent again on the next heartbeat
+        client.reconcile();
+        Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+    }
+
+    private void runAndLose(Container c) {
+        Assert.assertEquals(1, client.addAllocatedContainers(Arrays.asList(c)).size());
+        client.getRegistry().transition(c.getId(), State.LAUNCHING);
+        client.getRegistry().transition(c.getId(), State.RUNNING);
+        client.removeCompletedContainers(Arrays.asList(
+                ContainerStatus.newInstance(c.getId(), ContainerState.COMPLETE, "lost", -100)));
+        client.reconcile();
+    }
+
+    @Test
+    public void testLostSupervisorIsReplacedOnWarmNode() {
+        client.setSupervisorCount(1);
+        client.startAllSupervisors();
+        runAndLose(TestContainerRegistry.container(2, "node2"));
+        List<ContainerRequest> pending = client.getPendingRequests(SupervisorProfile.DEFAULT);
+        Assert.assertEquals(1, pending.size());
+        Assert.assertEquals(Arrays.asList("node2"), pending.get(0).getNodes());
+
+        // the replacement lands elsewhere
+        runAndLose(TestContainerRegistry.container(3, "node3"));
+        Assert.assertEquals(1, client.getReplacementCount());
+        Assert.assertEquals(0, client.getWarmReplacementCount());
+
+        // and its own replacement on the node it ran on
+        client.addAllocatedContainers(Arrays.asList(TestContainerRegistry.container(4, "node3")));
+        Assert.assertEquals(2, client.getReplacementCount());
+        Assert.assertEquals(1, client.getWarmReplacementCount());
+    }
+
+    @Test
+    public void testStickyRequestIsRelaxedToRack() {
+        client = newClient(0, 0);
+        client.setSupervisorCount(1);
+        client.startAllSupervisors();
+        runAndLose(TestContainerRegistry.container(2, "node2"));
+        client.reconcile();
+        List<ContainerRequest> pending = client.getPendingRequests(SupervisorProfile.DEFAULT);
+        Assert.assertEquals(1, pending.size());
+        Assert.assertNull(pending.get(0).getNodes());
+        Assert.assertEquals(1, pending.get(0).getRacks().size());
+    }
+
+    @Test
+    public void testStopReleasesEverything() {
+        client.setSupervisorCount(2);
+        client.startAllSupervisors();
+        client.addAllocatedContainers(containers(2, 1));
+        client.stopAllSupervisors();
+        Assert.assertEquals(0, client.getRegistry().live().size());
+        Assert.assertEquals(0, client.getPendingRequestCount(SupervisorProfile.DEFAULT));
+        Assert.assertEquals(2, client.getSupervisorCount(SupervisorProfile.DEFAULT));
+    }
+}
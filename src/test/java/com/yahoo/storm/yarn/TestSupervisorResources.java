@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.junit.Test;
+
+public class TestSupervisorResources {
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Map conf() {
+        Map storm_conf = new HashMap();
+        storm_conf.put(backtype.storm.Config.SUPERVISOR_SLOTS_PORTS, Arrays.asList(6700, 6701, 6702, 6703));
+        storm_conf.put(backtype.storm.Config.WORKER_CHILDOPTS, "-Xms256m -Xmx1g -XX:+UseG1GC");
+        storm_conf.put(Config.MASTER_SUPERVISOR_SIZE_MB, 0);
+        storm_conf.put(Config.MASTER_SUPERVISOR_VCORES, 0);
+        storm_conf.put(Config.MASTER_SUPERVISOR_OVERHEAD_MB, 512);
+        return storm_conf;
+    }
+
+    @Test
+    public void testHeapParsing() {
+        Assert.assertEquals(768, SupervisorResources.heapMb("-Xmx768m"));
+        Assert.assertEquals(2048, SupervisorResources.heapMb("-Xmx512m -Xmx2G"));
+        Assert.assertEquals(1, SupervisorResources.heapMb("-Xmx1048576"));
+        Assert.assertEquals(-1, SupervisorResources.heapMb("-Xms1g"));
+        Assert.assertEquals(-1, SupervisorResources.heapMb(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testComputedFromSlots() {
+        Resource r = SupervisorResources.compute(conf(), null);
+        Assert.assertEquals(4 * 1024 + 512, r.getMemory());
+        Assert.assertEquals(4, r.getVirtualCores());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testOverridesAndCap() {
+        Map storm_conf = conf();
+        storm_conf.put(Config.MASTER_SUPERVISOR_SIZE_MB, 3000);
+        storm_conf.put(Config.MASTER_SUPERVISOR_VCORES, 16);
+        Resource r = SupervisorResources.compute(storm_conf, Resource.newInstance(8192, 8));
+        Assert.assertEquals(3000, r.getMemory());
+        Assert.assertEquals(8, r.getVirtualCores());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testProfilesOverrideShape() {
+        Map storm_conf = conf();
+        storm_conf.put(Config.MASTER_CONTAINER_PRIORITY, 0);
+        Map large = new HashMap();
+        large.put(Config.MASTER_CONTAINER_PRIORITY, 1);
+        large.put(backtype.storm.Config.SUPERVISOR_SLOTS_PORTS, Arrays.asList(6700, 6701, 6702, 6703, 6704, 6705, 6706, 6707));
+        large.put(backtype.storm.Config.WORKER_CHILDOPTS, "-Xmx2g");
+        Map profiles = new HashMap();
+        profiles.put("large-8slot-highmem", large);
+        storm_conf.put(Config.MASTER_SUPERVISOR_PROFILES, profiles);
+
+        Map<String, SupervisorProfile> byName = SupervisorProfile.fromConf(storm_conf);
+        Assert.assertEquals(2, byName.size());
+        SupervisorProfile profile = byName.get("large-8slot-highmem");
+        Assert.assertEquals(1, profile.getPriority().getPriority());
+        Resource r = profile.getCapability(storm_conf, null);
+        Assert.assertEquals(8 * 2048 + 512, r.getMemory());
+        Assert.assertEquals(8, r.getVirtualCores());
+        Assert.assertEquals(4 * 1024 + 512,
+                byName.get(SupervisorProfile.DEFAULT).getCapability(storm_conf, null).getMemory());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test(expected = IllegalArgumentException.class)
+    public void testProfilesNeedDistinctPriorities() {
+        Map storm_conf = conf();
+        storm_conf.put(Config.MASTER_CONTAINER_PRIORITY, 0);
+        Map small = new HashMap();
+        small.put(Config.MASTER_CONTAINER_PRIORITY, 0);
+        Map profiles = new HashMap();
+        profiles.put("small-2slot", small);
+        storm_conf.put(Config.MASTER_SUPERVISOR_PROFILES, profiles);
+        SupervisorProfile.fromConf(storm_conf);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+package com.yahoo.storm.yarn;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestTokenBucket {
+
+    @Test
+    public void testBurstIsBounded() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(5, 3);
+        long start = System.nanoTime();
+        bucket.acquire();
+        bucket.acquire();
+        bucket.acquire();
+        long burstMs = (System.nanoTime() - start) / 1000000;
+        Assert.assertTrue("burst took " + burstMs + " ms", burstMs < 100);
+        bucket.acquire();
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        Assert.assertTrue("elapsed " + elapsedMs + " ms", elapsedMs >= 150);
+    }
+
+    @Test
+    public void testAcquireWaitsForRefill() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(20, 1);
+        bucket.acquire();
+        long start = System.nanoTime();
+        bucket.acquire();
+        bucket.acquire();
+        long elapsedMs = (System.nanoTime() - start) / 1000000;
+        Assert.assertTrue("elapsed " + elapsedMs + " ms", elapsedMs >= 90);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.Assert;
+
+import org.junit.Test;
+
+public class TestYarnClassPath {
+
+    private static Callable<String> resolver(final AtomicInteger calls, final String classPath) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                calls.incrementAndGet();
+                return classPath;
+            }
+        };
+    }
+
+    @Test
+    public void testCachedUntilKeyChanges() throws Exception {
+        File cacheFile = File.createTempFile("yarn-classpath", ".properties");
+        cacheFile.delete();
+        cacheFile.deleteOnExit();
+        AtomicInteger calls = new AtomicInteger();
+
+        Assert.assertEquals("/a/*", new YarnClassPath(cacheFile, "k1").get(resolver(calls, "/a/*")));
+        Assert.assertEquals("/a/*", new YarnClassPath(cacheFile, "k1").get(resolver(calls, "/b/*")));
+        Assert.assertEquals(1, calls.get());
+
+        Assert.assertEquals("/b/*", new YarnClassPath(cacheFile, "k2").get(resolver(calls, "/b/*")));
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testConfiguredClassPathWins() throws Exception {
+        Assert.assertEquals("/configured/*", YarnClassPath.resolve("/configured/*"));
+    }
+}
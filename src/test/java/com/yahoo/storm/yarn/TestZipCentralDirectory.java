@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2013 Yahoo! Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License. See accompanying LICENSE file.
+ */
+
+
+package com.yahoo.storm.yarn;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import junit.framework.Assert;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.junit.Test;
+
+public class TestZipCentralDirectory {
+
+    private static File createZip(String comment, String... names) throws IOException {
+        File zip = File.createTempFile("storm", ".zip");
+        zip.deleteOnExit();
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(zip));
+        for (String name : names) {
+            out.putNextEntry(new ZipEntry(name));
+            if (!name.endsWith("/")) {
+                out.write(new byte[1024]);
+            }
+            out.closeEntry();
+        }
+        if (comment != null) {
+            out.setComment(comment);
+        }
+        out.close();
+        return zip;
+    }
+
+    @Test
+    public void testReadsEntryNames() throws Exception {
+        File zip = createZip("a comment", "storm-0.9.0/", "storm-0.9.0/lib/", "storm-0.9.0/lib/storm.jar");
+        FileSystem fs = FileSystem.getLocal(new YarnConfiguration());
+        FSDataInputStream in = fs.open(new Path(zip.getAbsolutePath()));
+        try {
+            Assert.assertEquals(Arrays.asList("storm-0.9.0/", "storm-0.9.0/lib/", "storm-0.9.0/lib/storm.jar"),
+                    ZipCentralDirectory.readEntryNames(in, zip.length()));
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void testFindsStormHome() throws Exception {
+        File zip = createZip(null, "README", "storm-0.9.0/", "storm-0.9.0/bin/storm");
+        FileSystem fs = FileSystem.getLocal(new YarnConfiguration());
+        Path path = new Path(zip.getAbsolutePath());
+        Assert.assertEquals("storm-0.9.0", Util.getStormHomeInZip(fs, path, "0.9.0"));
+        // cached by path, length and modification time
+        Assert.assertEquals("storm-0.9.0", Util.getStormHomeInZip(fs, path, "0.9.0"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsNonZip() throws Exception {
+        File file = File.createTempFile("storm", ".zip");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[100]);
+        out.close();
+        FileSystem fs = FileSystem.getLocal(new YarnConfiguration());
+        FSDataInputStream in = fs.open(new Path(file.getAbsolutePath()));
+        try {
+            ZipCentralDirectory.readEntryNames(in, file.length());
+        } finally {
+            in.close();
+        }
+    }
+}